@@ -21,10 +21,8 @@ import seedu.canoe.model.ModelManager;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
 import seedu.canoe.model.ReadOnlyUserPrefs;
 import seedu.canoe.model.UserPrefs;
-import seedu.canoe.model.student.Id;
 import seedu.canoe.model.util.SampleDataUtil;
 import seedu.canoe.storage.CanoeCoachStorage;
-import seedu.canoe.storage.JsonCanoeCoachStorage;
 import seedu.canoe.storage.JsonUserPrefsStorage;
 import seedu.canoe.storage.Storage;
 import seedu.canoe.storage.StorageManager;
@@ -58,7 +56,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        CanoeCoachStorage canoeCoachStorage = new JsonCanoeCoachStorage(userPrefs.getCanoeCoachFilePath());
+        CanoeCoachStorage canoeCoachStorage = StorageManager.createCanoeCoachStorage(userPrefs);
         storage = new StorageManager(canoeCoachStorage, userPrefsStorage);
 
         initLogging(config);
@@ -84,17 +82,14 @@ public class MainApp extends Application {
             canoeCoachOptional = storage.readCanoeCoach();
             if (!canoeCoachOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample CanoeCoach");
-                Id.resetId();
             }
             initialData = canoeCoachOptional.orElseGet(SampleDataUtil::getCanoeCoachBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty CanoeCoach");
             initialData = new CanoeCoach();
-            Id.resetId();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty CanoeCoach");
             initialData = new CanoeCoach();
-            Id.resetId();
         }
 
         return new ModelManager(initialData, userPrefs);
@@ -186,5 +181,18 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            // the changes of the failed save are not saved again by a later one, so the book is saved in full
+            logger.warning("Failed to save data, saving it again " + StringUtil.getDetails(e));
+            try {
+                storage.saveCanoeCoach(model.getCanoeCoach());
+                storage.flush();
+            } catch (IOException ioe) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(ioe));
+            }
+        }
+        storage.close();
     }
 }
@@ -1,10 +1,17 @@
 package seedu.canoe.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +87,44 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing the file only once the string has been written in full,
+     * so that the file holds either its old or its new content if the write is interrupted.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but the content is written by {@code writer}
+     * straight into a buffered stream over the file, so that it never has to be held in memory in full.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes content into a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content into {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.canoe.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +45,28 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values into a generator without flushing it after each of them. */
+    private static ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile, out -> {
+            JsonGenerator generator = createGenerator(out, isCompact);
+            writeValue(generator, objectToSerialize);
+            generator.flush();
+        });
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -84,10 +105,53 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact whether to write the Json object on a single line rather than pretty-printed
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code in} token by token.
+     * Values can be read from it one at a time with {@link #readValue(JsonParser, Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON data into {@code out} token by token.
+     * Values can be written into it one at a time with {@link #writeValue(JsonGenerator, Object)}.
+     * The generator has to be flushed once done, and does not close {@code out}.
+     * @param isCompact whether to write the data on a single line rather than pretty-printed
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isCompact) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Reads the value that {@code parser} is at as an instance of {@code instanceClass}, leaving the parser at the
+     * last token of the value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Writes {@code instance} into {@code generator} as a JSON value.
+     */
+    public static <T> void writeValue(JsonGenerator generator, T instance) throws IOException {
+        valueWriter.writeValue(generator, instance);
     }
 
 
@@ -110,6 +174,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
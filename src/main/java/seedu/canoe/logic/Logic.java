@@ -1,6 +1,8 @@
 package seedu.canoe.logic;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.canoe.commons.core.GuiSettings;
@@ -8,6 +10,7 @@ import seedu.canoe.logic.commands.CommandResult;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.logic.parser.exceptions.ParseException;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -37,11 +40,25 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of trainings */
     ObservableList<Training> getFilteredTrainingList();
 
+    /**
+     * Returns the student with the given {@code id}, regardless of the current student filter.
+     *
+     * @see seedu.canoe.model.Model#getStudentById(Id)
+     */
+    Optional<Student> getStudentById(Id id);
+
     /**
      * Returns the user prefs' canoe book file path.
      */
     Path getCanoeCoachFilePath();
 
+    /**
+     * Returns how long the oldest change that is not saved to the canoe book file yet has been waiting.
+     *
+     * @see seedu.canoe.storage.CanoeCoachStorage#getSaveLag()
+     */
+    Duration getSaveLag();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -2,6 +2,8 @@ package seedu.canoe.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,8 +14,12 @@ import seedu.canoe.logic.commands.CommandResult;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.logic.parser.CanoeCoachParser;
 import seedu.canoe.logic.parser.exceptions.ParseException;
+import seedu.canoe.model.CanoeCoachFileFormat;
 import seedu.canoe.model.Model;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.ReadOnlyUserPrefs;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 import seedu.canoe.storage.Storage;
@@ -28,6 +34,11 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final CanoeCoachParser canoeCoachParser;
+    /** Modification count of the canoe coach book when it was last saved. */
+    private long savedModificationCount;
+    /** Data file, and its format, that the canoe coach book was last saved to. */
+    private Path savedFilePath;
+    private CanoeCoachFileFormat savedFileFormat;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,6 +46,9 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        savedModificationCount = model.getCanoeCoach().getModificationCount();
+        savedFilePath = model.getCanoeCoachFilePath();
+        savedFileFormat = model.getUserPrefs().getCanoeCoachFileFormat();
         canoeCoachParser = new CanoeCoachParser();
     }
 
@@ -46,11 +60,41 @@ public class LogicManager implements Logic {
         Command command = canoeCoachParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // Changes made on a fork are only saved once they are committed.
+        if (model.isForked()) {
+            return commandResult;
+        }
+
+        // Commands that change the data file, such as convert, save the whole book to the new one.
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        boolean isMoved = !userPrefs.getCanoeCoachFilePath().equals(savedFilePath)
+                || userPrefs.getCanoeCoachFileFormat() != savedFileFormat;
+
+        // Commands that change nothing, such as finds and lists, leave nothing to save.
+        long modificationCount = model.getCanoeCoach().getModificationCount();
+        if (modificationCount == savedModificationCount && !isMoved) {
+            return commandResult;
+        }
+
         try {
-            storage.saveCanoeCoach(model.getCanoeCoach());
+            if (isMoved) {
+                storage.moveCanoeCoach(model.getCanoeCoach(), userPrefs);
+            } else {
+                storage.saveCanoeCoach(model.getCanoeCoach());
+            }
         } catch (IOException ioe) {
+            if (isMoved) {
+                // stays with the data file saved to before, so that it is not left pointing to an unwritten one
+                UserPrefs unmovedUserPrefs = new UserPrefs(userPrefs);
+                unmovedUserPrefs.setCanoeCoachFilePath(savedFilePath);
+                unmovedUserPrefs.setCanoeCoachFileFormat(savedFileFormat);
+                model.setUserPrefs(unmovedUserPrefs);
+            }
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedModificationCount = modificationCount;
+        savedFilePath = userPrefs.getCanoeCoachFilePath();
+        savedFileFormat = userPrefs.getCanoeCoachFileFormat();
 
         return commandResult;
     }
@@ -70,11 +114,21 @@ public class LogicManager implements Logic {
         return model.getFilteredTrainingList();
     }
 
+    @Override
+    public Optional<Student> getStudentById(Id id) {
+        return model.getStudentById(id);
+    }
+
     @Override
     public Path getCanoeCoachFilePath() {
         return model.getCanoeCoachFilePath();
     }
 
+    @Override
+    public Duration getSaveLag() {
+        return storage.getSaveLag();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
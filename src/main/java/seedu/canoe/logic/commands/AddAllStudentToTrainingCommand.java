@@ -2,11 +2,11 @@ package seedu.canoe.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.canoe.commons.core.LogsCenter;
 import seedu.canoe.commons.core.Messages;
@@ -14,6 +14,7 @@ import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.Model;
 import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -67,23 +68,27 @@ public class AddAllStudentToTrainingCommand extends Command {
             throw new CommandException(MESSAGE_TRAINING_CANNOT_ADD);
         }
 
-        // Adding students to the training
-        Training editedTraining = training.cloneTraining();
-        List<Student> addedStudents = new ArrayList<>();
-
-        studentList.stream()
-                .filter(student -> isAbleToAddStudent(student, training))
-                .forEach(student -> {
-                    addStudentToTraining(editedTraining, student, model);
-                    addedStudents.add(student);
-                });
+        // Looks up the students free for the training once in the dismissal index, instead of comparing the
+        // dismissal time of every displayed student.
+        Set<Id> freeStudentIds = model.getStudentsFreeAt(training.getDateTime()).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        List<Student> addedStudents = studentList.stream()
+                .filter(student -> freeStudentIds.contains(student.getId()))
+                .filter(student -> isNotScheduled(student, training))
+                .collect(Collectors.toList());
 
         Optional<String> addedStudentsMessage = CommandUtil.getStudentsMessage(addedStudents);
         if (addedStudentsMessage.isEmpty()) {
             throw new CommandException(MESSAGE_NO_STUDENTS);
         }
 
-        model.setTraining(training, editedTraining);
+        // Adding students to the training
+        Training editedTraining = training.cloneTraining();
+        model.batch(batch -> {
+            addedStudents.forEach(student -> addStudentToTraining(editedTraining, student, batch));
+            batch.setTraining(training, editedTraining);
+        });
         return new CommandResult(String.format(MESSAGE_ADD_STUDENT_SUCCESS,
                 addedStudentsMessage.get()));
     }
@@ -95,22 +100,17 @@ public class AddAllStudentToTrainingCommand extends Command {
                 && index.equals(((AddAllStudentToTrainingCommand) other).index)); // state check
     }
 
-    /**
-     * Checks if the {@code Training} is able to add the {@code Student}
-     */
-    public static boolean isAbleToAddStudent(Student student, Training training) {
-        LocalDateTime trainingDateTime = training.getDateTime();
-        return student.isAvailableAtDateTime(trainingDateTime)
-                && !student.hasAttendanceAtDateTime(trainingDateTime)
-                && !training.hasStudent(student);
+    private static boolean isNotScheduled(Student student, Training training) {
+        return !student.hasAttendanceAtDateTime(training.getDateTime())
+                && !training.hasStudent(student.getId());
     }
 
     private void addStudentToTraining(Training training, Student student, Model model) {
         assert training != null && student != null && model != null;
 
-        training.addStudent(student);
+        training.addStudent(student.getId());
         Student editedStudent = student.cloneStudent();
         editedStudent.addAttendance(new Attendance(training.getDateTime()));
-        model.setStudentInUniqueStudentList(student, editedStudent);
+        model.replaceStudentById(student.getId(), editedStudent);
     }
 }
@@ -72,7 +72,7 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        Student validToAdd = toAdd.createStudentWithValidId();
+        Student validToAdd = toAdd.createStudentWithValidId(model::allocateId);
         model.addStudent(validToAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, validToAdd));
     }
@@ -99,7 +99,7 @@ public class AddStudentToTrainingCommand extends Command {
             throw new CommandException(MESSAGE_TRAINING_CANNOT_ADD);
         }
 
-        Training editedTraining = new Training(trainingToEdit.getDateTime(), trainingToEdit.getStudents());
+        Training editedTraining = trainingToEdit.cloneTraining();
 
         //Student ID Checks - not invalid index, numbered index and exists in student list and not duplicated
         List<Student> targetStudentList = new ArrayList<>();
@@ -123,17 +123,18 @@ public class AddStudentToTrainingCommand extends Command {
             Add students that have passed all checks to the corresponding lists first without
             modifying the model.
              */
-            editedTraining.addStudent(editedStudent);
+            editedTraining.addStudent(editedStudent.getId());
             targetStudentList.add(studentToEdit);
             editedStudentList.add(editedStudent);
         }
 
         //All checked passed at this point, iterate through student lists to update the model.
-        for (int i = 0; i < targetStudentList.size(); i++) {
-            model.setStudentInUniqueStudentList(targetStudentList.get(i), editedStudentList.get(i));
-        }
-
-        model.setTraining(trainingToEdit, editedTraining);
+        model.batch(batch -> {
+            for (int i = 0; i < targetStudentList.size(); i++) {
+                batch.replaceStudentById(targetStudentList.get(i).getId(), editedStudentList.get(i));
+            }
+            batch.setTraining(trainingToEdit, editedTraining);
+        });
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
 
@@ -155,10 +156,8 @@ public class AddStudentToTrainingCommand extends Command {
      * @throws CommandException
      */
     public boolean uniqueChecker(Training trainingToCheck, Student check) throws CommandException {
-        for (Student student : trainingToCheck.getStudents()) {
-            if (student.getId().equals(check.getId())) {
-                throw new CommandException(MESSAGE_DUPLICATE_STUDENTS_IN_TRAINING);
-            }
+        if (trainingToCheck.hasStudent(check.getId())) {
+            throw new CommandException(MESSAGE_DUPLICATE_STUDENTS_IN_TRAINING);
         }
         return true;
     }
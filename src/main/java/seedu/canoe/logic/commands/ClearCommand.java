@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.Model;
-import seedu.canoe.model.student.Id;
 
 /**
  * Clears the canoe coach book.
@@ -19,7 +18,6 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setCanoeCoach(new CanoeCoach());
-        Id.resetId();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
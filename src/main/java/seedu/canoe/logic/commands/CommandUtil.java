@@ -20,19 +20,15 @@ public class CommandUtil {
 
     /**
      * Gets the Student from the Model using the input Student Id.
+     * The lookup does not depend on the current student filter.
      * @throws CommandException if the Student does not exist.
      */
     public static Student getStudentFromId(Model model, String id) throws CommandException {
         requireNonNull(model);
         requireNonNull(id);
 
-        for (Student student : model.getFilteredStudentList()) {
-            if (student.getId().getValue().equals(id)) {
-                return student;
-            }
-        }
-
-        throw new CommandException(MESSAGE_STUDENT_DOES_NOT_EXIST);
+        return model.getStudentById(new Id(id))
+                .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_DOES_NOT_EXIST));
     }
 
     /**
@@ -0,0 +1,27 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.Model;
+
+/**
+ * Keeps the changes made on the fork of the canoe coach book, and ends the fork.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+    public static final String MESSAGE_SUCCESS = "Committed the changes made on the fork.";
+    public static final String MESSAGE_NOT_FORKED = "There is no fork to commit!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isForked()) {
+            throw new CommandException(MESSAGE_NOT_FORKED);
+        }
+
+        model.commitFork();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
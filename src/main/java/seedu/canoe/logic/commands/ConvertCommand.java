@@ -0,0 +1,66 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.CanoeCoachFileFormat;
+import seedu.canoe.model.Model;
+import seedu.canoe.model.UserPrefs;
+
+/**
+ * Converts the data file of the canoe coach book to another format, which the book is saved in from then on.
+ * The data file in the old format is kept as it is.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Converts the data file to the given format, which the canoe coach book is saved in from then on.\n"
+            + "The data file in the old format is kept as it is.\n"
+            + "Parameters: FORMAT (json or binary)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Converted the data file to %1$s, and saved it to %2$s";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "The data file is already in %1$s!";
+    public static final String MESSAGE_FORKED = "There is a fork! Commit or discard it before converting.";
+
+    private final CanoeCoachFileFormat format;
+
+    /**
+     * Creates a ConvertCommand to convert the data file to {@code format}.
+     */
+    public ConvertCommand(CanoeCoachFileFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // changes on a fork are not saved until committed, so the converted file would not hold them
+        if (model.isForked()) {
+            throw new CommandException(MESSAGE_FORKED);
+        }
+        if (model.getUserPrefs().getCanoeCoachFileFormat() == format) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, format));
+        }
+
+        // the file is written by the storage, once it sees that the data file in the preferences changed
+        Path filePath = format.toFilePath(model.getCanoeCoachFilePath());
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setCanoeCoachFilePath(filePath);
+        userPrefs.setCanoeCoachFileFormat(format);
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                && format == ((ConvertCommand) other).format);
+    }
+}
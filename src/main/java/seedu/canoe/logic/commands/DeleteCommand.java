@@ -1,9 +1,7 @@
 package seedu.canoe.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_TRAININGS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -12,10 +10,8 @@ import seedu.canoe.commons.core.Messages;
 import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.Model;
-import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
-import seedu.canoe.model.util.StudentTrainingSessionUtil;
 
 /**
  * Deletes a student identified using it's displayed index from the canoe book.
@@ -51,17 +47,15 @@ public class DeleteCommand extends Command {
         }
 
         Student studentToDelete = lastShownList.get(targetIndex.getZeroBased());
-        List<Attendance> trainingAttendances = new ArrayList<>(studentToDelete.getTrainingAttendances());
-        List<Training> studentTrainings = StudentTrainingSessionUtil
-                .getTrainingListFromTrainingAttendances(trainingAttendances, model);
-        for (Training training: studentTrainings) {
-            Training editedTraining = new Training(training.getDateTime(), training.getStudents());
-            editedTraining.removeStudent(studentToDelete);
-            model.setTraining(training, editedTraining);
-        }
+        model.batch(batch -> {
+            for (Training training: batch.getTrainingsOfStudent(studentToDelete.getId())) {
+                Training editedTraining = training.cloneTraining();
+                editedTraining.removeStudent(studentToDelete.getId());
+                batch.setTraining(training, editedTraining);
+            }
 
-        model.deleteStudent(studentToDelete);
-        model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
+            batch.deleteStudent(studentToDelete);
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete));
     }
 
@@ -86,19 +86,21 @@ public class DeleteStudentFromTrainingCommand extends Command {
             }
 
             // Edits training and adds valid students to corresponding student lists
-            editedTraining.removeStudent(editedStudent);
+            editedTraining.removeStudent(editedStudent.getId());
             editedStudent.removeAttendance(new Attendance(editedTraining.getDateTime()));
             targetStudentList.add(studentToEdit);
             editedStudentList.add(editedStudent);
         }
 
-        // Updates the model's student list
-        for (int i = 0; i < targetStudentList.size(); i++) {
-            model.setStudentInUniqueStudentList(targetStudentList.get(i), editedStudentList.get(i));
-        }
+        model.batch(batch -> {
+            // Updates the model's student list
+            for (int i = 0; i < targetStudentList.size(); i++) {
+                batch.replaceStudentById(targetStudentList.get(i).getId(), editedStudentList.get(i));
+            }
 
-        // Updates the model's training list
-        model.setTraining(trainingToEdit, editedTraining);
+            // Updates the model's training list
+            batch.setTraining(trainingToEdit, editedTraining);
+        });
         model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         Optional<String> result = CommandUtil.getStudentsMessage(editedStudentList);
@@ -113,8 +115,7 @@ public class DeleteStudentFromTrainingCommand extends Command {
      * Checks that the Training Specified contains the Student to be removed.
      */
     public boolean hasStudentInTraining(Training trainingToCheck, Student check) {
-        return trainingToCheck.getStudents().stream()
-                .anyMatch(student -> student.getId().equals(check.getId()));
+        return trainingToCheck.hasStudent(check.getId());
     }
 
     private static Student createEditedStudent(Student studentToEdit, Training editedTraining) {
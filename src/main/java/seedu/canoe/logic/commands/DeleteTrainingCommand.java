@@ -1,17 +1,14 @@
 package seedu.canoe.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import java.util.List;
-import java.util.Optional;
 
 import seedu.canoe.commons.core.Messages;
 import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.Model;
 import seedu.canoe.model.student.Attendance;
-import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -40,8 +37,6 @@ public class DeleteTrainingCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-
         List<Training> lastShownList = model.getFilteredTrainingList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -50,22 +45,18 @@ public class DeleteTrainingCommand extends Command {
 
         Training trainingToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        // Deletes the training's date time from the students involved in that training
-        List<Student> studentList = model.getFilteredStudentList();
-        trainingToDelete.getStudents()
-                .stream()
-                .map(Student::getId)
-                .forEach(id -> {
-                    Student studentToEdit = getStudentById(studentList, id);
-                    Student editedStudent = createEditedStudent(studentToEdit, trainingToDelete);
-                    model.setStudentInUniqueStudentList(studentToEdit, editedStudent);
-                });
-
-        trainingToDelete.clearStudents();
+        model.batch(batch -> {
+            // Deletes the training's date time from the students involved in that training
+            List<Student> studentsToEdit = batch.findStudents(trainingToDelete.getStudentIds());
+            assert studentsToEdit.size() == trainingToDelete.getStudentIds().size();
+            for (Student studentToEdit : studentsToEdit) {
+                Student editedStudent = createEditedStudent(studentToEdit, trainingToDelete);
+                batch.replaceStudentById(studentToEdit.getId(), editedStudent);
+            }
 
-        // Updating the model
-        model.deleteTraining(trainingToDelete);
-        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+            // Updating the model
+            batch.deleteTraining(trainingToDelete);
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, trainingToDelete));
     }
@@ -77,16 +68,6 @@ public class DeleteTrainingCommand extends Command {
         return newStudent;
     }
 
-    private Student getStudentById(List<Student> studentsList, Id id) {
-        Optional<Student> filteredStudent = studentsList.stream()
-                .filter(student -> student.getId().equals(id))
-                .findFirst();
-
-        assert filteredStudent.isPresent();
-
-        return filteredStudent.get();
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,31 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_TRAININGS;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.Model;
+
+/**
+ * Throws away the changes made on the fork of the canoe coach book, and ends the fork.
+ */
+public class DiscardCommand extends Command {
+
+    public static final String COMMAND_WORD = "discard";
+    public static final String MESSAGE_SUCCESS = "Discarded the changes made on the fork.";
+    public static final String MESSAGE_NOT_FORKED = "There is no fork to discard!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isForked()) {
+            throw new CommandException(MESSAGE_NOT_FORKED);
+        }
+
+        model.discardFork();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -12,7 +12,6 @@ import static seedu.canoe.logic.parser.CliSyntax.PREFIX_THURSDAY_DISMISSAL;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_TUESDAY_DISMISSAL;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_WEDNESDAY_DISMISSAL;
 import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
-import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_TRAININGS;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -110,33 +109,25 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
+        List<Training> trainingsUnableToAttend = new ArrayList<>();
         if (!editedStudent.isAvailableForAllAttendances()) {
             List<Attendance> dateTimesUnableToAttendance = StudentTrainingSessionUtil
                     .getConflictsInStudentTrainingAttendances(editedStudent.getTrainingAttendances(), editedStudent);
-            List<Training> trainingsUnableToAttend = StudentTrainingSessionUtil
-                    .getTrainingListFromTrainingAttendances(dateTimesUnableToAttendance, model);
+            trainingsUnableToAttend.addAll(StudentTrainingSessionUtil
+                    .getTrainingListFromTrainingAttendances(dateTimesUnableToAttendance, model));
+        }
 
+        model.batch(batch -> {
             for (Training training: trainingsUnableToAttend) {
-                Training editedTraining = new Training(training.getDateTime(), training.getStudents());
-                editedTraining.removeStudent(studentToEdit);
+                Training editedTraining = training.cloneTraining();
+                editedTraining.removeStudent(studentToEdit.getId());
                 editedStudent.removeAttendance(new Attendance(training.getDateTime()));
-                model.setTraining(training, editedTraining);
+                batch.setTraining(training, editedTraining);
             }
-        }
-
-        List<Attendance> studentTrainingDateTimeList = new ArrayList<>(editedStudent.getTrainingAttendances());
-        List<Training> studentTrainingList = StudentTrainingSessionUtil
-                .getTrainingListFromTrainingAttendances(studentTrainingDateTimeList, model);
-
-        for (Training training: studentTrainingList) {
-            Training editedTraining = new Training(training.getDateTime(), training.getStudents());
-            editedTraining.removeStudent(studentToEdit);
-            editedTraining.addStudent(editedStudent);
-            model.setTraining(training, editedTraining);
-        }
 
-        model.setStudentInUniqueStudentList(studentToEdit, editedStudent);
-        model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
+            // Trainings refer to the student by Id, so the remaining trainings need no update.
+            batch.setStudentInUniqueStudentList(studentToEdit, editedStudent);
+        });
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         return new CommandResult(String.format(MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent));
     }
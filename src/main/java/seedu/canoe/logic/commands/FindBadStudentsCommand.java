@@ -1,8 +1,10 @@
 package seedu.canoe.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.canoe.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.canoe.logic.parser.CliSyntax.PREFIX_THRESHOLD;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -16,14 +18,53 @@ public class FindBadStudentsCommand extends Command {
 
     public static final String COMMAND_WORD = "find-bad-students";
 
+    /** Students who have missed more than this number of past sessions have a bad attendance record. */
+    public static final int DEFAULT_THRESHOLD = 3;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all students who have missed more than 3 training "
+            + ": Finds all students who have missed more than THRESHOLD training "
             + "sessions and displays them as a list.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [" + PREFIX_THRESHOLD + "THRESHOLD] [" + PREFIX_DAYS + "DAYS]\n"
+            + "THRESHOLD defaults to " + DEFAULT_THRESHOLD + ". "
+            + "If DAYS is given, only sessions in the last DAYS days are counted.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_THRESHOLD + "2 " + PREFIX_DAYS + "30";
+
+    public static final String MESSAGE_INVALID_THRESHOLD = "The threshold must be a non-negative integer!";
+    public static final String MESSAGE_INVALID_DAYS = "The number of days must be a positive integer!";
 
     private static final String NO_BAD_STUDENTS_MESSAGE = "No students with a bad attendance record were found!";
 
-    private ArrayList<Student> badStudents = new ArrayList<Student>();
+    /** Counts sessions from the whole attendance history. */
+    private static final int WHOLE_HISTORY = 0;
+
+    private final int threshold;
+    private final int windowDays;
+
+    /**
+     * Creates a FindBadStudentsCommand that finds students who have missed more than
+     * {@value #DEFAULT_THRESHOLD} past sessions.
+     */
+    public FindBadStudentsCommand() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a FindBadStudentsCommand that finds students who have missed more than {@code threshold}
+     * past sessions.
+     */
+    public FindBadStudentsCommand(int threshold) {
+        this(threshold, WHOLE_HISTORY);
+    }
+
+    /**
+     * Creates a FindBadStudentsCommand that finds students who have missed more than {@code threshold}
+     * sessions in the last {@code windowDays} days.
+     */
+    public FindBadStudentsCommand(int threshold, int windowDays) {
+        assert threshold >= 0 && windowDays >= 0;
+        this.threshold = threshold;
+        this.windowDays = windowDays;
+    }
 
     @Override
     public CommandResult execute(Model model) {
@@ -31,13 +72,10 @@ public class FindBadStudentsCommand extends Command {
         requireNonNull(model);
 
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
-        List<Student> studentList = model.getFilteredStudentList();
-
-        for (Student student : studentList) {
-            if (student.hasBadAttendanceRecord()) {
-                badStudents.add(student);
-            }
-        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Student> badStudents = windowDays == WHOLE_HISTORY
+                ? model.getStudentsAbsentMoreThan(threshold, now)
+                : model.getStudentsAbsentMoreThan(threshold, now.minusDays(windowDays), now);
 
         if (badStudents.isEmpty()) {
             LOGGER.info("No students with a bad attendance record were found!");
@@ -62,4 +100,12 @@ public class FindBadStudentsCommand extends Command {
         result = result.trim();
         return result;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindBadStudentsCommand // instanceof handles nulls
+                && threshold == ((FindBadStudentsCommand) other).threshold
+                && windowDays == ((FindBadStudentsCommand) other).windowDays); // state check
+    }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.canoe.commons.core.Messages;
 import seedu.canoe.model.Model;
+import seedu.canoe.model.QueryPlan;
 import seedu.canoe.model.student.AllMatchPredicateList;
 
 /**
@@ -14,23 +15,47 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String EXPLAIN_KEYWORD = "explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Start the parameters with " + EXPLAIN_KEYWORD + " to show how the students would be found instead.";
 
     public static final String MESSAGE_NO_QUERY = "At least one valid field is required to find a student.";
 
+    public static final String MESSAGE_INVALID_DISMISSAL_RANGE = "Dismissal time ranges should be in the "
+            + "HHmm-HHmm format, with the first time not after the second time.";
+
     private final AllMatchPredicateList predicates;
+    private final boolean isExplain;
 
+    /**
+     * Creates a FindCommand to list the students matching {@code predicates}.
+     */
     public FindCommand(AllMatchPredicateList predicates) {
+        this(predicates, false);
+    }
+
+    /**
+     * Creates a FindCommand for the students matching {@code predicates}, which only shows how the students
+     * would be found if {@code isExplain} is true.
+     */
+    public FindCommand(AllMatchPredicateList predicates, boolean isExplain) {
         this.predicates = predicates;
+        this.isExplain = isExplain;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicates);
+        QueryPlan plan = model.planStudentQuery(predicates);
+        if (isExplain) {
+            return new CommandResult(plan.explain());
+        }
+
+        model.updateFilteredStudentList(plan.execute());
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
@@ -39,6 +64,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicates.equals(((FindCommand) other).predicates)); // state check
+                && predicates.equals(((FindCommand) other).predicates) // state check
+                && isExplain == ((FindCommand) other).isExplain);
     }
 }
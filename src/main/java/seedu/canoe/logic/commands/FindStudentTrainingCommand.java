@@ -50,7 +50,7 @@ public class FindStudentTrainingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredStudentList(studentPredicates);
+        model.updateFilteredStudentList(model.planStudentQuery(studentPredicates).execute());
         model.updateFilteredTrainingList(trainingPredicates);
 
         if (model.getFilteredStudentList().size() < 1 && model.getFilteredTrainingList().size() < 1) {
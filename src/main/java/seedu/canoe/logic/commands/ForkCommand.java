@@ -0,0 +1,28 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.Model;
+
+/**
+ * Starts a fork of the canoe coach book, on which changes can be tried out before they are committed or discarded.
+ */
+public class ForkCommand extends Command {
+
+    public static final String COMMAND_WORD = "fork";
+    public static final String MESSAGE_SUCCESS = "Started a fork. Changes from now on are not saved until you "
+            + "commit them, and can be thrown away with discard.";
+    public static final String MESSAGE_ALREADY_FORKED = "There is already a fork! Commit or discard it first.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isForked()) {
+            throw new CommandException(MESSAGE_ALREADY_FORKED);
+        }
+
+        model.fork();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.canoe.commons.core.Messages;
+import seedu.canoe.model.Model;
+import seedu.canoe.model.student.Student;
+
+/**
+ * Lists all students in canoe book matching a query, which combines field clauses with AND, OR and NOT.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students matching the query, which "
+            + "combines field clauses with AND, OR, NOT and parentheses, and displays them as a list with index "
+            + "numbers.\n"
+            + "Clauses: n/WORD p/PHONE e/KEYWORD id/ID id/ID,ID... t/TAG ay/YEAR ay/YEAR..YEAR d1/HHmm d1/HHmm..HHmm "
+            + "d1<HHmm d1<=HHmm d1>HHmm d1>=HHmm (d1 to d5, or mon to fri)\n"
+            + "Example: " + COMMAND_WORD + " ay/2..4 AND NOT t/novice AND mon<1500";
+
+    public static final String MESSAGE_INVALID_RANGE = "Ranges should be in the FROM..TO format, with FROM not "
+            + "after TO.";
+
+    private final Predicate<Student> query;
+
+    /**
+     * Creates a QueryCommand to list the students matching {@code query}.
+     */
+    public QueryCommand(Predicate<Student> query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStudentList(model.evaluateStudentQuery(query));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)); // state check
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_TRAININGS;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.Model;
+
+/**
+ * Makes the latest change to the canoe coach book that was undone again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change to the canoe coach book.";
+    public static final String MESSAGE_FAILURE = "There is no undone change to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redo();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_TRAININGS;
+
+import seedu.canoe.logic.commands.exceptions.CommandException;
+import seedu.canoe.model.Model;
+
+/**
+ * Reverses the latest command that changed the canoe coach book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undid the latest change to the canoe coach book.";
+    public static final String MESSAGE_FAILURE = "There is no change to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undo();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTrainingList(PREDICATE_SHOW_ALL_TRAININGS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -15,8 +16,7 @@ import seedu.canoe.commons.core.LogsCenter;
 import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.Model;
-import seedu.canoe.model.student.AnyMatchPredicateList;
-import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -40,15 +40,15 @@ public class UnmarkAttendanceCommand extends Command {
         + "be marked yet!";
 
     private final Index trainingIndex;
-    private final AnyMatchPredicateList predicates;
+    private final Predicate<Student> predicates;
 
     /**
      * Constructs a new UnmarkAttendanceCommand object.
      *
      * @param trainingIndex index of training.
-     * @param predicates list of predicates.
+     * @param predicates predicate matching the students whose attendance is to be changed.
      */
-    public UnmarkAttendanceCommand(Index trainingIndex, AnyMatchPredicateList predicates) {
+    public UnmarkAttendanceCommand(Index trainingIndex, Predicate<Student> predicates) {
         this.trainingIndex = trainingIndex;
         this.predicates = predicates;
     }
@@ -79,22 +79,17 @@ public class UnmarkAttendanceCommand extends Command {
 
         List<Student> attendedStudents = model.getFilteredStudentList();
 
-        Attendance unmarkedAttendance = new Attendance(training.getDateTime());
-        Attendance markedAttendance = new Attendance(training.getDateTime());
-        markedAttendance.marks();
-
-        List<Student> studentsNoAttendance = studentsWithNoAttendance(unmarkedAttendance, attendedStudents);
-        if (!studentsNoAttendance.isEmpty()) {
+        List<Student> studentsNotInTraining = studentsNotInTraining(training, attendedStudents);
+        if (!studentsNotInTraining.isEmpty()) {
             LOGGER.warning("Some students do not contain training session");
             model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
             throw new CommandException(String.format(
-                    MESSAGE_INVALID_STUDENT_UNMARKED, CommandUtil.getStudentsMessage(studentsNoAttendance).get())
+                    MESSAGE_INVALID_STUDENT_UNMARKED, CommandUtil.getStudentsMessage(studentsNotInTraining).get())
             );
         }
 
-        for (Student student : attendedStudents) {
-            student.unmarkAttendance(markedAttendance, unmarkedAttendance);
-        }
+        List<Id> attendedStudentIds = attendedStudents.stream().map(Student::getId).collect(Collectors.toList());
+        model.setAttendanceMarked(training, attendedStudentIds, false);
         Optional<String> result = CommandUtil.getStudentsMessage(attendedStudents);
 
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
@@ -109,18 +104,16 @@ public class UnmarkAttendanceCommand extends Command {
     }
 
     /**
-     * Checks the list of students and returns a list of students who do not have the attendance.
+     * Checks the list of students and returns a list of students who are not in the training.
      *
-     * @param attendance to be checked for.
+     * @param training to be checked for.
      * @param studentsToCheck list of students to check.
      * @return list of students who do not have training session scheduled.
      */
-    public List<Student> studentsWithNoAttendance(Attendance attendance, List<Student> studentsToCheck) {
-        assert attendance != null;
-        List<Student> studentsNoAttendance = studentsToCheck.stream()
-                .filter(student -> !student.containsAttendance(attendance))
+    public List<Student> studentsNotInTraining(Training training, List<Student> studentsToCheck) {
+        assert training != null;
+        return studentsToCheck.stream()
+                .filter(student -> !training.hasStudent(student.getId()))
                 .collect(Collectors.toList());
-
-        return studentsNoAttendance;
     }
 }
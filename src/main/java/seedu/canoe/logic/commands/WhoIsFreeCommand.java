@@ -0,0 +1,61 @@
+package seedu.canoe.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.model.Model;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.Student;
+
+/**
+ * Lists all students in canoe book who are dismissed in time to attend a training at a given date and time.
+ */
+public class WhoIsFreeCommand extends Command {
+
+    public static final Logger LOGGER = LogsCenter.getLogger(WhoIsFreeCommand.class);
+
+    public static final String COMMAND_WORD = "who-is-free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students who are dismissed at or "
+            + "before the given date and time, and displays them as a list with index numbers.\n"
+            + "Parameters: DATETIME (must be in the yyyy-MM-dd HHmm format)\n"
+            + "Example: " + COMMAND_WORD + " 2021-08-25 1530";
+
+    public static final String MESSAGE_FREE_STUDENTS_LISTED = "%1$d students are free at %2$s!";
+
+    private final LocalDateTime dateTime;
+
+    /**
+     * Creates a WhoIsFreeCommand to list the students free at {@code dateTime}.
+     */
+    public WhoIsFreeCommand(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        this.dateTime = dateTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        LOGGER.info("=============================[ Executing WhoIsFreeCommand ]===========================");
+        requireNonNull(model);
+
+        Set<Id> freeStudentIds = model.getStudentsFreeAt(dateTime).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        model.updateFilteredStudentList(student -> freeStudentIds.contains(student.getId()));
+        return new CommandResult(String.format(MESSAGE_FREE_STUDENTS_LISTED, freeStudentIds.size(),
+                dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WhoIsFreeCommand // instanceof handles nulls
+                && dateTime.equals(((WhoIsFreeCommand) other).dateTime)); // state check
+    }
+}
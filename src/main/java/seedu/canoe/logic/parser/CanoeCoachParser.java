@@ -11,20 +11,28 @@ import seedu.canoe.logic.commands.AddCommand;
 import seedu.canoe.logic.commands.AddStudentToTrainingCommand;
 import seedu.canoe.logic.commands.ClearCommand;
 import seedu.canoe.logic.commands.Command;
+import seedu.canoe.logic.commands.CommitCommand;
 import seedu.canoe.logic.commands.CommonTimeCommand;
+import seedu.canoe.logic.commands.ConvertCommand;
 import seedu.canoe.logic.commands.DeleteCommand;
 import seedu.canoe.logic.commands.DeleteStudentFromTrainingCommand;
 import seedu.canoe.logic.commands.DeleteTrainingCommand;
+import seedu.canoe.logic.commands.DiscardCommand;
 import seedu.canoe.logic.commands.EditCommand;
 import seedu.canoe.logic.commands.ExitCommand;
 import seedu.canoe.logic.commands.FindBadStudentsCommand;
 import seedu.canoe.logic.commands.FindCommand;
 import seedu.canoe.logic.commands.FindStudentTrainingCommand;
+import seedu.canoe.logic.commands.ForkCommand;
 import seedu.canoe.logic.commands.HelpCommand;
 import seedu.canoe.logic.commands.ListCommand;
 import seedu.canoe.logic.commands.MarkAttendanceCommand;
+import seedu.canoe.logic.commands.QueryCommand;
+import seedu.canoe.logic.commands.RedoCommand;
 import seedu.canoe.logic.commands.TrainingCommand;
+import seedu.canoe.logic.commands.UndoCommand;
 import seedu.canoe.logic.commands.UnmarkAttendanceCommand;
+import seedu.canoe.logic.commands.WhoIsFreeCommand;
 import seedu.canoe.logic.parser.exceptions.ParseException;
 
 /**
@@ -106,7 +114,31 @@ public class CanoeCoachParser {
             return new AddAllStudentCommandParser().parse(arguments);
 
         case FindBadStudentsCommand.COMMAND_WORD:
-            return new FindBadStudentsCommand();
+            return new FindBadStudentsCommandParser().parse(arguments);
+
+        case WhoIsFreeCommand.COMMAND_WORD:
+            return new WhoIsFreeCommandParser().parse(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case ForkCommand.COMMAND_WORD:
+            return new ForkCommand();
+
+        case CommitCommand.COMMAND_WORD:
+            return new CommitCommand();
+
+        case DiscardCommand.COMMAND_WORD:
+            return new DiscardCommand();
+
+        case ConvertCommand.COMMAND_WORD:
+            return new ConvertCommandParser().parse(arguments);
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -18,5 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_ACADEMIC_YEAR = new Prefix("ay/");
     public static final Prefix PREFIX_ID = new Prefix("id/");
     public static final Prefix PREFIX_DATETIME = new Prefix("dt/");
+    public static final Prefix PREFIX_THRESHOLD = new Prefix("th/");
+    public static final Prefix PREFIX_DAYS = new Prefix("days/");
 
 }
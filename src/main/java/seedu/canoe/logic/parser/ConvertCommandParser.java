@@ -0,0 +1,28 @@
+package seedu.canoe.logic.parser;
+
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.canoe.logic.commands.ConvertCommand;
+import seedu.canoe.logic.parser.exceptions.ParseException;
+import seedu.canoe.model.CanoeCoachFileFormat;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        String format = args.trim();
+        for (CanoeCoachFileFormat candidate : CanoeCoachFileFormat.values()) {
+            if (candidate.toString().equalsIgnoreCase(format)) {
+                return new ConvertCommand(candidate);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.canoe.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.canoe.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.canoe.logic.parser.CliSyntax.PREFIX_THRESHOLD;
+
+import java.util.logging.Logger;
+
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.commons.util.StringUtil;
+import seedu.canoe.logic.commands.FindBadStudentsCommand;
+import seedu.canoe.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindBadStudentsCommand object
+ */
+public class FindBadStudentsCommandParser implements Parser<FindBadStudentsCommand> {
+
+    private static final Logger logger = LogsCenter.getLogger(FindBadStudentsCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindBadStudentsCommand
+     * and returns a FindBadStudentsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindBadStudentsCommand parse(String args) throws ParseException {
+        logger.info("=============================[ Parsing FindBadStudentsCommand ]===========================");
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_THRESHOLD, PREFIX_DAYS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindBadStudentsCommand.MESSAGE_USAGE));
+        }
+
+        int threshold = FindBadStudentsCommand.DEFAULT_THRESHOLD;
+        if (argMultimap.getValue(PREFIX_THRESHOLD).isPresent()) {
+            String thresholdValue = argMultimap.getValue(PREFIX_THRESHOLD).get().trim();
+            if (!thresholdValue.equals("0") && !StringUtil.isNonZeroUnsignedInteger(thresholdValue)) {
+                logger.warning("Threshold is not a non-negative integer!" + args);
+                throw new ParseException(FindBadStudentsCommand.MESSAGE_INVALID_THRESHOLD);
+            }
+            threshold = Integer.parseInt(thresholdValue);
+        }
+
+        if (argMultimap.getValue(PREFIX_DAYS).isPresent()) {
+            String daysValue = argMultimap.getValue(PREFIX_DAYS).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(daysValue)) {
+                logger.warning("Number of days is not a positive integer!" + args);
+                throw new ParseException(FindBadStudentsCommand.MESSAGE_INVALID_DAYS);
+            }
+            return new FindBadStudentsCommand(threshold, Integer.parseInt(daysValue));
+        }
+
+        return new FindBadStudentsCommand(threshold);
+    }
+}
@@ -12,9 +12,12 @@ import static seedu.canoe.logic.parser.CliSyntax.PREFIX_THURSDAY_DISMISSAL;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_TUESDAY_DISMISSAL;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_WEDNESDAY_DISMISSAL;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import seedu.canoe.logic.commands.FindCommand;
 import seedu.canoe.logic.parser.exceptions.ParseException;
@@ -26,7 +29,9 @@ import seedu.canoe.model.student.IdMatchesPredicate;
 import seedu.canoe.model.student.NameContainsKeywordsPredicate;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.Student;
 import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
 import seedu.canoe.model.student.time.FridayDismissalPredicate;
 import seedu.canoe.model.student.time.MondayDismissalPredicate;
 import seedu.canoe.model.student.time.ThursdayDismissalPredicate;
@@ -38,6 +43,8 @@ import seedu.canoe.model.student.time.WednesdayDismissalPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String DISMISSAL_RANGE_SEPARATOR = "-";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -90,7 +97,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String timeString = argMultimap.getValue(PREFIX_MONDAY_DISMISSAL).get();
             if (!timeString.isEmpty()) {
                 checkEmptyString = false;
-                predicates.add(new MondayDismissalPredicate(getTimeFromString(timeString)));
+                predicates.add(parseDismissalQuery(timeString, DayOfWeek.MONDAY, MondayDismissalPredicate::new));
             }
         }
 
@@ -98,7 +105,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String timeString = argMultimap.getValue(PREFIX_TUESDAY_DISMISSAL).get();
             if (!timeString.isEmpty()) {
                 checkEmptyString = false;
-                predicates.add(new TuesdayDismissalPredicate(getTimeFromString(timeString)));
+                predicates.add(parseDismissalQuery(timeString, DayOfWeek.TUESDAY, TuesdayDismissalPredicate::new));
             }
         }
 
@@ -106,7 +113,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String timeString = argMultimap.getValue(PREFIX_WEDNESDAY_DISMISSAL).get();
             if (!timeString.isEmpty()) {
                 checkEmptyString = false;
-                predicates.add(new WednesdayDismissalPredicate(getTimeFromString(timeString)));
+                predicates.add(parseDismissalQuery(timeString, DayOfWeek.WEDNESDAY, WednesdayDismissalPredicate::new));
             }
         }
 
@@ -114,7 +121,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String timeString = argMultimap.getValue(PREFIX_THURSDAY_DISMISSAL).get();
             if (!timeString.isEmpty()) {
                 checkEmptyString = false;
-                predicates.add(new ThursdayDismissalPredicate(getTimeFromString(timeString)));
+                predicates.add(parseDismissalQuery(timeString, DayOfWeek.THURSDAY, ThursdayDismissalPredicate::new));
             }
         }
 
@@ -122,7 +129,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             String timeString = argMultimap.getValue(PREFIX_FRIDAY_DISMISSAL).get();
             if (!timeString.isEmpty()) {
                 checkEmptyString = false;
-                predicates.add(new FridayDismissalPredicate(getTimeFromString(timeString)));
+                predicates.add(parseDismissalQuery(timeString, DayOfWeek.FRIDAY, FridayDismissalPredicate::new));
             }
         }
 
@@ -139,13 +146,36 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(FindCommand.MESSAGE_NO_QUERY);
         }
 
-        return new FindCommand(predicates);
+        boolean isExplain = argMultimap.getPreamble().equalsIgnoreCase(FindCommand.EXPLAIN_KEYWORD);
+        return new FindCommand(predicates, isExplain);
     }
 
     private List<String> getKeywordsFromString(String str) {
         return Arrays.asList(str.split(" "));
     }
 
+    /**
+     * Parses a dismissal time query on {@code day}, either a single time matched by {@code toPredicate},
+     * or a range of times in the HHmm-HHmm format.
+     */
+    private Predicate<Student> parseDismissalQuery(String timeString, DayOfWeek day,
+            Function<LocalTime, Predicate<Student>> toPredicate) throws ParseException {
+        if (!timeString.contains(DISMISSAL_RANGE_SEPARATOR)) {
+            return toPredicate.apply(getTimeFromString(timeString));
+        }
+
+        String[] bounds = timeString.split(DISMISSAL_RANGE_SEPARATOR, -1);
+        if (bounds.length != 2) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_DISMISSAL_RANGE);
+        }
+        LocalTime from = getTimeFromString(bounds[0]);
+        LocalTime to = getTimeFromString(bounds[1]);
+        if (from.isAfter(to)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_DISMISSAL_RANGE);
+        }
+        return new DismissalRangePredicate(day, from, to);
+    }
+
     private LocalTime getTimeFromString(String str) throws ParseException {
         Day day = ParserUtil.parseDismissal(Day.DayOfWeek.MONDAY, str);
         return day.dismissalTime;
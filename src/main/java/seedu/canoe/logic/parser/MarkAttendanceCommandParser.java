@@ -4,15 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_ID;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.canoe.commons.core.LogsCenter;
 import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.MarkAttendanceCommand;
 import seedu.canoe.logic.parser.exceptions.ParseException;
-import seedu.canoe.model.student.AnyMatchPredicateList;
 import seedu.canoe.model.student.Id;
-import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.IdSetPredicate;
 
 public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand> {
 
@@ -40,7 +41,7 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
                     MarkAttendanceCommand.MESSAGE_USAGE), pe);
         }
 
-        AnyMatchPredicateList predicates = new AnyMatchPredicateList();
+        List<Id> studentIdList = new ArrayList<>();
         if (argMultimap.getValue(PREFIX_ID).isPresent()) {
             String ids = argMultimap.getValue(PREFIX_ID).get();
             if (ids.equals("")) {
@@ -55,16 +56,16 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
                     if (!Id.isValidId(id)) {
                         throw new ParseException(Id.MESSAGE_CONSTRAINTS);
                     }
-                    predicates.add(new IdMatchesPredicate(id));
+                    studentIdList.add(new Id(id));
                 }
             }
         }
 
-        if (predicates.isEmpty() || isEmptyString) {
+        if (studentIdList.isEmpty() || isEmptyString) {
             LOGGER.warning("No prefixes found in the command input!" + args);
             throw new ParseException(MarkAttendanceCommand.MESSAGE_NO_STUDENTS_SPECIFIED);
         }
 
-        return new MarkAttendanceCommand(trainingIndex, predicates);
+        return new MarkAttendanceCommand(trainingIndex, new IdSetPredicate(studentIdList));
     }
 }
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.commons.util.StringUtil;
@@ -19,6 +20,7 @@ import seedu.canoe.logic.parser.exceptions.ParseException;
 import seedu.canoe.model.student.AcademicYear;
 import seedu.canoe.model.student.Email;
 import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdSetPredicate;
 import seedu.canoe.model.student.Name;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.time.Day;
@@ -148,12 +150,22 @@ public class ParserUtil {
      */
     public static Training parseTraining(String training) throws ParseException {
         requireNonNull(training);
-        String trimmedTraining = training.trim();
+        return new Training(parseDateTime(training));
+    }
+
+    /**
+     * Parses a {@code String dateTime} in the yyyy-MM-dd HHmm format into a {@code LocalDateTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dateTime} is invalid.
+     */
+    public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
+        requireNonNull(dateTime);
+        String trimmedDateTime = dateTime.trim();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm")
                 .withResolverStyle(ResolverStyle.STRICT);
         try {
-            LocalDateTime dateTime = LocalDateTime.parse(trimmedTraining, formatter);
-            return new Training(dateTime);
+            return LocalDateTime.parse(trimmedDateTime, formatter);
         } catch (DateTimeException e) {
             throw new ParseException(Training.MESSAGE_CONSTRAINTS);
         }
@@ -230,9 +242,14 @@ public class ParserUtil {
 
     /**
      * Checks if a given array of strings is unique.
+     * Student ids are compared through the same id set that {@code IdSetPredicate} matches students with.
      */
     public static boolean isUniqueList(String[] toCheck) {
         List<String> toCheckList = Arrays.asList(toCheck);
-        return new HashSet<>(toCheckList).size() == toCheckList.size();
+        if (!toCheckList.stream().allMatch(Id::isValidId)) {
+            return new HashSet<>(toCheckList).size() == toCheckList.size();
+        }
+        List<Id> ids = toCheckList.stream().map(Id::new).collect(Collectors.toList());
+        return new IdSetPredicate(ids).size() == ids.size();
     }
 }
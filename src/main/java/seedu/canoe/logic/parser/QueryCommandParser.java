@@ -0,0 +1,262 @@
+package seedu.canoe.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.canoe.logic.commands.QueryCommand;
+import seedu.canoe.logic.parser.exceptions.ParseException;
+import seedu.canoe.model.student.AcademicYearMatchesPredicate;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.EmailContainsKeywordPredicate;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.IdSetPredicate;
+import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is parsed with the grammar below, where NOT binds tighter than AND, which binds tighter than OR.
+ * <pre>
+ *     query  := and ("OR" and)*
+ *     and    := not ("AND" not)*
+ *     not    := "NOT" not | "(" query ")" | clause
+ * </pre>
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\(|\\)|[^\\s()]+");
+    private static final Pattern CLAUSE_FORMAT = Pattern.compile("(?<field>[a-z0-9]+)(?<operator>/|<=|>=|<|>)"
+            + "(?<value>.+)");
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String ID_SEPARATOR = ",";
+    private static final int MIN_ACADEMIC_YEAR = 1;
+    private static final int MAX_ACADEMIC_YEAR = 5;
+
+    private static final Map<String, DayOfWeek> DISMISSAL_FIELDS = Map.ofEntries(
+            Map.entry("d1", DayOfWeek.MONDAY), Map.entry("mon", DayOfWeek.MONDAY),
+            Map.entry("d2", DayOfWeek.TUESDAY), Map.entry("tue", DayOfWeek.TUESDAY),
+            Map.entry("d3", DayOfWeek.WEDNESDAY), Map.entry("wed", DayOfWeek.WEDNESDAY),
+            Map.entry("d4", DayOfWeek.THURSDAY), Map.entry("thu", DayOfWeek.THURSDAY),
+            Map.entry("d5", DayOfWeek.FRIDAY), Map.entry("fri", DayOfWeek.FRIDAY));
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Deque<String> tokens = new ArrayDeque<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        Predicate<Student> query = parseOr(tokens);
+        if (!tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private Predicate<Student> parseOr(Deque<String> tokens) throws ParseException {
+        List<Predicate<Student>> operands = new ArrayList<>();
+        operands.add(parseAnd(tokens));
+        while (isNext(tokens, "OR")) {
+            tokens.remove();
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AnyMatchPredicateList(operands);
+    }
+
+    private Predicate<Student> parseAnd(Deque<String> tokens) throws ParseException {
+        List<Predicate<Student>> operands = new ArrayList<>();
+        operands.add(parseNot(tokens));
+        while (isNext(tokens, "AND")) {
+            tokens.remove();
+            operands.add(parseNot(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AllMatchPredicateList(operands);
+    }
+
+    private Predicate<Student> parseNot(Deque<String> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        String token = tokens.remove();
+        if (token.equalsIgnoreCase("NOT")) {
+            return new NotMatchPredicate(parseNot(tokens));
+        }
+        if (token.equals("(")) {
+            Predicate<Student> query = parseOr(tokens);
+            if (!isNext(tokens, ")")) {
+                throw invalidFormat();
+            }
+            tokens.remove();
+            return query;
+        }
+        return parseClause(token);
+    }
+
+    /**
+     * Parses a single field clause, such as {@code ay/2..4} or {@code mon<1500}.
+     */
+    private Predicate<Student> parseClause(String token) throws ParseException {
+        Matcher matcher = CLAUSE_FORMAT.matcher(token);
+        if (!matcher.matches()) {
+            throw invalidFormat();
+        }
+        String field = matcher.group("field");
+        String operator = matcher.group("operator");
+        String value = matcher.group("value");
+
+        if (DISMISSAL_FIELDS.containsKey(field)) {
+            return parseDismissalClause(DISMISSAL_FIELDS.get(field), operator, value);
+        }
+        if (field.equals("ay")) {
+            return parseAcademicYearClause(operator, value);
+        }
+        if (!operator.equals("/")) {
+            throw invalidFormat();
+        }
+
+        switch (field) {
+        case "n":
+            return new NameContainsKeywordsPredicate(List.of(value));
+        case "p":
+            return new PhoneMatchesPredicate(ParserUtil.parsePhone(value));
+        case "e":
+            return new EmailContainsKeywordPredicate(value);
+        case "id":
+            if (value.contains(ID_SEPARATOR)) {
+                return parseIdSetClause(value);
+            }
+            return new IdMatchesPredicate(ParserUtil.parseIdValue(value));
+        case "t":
+            return new TagMatchesPredicate(ParserUtil.parseTag(value));
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private Predicate<Student> parseAcademicYearClause(String operator, String value) throws ParseException {
+        if (operator.equals("/") && value.contains(RANGE_SEPARATOR)) {
+            String[] bounds = splitRange(value);
+            int from = parseAcademicYear(bounds[0]);
+            int to = parseAcademicYear(bounds[1]);
+            if (from > to) {
+                throw new ParseException(QueryCommand.MESSAGE_INVALID_RANGE);
+            }
+            return new AcademicYearRangePredicate(from, to);
+        }
+
+        int year = parseAcademicYear(value);
+        switch (operator) {
+        case "<":
+            return new AcademicYearRangePredicate(MIN_ACADEMIC_YEAR, year - 1);
+        case "<=":
+            return new AcademicYearRangePredicate(MIN_ACADEMIC_YEAR, year);
+        case ">":
+            return new AcademicYearRangePredicate(year + 1, MAX_ACADEMIC_YEAR);
+        case ">=":
+            return new AcademicYearRangePredicate(year, MAX_ACADEMIC_YEAR);
+        default:
+            return new AcademicYearMatchesPredicate(ParserUtil.parseAcademicYear(value));
+        }
+    }
+
+    /**
+     * Parses a dismissal time clause on {@code day}. A single time after "/" matches the students dismissed
+     * at or before it, as in the find command.
+     */
+    private Predicate<Student> parseDismissalClause(DayOfWeek day, String operator, String value)
+            throws ParseException {
+        if (operator.equals("/") && value.contains(RANGE_SEPARATOR)) {
+            String[] bounds = splitRange(value);
+            LocalTime from = parseTime(bounds[0]);
+            LocalTime to = parseTime(bounds[1]);
+            if (from.isAfter(to)) {
+                throw new ParseException(QueryCommand.MESSAGE_INVALID_RANGE);
+            }
+            return new DismissalRangePredicate(day, from, to);
+        }
+
+        LocalTime time = parseTime(value);
+        switch (operator) {
+        case "<":
+            // dismissal times are in whole minutes, so "before" ends a minute earlier
+            return time.equals(LocalTime.MIN)
+                    ? new AnyMatchPredicateList()
+                    : new DismissalRangePredicate(day, LocalTime.MIN, time.minusMinutes(1));
+        case ">":
+            return time.equals(LocalTime.of(23, 59))
+                    ? new AnyMatchPredicateList()
+                    : new DismissalRangePredicate(day, time.plusMinutes(1), LocalTime.MAX);
+        case ">=":
+            return new DismissalRangePredicate(day, time, LocalTime.MAX);
+        default:
+            return new DismissalRangePredicate(day, LocalTime.MIN, time);
+        }
+    }
+
+    private static IdSetPredicate parseIdSetClause(String value) throws ParseException {
+        String[] idValues = value.split(ID_SEPARATOR, -1);
+        if (!ParserUtil.isUniqueList(idValues)) {
+            throw new ParseException(ParserUtil.MESSAGE_REPEATED_ID);
+        }
+        List<Id> ids = new ArrayList<>();
+        for (String idValue : idValues) {
+            ids.add(new Id(ParserUtil.parseIdValue(idValue)));
+        }
+        return new IdSetPredicate(ids);
+    }
+
+    private static String[] splitRange(String value) throws ParseException {
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        String from = value.substring(0, separator);
+        String to = value.substring(separator + RANGE_SEPARATOR.length());
+        if (from.isEmpty() || to.isEmpty() || to.contains(RANGE_SEPARATOR)) {
+            throw new ParseException(QueryCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new String[] {from, to};
+    }
+
+    private static int parseAcademicYear(String value) throws ParseException {
+        return Integer.parseInt(ParserUtil.parseAcademicYear(value).value);
+    }
+
+    private static LocalTime parseTime(String value) throws ParseException {
+        return ParserUtil.parseDismissal(Day.DayOfWeek.MONDAY, value).dismissalTime;
+    }
+
+    private static boolean isNext(Deque<String> tokens, String keyword) {
+        return !tokens.isEmpty() && tokens.peek().equalsIgnoreCase(keyword);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
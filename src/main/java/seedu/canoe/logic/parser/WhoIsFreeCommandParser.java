@@ -0,0 +1,30 @@
+package seedu.canoe.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDateTime;
+
+import seedu.canoe.logic.commands.WhoIsFreeCommand;
+import seedu.canoe.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WhoIsFreeCommand object
+ */
+public class WhoIsFreeCommandParser implements Parser<WhoIsFreeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WhoIsFreeCommand
+     * and returns a WhoIsFreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WhoIsFreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoIsFreeCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime dateTime = ParserUtil.parseDateTime(args);
+        return new WhoIsFreeCommand(dateTime);
+    }
+}
@@ -0,0 +1,353 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Records which students are enrolled in, and have been marked present for, each training.
+ * The ledger is a sparse student-by-training bit matrix. Every training gets a row, and every student id gets
+ * a column, so it can be read by training (whole sessions are marked with one bitmap operation) and by student
+ * (absences are counted without walking the student's attendances).
+ * It also keeps a running count of each student's absences from past trainings, bucketed by count, so that
+ * students with many absences are found without looking at anyone else. Trainings are counted as past once
+ * they are before the ledger's horizon, which each query moves up to the current time.
+ * {@code CanoeCoach} keeps it in step with its training list and the attendances of its students.
+ */
+class AttendanceLedger {
+
+    /** Row number of each training, by date-time. */
+    private final NavigableMap<LocalDateTime, Integer> rowByDateTime = new TreeMap<>();
+    private final List<LocalDateTime> dateTimeByRow = new ArrayList<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+
+    /** Bits are student ids. */
+    private final List<BitSet> enrolledByRow = new ArrayList<>();
+    private final List<BitSet> markedByRow = new ArrayList<>();
+
+    /** Bits are row numbers. */
+    private final Map<Integer, BitSet> enrolledByStudent = new HashMap<>();
+    private final Map<Integer, BitSet> markedByStudent = new HashMap<>();
+
+    /** Trainings before the horizon are counted in the absence counts below. */
+    private LocalDateTime horizon = LocalDateTime.MIN;
+    private final Map<Integer, Integer> absencesByStudent = new HashMap<>();
+    /** Bits are student ids. Only non-zero counts are kept. */
+    private final NavigableMap<Integer, BitSet> studentsByAbsences = new TreeMap<>();
+
+    /**
+     * Records the training at {@code dateTime} with {@code enrolled} students, of which {@code marked} are
+     * marked present. Replaces whatever was recorded for that date-time before.
+     * Marks of students that are not enrolled are ignored.
+     */
+    void putTraining(LocalDateTime dateTime, BitSet enrolled, BitSet marked) {
+        requireNonNull(dateTime);
+        requireNonNull(enrolled);
+        requireNonNull(marked);
+        removeTraining(dateTime);
+
+        int row = freeRows.isEmpty() ? dateTimeByRow.size() : freeRows.pop();
+        BitSet enrolledRow = (BitSet) enrolled.clone();
+        BitSet markedRow = (BitSet) marked.clone();
+        markedRow.and(enrolledRow);
+        if (row == dateTimeByRow.size()) {
+            dateTimeByRow.add(dateTime);
+            enrolledByRow.add(enrolledRow);
+            markedByRow.add(markedRow);
+        } else {
+            dateTimeByRow.set(row, dateTime);
+            enrolledByRow.set(row, enrolledRow);
+            markedByRow.set(row, markedRow);
+        }
+        rowByDateTime.put(dateTime, row);
+
+        setColumns(enrolledByStudent, enrolledRow, row, true);
+        setColumns(markedByStudent, markedRow, row, true);
+        if (dateTime.isBefore(horizon)) {
+            addAbsences(getAbsentIds(row), 1);
+        }
+    }
+
+    /**
+     * Forgets the training at {@code dateTime}, if it is recorded.
+     */
+    void removeTraining(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        Integer row = rowByDateTime.remove(dateTime);
+        if (row == null) {
+            return;
+        }
+        if (dateTime.isBefore(horizon)) {
+            addAbsences(getAbsentIds(row), -1);
+        }
+        setColumns(enrolledByStudent, enrolledByRow.get(row), row, false);
+        setColumns(markedByStudent, markedByRow.get(row), row, false);
+        dateTimeByRow.set(row, null);
+        enrolledByRow.set(row, null);
+        markedByRow.set(row, null);
+        freeRows.push(row);
+    }
+
+    /**
+     * Marks the {@code studentIds} enrolled in the training at {@code dateTime} as present if {@code isMarked},
+     * or as absent otherwise. Ids of students that are not enrolled are ignored.
+     */
+    void setMarked(LocalDateTime dateTime, BitSet studentIds, boolean isMarked) {
+        requireNonNull(dateTime);
+        requireNonNull(studentIds);
+        Integer row = rowByDateTime.get(dateTime);
+        if (row == null) {
+            return;
+        }
+        BitSet changed = (BitSet) studentIds.clone();
+        changed.and(enrolledByRow.get(row));
+        if (dateTime.isBefore(horizon)) {
+            BitSet flipped = (BitSet) changed.clone();
+            if (isMarked) {
+                flipped.andNot(markedByRow.get(row));
+            } else {
+                flipped.and(markedByRow.get(row));
+            }
+            addAbsences(flipped, isMarked ? -1 : 1);
+        }
+        if (isMarked) {
+            markedByRow.get(row).or(changed);
+        } else {
+            markedByRow.get(row).andNot(changed);
+        }
+        setColumns(markedByStudent, changed, row, isMarked);
+    }
+
+    /**
+     * Replaces the marks of the student with {@code studentId} with {@code markedDateTimes}.
+     * Date-times of trainings that the student is not enrolled in are ignored.
+     */
+    void setMarkedDateTimes(int studentId, NavigableSet<LocalDateTime> markedDateTimes) {
+        requireNonNull(markedDateTimes);
+        BitSet enrolledRows = enrolledByStudent.get(studentId);
+        if (enrolledRows == null) {
+            markedByStudent.remove(studentId);
+            return;
+        }
+        BitSet markedRows = new BitSet();
+        for (int row = enrolledRows.nextSetBit(0); row >= 0; row = enrolledRows.nextSetBit(row + 1)) {
+            LocalDateTime dateTime = dateTimeByRow.get(row);
+            boolean isMarked = markedDateTimes.contains(dateTime);
+            if (dateTime.isBefore(horizon) && markedByRow.get(row).get(studentId) != isMarked) {
+                addAbsence(studentId, isMarked ? -1 : 1);
+            }
+            markedByRow.get(row).set(studentId, isMarked);
+            markedRows.set(row, isMarked);
+        }
+        putColumn(markedByStudent, studentId, markedRows);
+    }
+
+    /**
+     * Forgets every training.
+     */
+    void clear() {
+        rowByDateTime.clear();
+        dateTimeByRow.clear();
+        freeRows.clear();
+        enrolledByRow.clear();
+        markedByRow.clear();
+        enrolledByStudent.clear();
+        markedByStudent.clear();
+        horizon = LocalDateTime.MIN;
+        absencesByStudent.clear();
+        studentsByAbsences.clear();
+    }
+
+    /**
+     * Moves the horizon to {@code now}, counting or uncounting the absences of the trainings passed over.
+     */
+    void advanceTo(LocalDateTime now) {
+        requireNonNull(now);
+        if (now.isAfter(horizon)) {
+            for (int row : rowByDateTime.subMap(horizon, true, now, false).values()) {
+                addAbsences(getAbsentIds(row), 1);
+            }
+        } else {
+            for (int row : rowByDateTime.subMap(now, true, horizon, false).values()) {
+                addAbsences(getAbsentIds(row), -1);
+            }
+        }
+        horizon = now;
+    }
+
+    /**
+     * Returns the ids of the students with more than {@code threshold} absences from trainings before {@code now}.
+     * Takes time in proportion to the number of students returned.
+     */
+    BitSet getStudentsAbsentMoreThan(int threshold, LocalDateTime now) {
+        advanceTo(now);
+        BitSet studentIds = new BitSet();
+        studentsByAbsences.tailMap(threshold, false).values().forEach(studentIds::or);
+        return studentIds;
+    }
+
+    /**
+     * Returns the ids of the students with more than {@code threshold} absences from trainings from {@code from}
+     * (inclusive) to {@code now} (exclusive).
+     * Takes time in proportion to the trainings in the window and their members.
+     */
+    BitSet getStudentsAbsentMoreThan(int threshold, LocalDateTime from, LocalDateTime now) {
+        requireNonNull(from);
+        requireNonNull(now);
+        BitSet studentIds = new BitSet();
+        if (!from.isBefore(now)) {
+            return studentIds;
+        }
+        Map<Integer, Integer> absencesInWindow = new HashMap<>();
+        for (int row : rowByDateTime.subMap(from, true, now, false).values()) {
+            BitSet absentIds = getAbsentIds(row);
+            for (int id = absentIds.nextSetBit(0); id >= 0; id = absentIds.nextSetBit(id + 1)) {
+                if (absencesInWindow.merge(id, 1, Integer::sum) > threshold) {
+                    studentIds.set(id);
+                }
+            }
+        }
+        return studentIds;
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is marked present for the training at {@code dateTime}.
+     */
+    boolean isMarked(LocalDateTime dateTime, int studentId) {
+        requireNonNull(dateTime);
+        Integer row = rowByDateTime.get(dateTime);
+        return row != null && markedByRow.get(row).get(studentId);
+    }
+
+    /**
+     * Returns the ids of the students marked present for the training at {@code dateTime}.
+     */
+    BitSet getMarked(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        Integer row = rowByDateTime.get(dateTime);
+        return row == null ? new BitSet() : (BitSet) markedByRow.get(row).clone();
+    }
+
+    /**
+     * Returns the date-times of the trainings that the student with {@code studentId} is enrolled in,
+     * in chronological order.
+     */
+    NavigableSet<LocalDateTime> getTrainingDateTimes(int studentId) {
+        BitSet enrolledRows = enrolledByStudent.get(studentId);
+        if (enrolledRows == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return Collections.unmodifiableNavigableSet(toDateTimes(enrolledRows));
+    }
+
+    /**
+     * Returns the number of trainings before {@code before} that the student with {@code studentId} is
+     * enrolled in but not marked present for.
+     */
+    int countAbsences(int studentId, LocalDateTime before) {
+        requireNonNull(before);
+        BitSet absentRows = getAbsentRows(studentId);
+        int count = 0;
+        for (int row = absentRows.nextSetBit(0); row >= 0; row = absentRows.nextSetBit(row + 1)) {
+            if (dateTimeByRow.get(row).isBefore(before)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private BitSet getAbsentIds(int row) {
+        BitSet absentIds = (BitSet) enrolledByRow.get(row).clone();
+        absentIds.andNot(markedByRow.get(row));
+        return absentIds;
+    }
+
+    private void addAbsences(BitSet studentIds, int delta) {
+        for (int id = studentIds.nextSetBit(0); id >= 0; id = studentIds.nextSetBit(id + 1)) {
+            addAbsence(id, delta);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the absence count of the student with {@code studentId}, and moves the student to
+     * the bucket of the new count.
+     */
+    private void addAbsence(int studentId, int delta) {
+        int oldCount = absencesByStudent.getOrDefault(studentId, 0);
+        int newCount = oldCount + delta;
+        assert newCount >= 0;
+        if (oldCount > 0) {
+            BitSet bucket = studentsByAbsences.get(oldCount);
+            bucket.clear(studentId);
+            if (bucket.isEmpty()) {
+                studentsByAbsences.remove(oldCount);
+            }
+        }
+        if (newCount > 0) {
+            absencesByStudent.put(studentId, newCount);
+            studentsByAbsences.computeIfAbsent(newCount, unused -> new BitSet()).set(studentId);
+        } else {
+            absencesByStudent.remove(studentId);
+        }
+    }
+
+    private BitSet getAbsentRows(int studentId) {
+        BitSet enrolledRows = enrolledByStudent.get(studentId);
+        if (enrolledRows == null) {
+            return new BitSet();
+        }
+        BitSet absentRows = (BitSet) enrolledRows.clone();
+        BitSet markedRows = markedByStudent.get(studentId);
+        if (markedRows != null) {
+            absentRows.andNot(markedRows);
+        }
+        return absentRows;
+    }
+
+    private NavigableSet<LocalDateTime> toDateTimes(BitSet rows) {
+        NavigableSet<LocalDateTime> dateTimes = new TreeSet<>();
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            dateTimes.add(dateTimeByRow.get(row));
+        }
+        return dateTimes;
+    }
+
+    /**
+     * Sets or clears bit {@code row} in the column of every student id in {@code studentIds}.
+     */
+    private static void setColumns(Map<Integer, BitSet> columns, BitSet studentIds, int row, boolean value) {
+        for (int id = studentIds.nextSetBit(0); id >= 0; id = studentIds.nextSetBit(id + 1)) {
+            if (value) {
+                columns.computeIfAbsent(id, unused -> new BitSet()).set(row);
+                continue;
+            }
+            BitSet column = columns.get(id);
+            if (column != null) {
+                column.clear(row);
+                if (column.isEmpty()) {
+                    columns.remove(id);
+                }
+            }
+        }
+    }
+
+    private static void putColumn(Map<Integer, BitSet> columns, int studentId, BitSet column) {
+        if (column.isEmpty()) {
+            columns.remove(studentId);
+        } else {
+            columns.put(studentId, column);
+        }
+    }
+}
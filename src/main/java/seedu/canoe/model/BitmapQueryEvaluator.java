@@ -0,0 +1,171 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.canoe.model.student.AcademicYearMatchesPredicate;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.DateTimeMatchesPredicate;
+import seedu.canoe.model.student.EmailContainsKeywordPredicate;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.IdSetPredicate;
+import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.StudentQuery;
+import seedu.canoe.model.student.StudentQueryVisitor;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.student.UniqueStudentList;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+import seedu.canoe.model.training.UniqueTrainingList;
+
+/**
+ * Evaluates queries over the students of a canoe book to the bitmap of the ids of the students matching them.
+ *
+ * Every clause of a query is turned into a bitmap, from the student indexes where the clause is indexed, or by
+ * testing every student once otherwise. AND, OR and NOT nodes then combine the bitmaps of their clauses a word
+ * of 64 students at a time, instead of testing every clause against every student.
+ */
+class BitmapQueryEvaluator implements StudentQueryVisitor<BitSet> {
+
+    private final UniqueStudentList students;
+    private final UniqueTrainingList trainings;
+    private final NameIndex nameIndex;
+    private final EmailIndex emailIndex;
+    private final DismissalIndex dismissalIndex;
+    private final ValueIndex<Integer> academicYearIndex;
+    private final ValueIndex<String> tagIndex;
+    private final BitSet allIds;
+
+    BitmapQueryEvaluator(UniqueStudentList students, UniqueTrainingList trainings, NameIndex nameIndex,
+                         EmailIndex emailIndex, DismissalIndex dismissalIndex, ValueIndex<Integer> academicYearIndex,
+                         ValueIndex<String> tagIndex, BitSet allIds) {
+        this.students = students;
+        this.trainings = trainings;
+        this.nameIndex = nameIndex;
+        this.emailIndex = emailIndex;
+        this.dismissalIndex = dismissalIndex;
+        this.academicYearIndex = academicYearIndex;
+        this.tagIndex = tagIndex;
+        this.allIds = allIds;
+    }
+
+    /**
+     * Returns the ids of the students matching {@code query}.
+     */
+    BitSet evaluate(Predicate<Student> query) {
+        requireNonNull(query);
+        if (query instanceof StudentQuery) {
+            return ((StudentQuery) query).accept(this);
+        }
+        return scan(query);
+    }
+
+    @Override
+    public BitSet visitAllMatch(AllMatchPredicateList query) {
+        List<Predicate<Student>> predicates = query.getPredicates();
+        if (predicates.isEmpty()) {
+            return new BitSet();
+        }
+        BitSet result = evaluate(predicates.get(0));
+        for (int i = 1; i < predicates.size() && !result.isEmpty(); i++) {
+            result.and(evaluate(predicates.get(i)));
+        }
+        return result;
+    }
+
+    @Override
+    public BitSet visitAnyMatch(AnyMatchPredicateList query) {
+        BitSet result = new BitSet();
+        query.getPredicates().forEach(predicate -> result.or(evaluate(predicate)));
+        return result;
+    }
+
+    @Override
+    public BitSet visitNot(NotMatchPredicate query) {
+        BitSet result = (BitSet) allIds.clone();
+        result.andNot(evaluate(query.getPredicate()));
+        return result;
+    }
+
+    @Override
+    public BitSet visitId(IdMatchesPredicate query) {
+        String idValue = query.getIdValue();
+        BitSet result = new BitSet();
+        if (idValue != null && Id.isValidId(idValue)) {
+            students.getStudentById(new Id(idValue)).ifPresent(student -> result.set(student.getId().intValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public BitSet visitIdSet(IdSetPredicate query) {
+        BitSet result = query.getIds();
+        result.and(allIds);
+        return result;
+    }
+
+    @Override
+    public BitSet visitPhone(PhoneMatchesPredicate query) {
+        return scan(query);
+    }
+
+    @Override
+    public BitSet visitAcademicYear(AcademicYearMatchesPredicate query) {
+        return academicYearIndex.get(Integer.parseInt(query.getAcademicYear().value));
+    }
+
+    @Override
+    public BitSet visitAcademicYearRange(AcademicYearRangePredicate query) {
+        return academicYearIndex.getBetween(query.getFrom(), query.getTo());
+    }
+
+    @Override
+    public BitSet visitTag(TagMatchesPredicate query) {
+        return tagIndex.get(query.getTag().tagName);
+    }
+
+    @Override
+    public BitSet visitName(NameContainsKeywordsPredicate query) {
+        return nameIndex.getIdsWithAnyWord(query.getKeywords());
+    }
+
+    @Override
+    public BitSet visitEmail(EmailContainsKeywordPredicate query) {
+        return emailIndex.getIdsContaining(query.getKeyword());
+    }
+
+    @Override
+    public BitSet visitDismissalRange(DismissalRangePredicate query) {
+        return dismissalIndex.getDismissedBetween(query.getDay(), query.getFrom(), query.getTo());
+    }
+
+    @Override
+    public BitSet visitTrainingDateTime(DateTimeMatchesPredicate query) {
+        LocalDateTime dateTime = query.getDateTime();
+        BitSet result = new BitSet();
+        // Members are checked against their own attendances, which the training list is kept in step with.
+        trainings.getTrainingAt(dateTime).ifPresent(training -> training.getStudentIds()
+                .forEach(id -> students.getStudentById(id).filter(query)
+                        .ifPresent(student -> result.set(id.intValue()))));
+        return result;
+    }
+
+    private BitSet scan(Predicate<Student> query) {
+        BitSet result = new BitSet();
+        for (Student student : students) {
+            if (query.test(student)) {
+                result.set(student.getId().intValue());
+            }
+        }
+        return result;
+    }
+}
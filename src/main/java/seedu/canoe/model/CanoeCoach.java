@@ -1,12 +1,25 @@
 package seedu.canoe.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdAllocator;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.student.UniqueStudentList;
+import seedu.canoe.model.student.exceptions.StudentNotFoundException;
 import seedu.canoe.model.training.Training;
 import seedu.canoe.model.training.UniqueTrainingList;
 
@@ -19,6 +32,14 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
 
     private final UniqueStudentList students;
     private final UniqueTrainingList trainings;
+    private final AttendanceLedger attendanceLedger;
+    private final DismissalIndex dismissalIndex;
+    private final NameIndex nameIndex;
+    private final EmailIndex emailIndex;
+    private final ValueIndex<Integer> academicYearIndex;
+    private final ValueIndex<String> tagIndex;
+    private final BitSet studentIds;
+    private final IdAllocator idAllocator;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +51,14 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
     {
         students = new UniqueStudentList();
         trainings = new UniqueTrainingList();
+        attendanceLedger = new AttendanceLedger();
+        dismissalIndex = new DismissalIndex();
+        nameIndex = new NameIndex();
+        emailIndex = new EmailIndex();
+        academicYearIndex = new ValueIndex<>();
+        tagIndex = new ValueIndex<>();
+        studentIds = new BitSet();
+        idAllocator = new IdAllocator();
     }
 
     public CanoeCoach() {
@@ -51,6 +80,16 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        idAllocator.reset();
+        dismissalIndex.clear();
+        nameIndex.clear();
+        emailIndex.clear();
+        academicYearIndex.clear();
+        tagIndex.clear();
+        studentIds.clear();
+        students.forEach(student -> idAllocator.markUsed(student.getId()));
+        students.forEach(this::indexStudent);
+        students.forEach(this::recordMarks);
     }
 
     /**
@@ -59,6 +98,8 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
      */
     public void setTrainings(List<Training> trainings) {
         this.trainings.setTrainings(trainings);
+        attendanceLedger.clear();
+        trainings.forEach(this::recordTraining);
     }
 
     /**
@@ -70,6 +111,8 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
     public void setTraining(Training target, Training editedTraining) {
         requireNonNull(editedTraining);
         trainings.setTraining(target, editedTraining);
+        attendanceLedger.removeTraining(target.getDateTime());
+        recordTraining(editedTraining);
     }
 
     /**
@@ -82,6 +125,23 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
         setTrainings(newData.getTrainingList());
     }
 
+    /**
+     * Runs {@code edits} on this {@code CanoeCoach}, publishing the changes they make to the student list and to the
+     * training list as a single change event for each list once {@code edits} return, or throw.
+     * The student indexes are still kept up to date with every edit.
+     */
+    public void batch(Runnable edits) {
+        requireNonNull(edits);
+        students.beginBatch();
+        trainings.beginBatch();
+        try {
+            edits.run();
+        } finally {
+            trainings.endBatch();
+            students.endBatch();
+        }
+    }
+
     //// student-level operations and training-level operations
 
     /**
@@ -100,12 +160,80 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
         return trainings.contains(training);
     }
 
+    /**
+     * Returns the training at {@code dateTime}, if any.
+     */
+    public Optional<Training> getTrainingAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return trainings.getTrainingAt(dateTime);
+    }
+
+    /**
+     * Returns the trainings at {@code dateTimes}, in the order of {@code dateTimes}.
+     * Date-times without a training are skipped.
+     */
+    public List<Training> findTrainings(Collection<LocalDateTime> dateTimes) {
+        requireAllNonNull(dateTimes);
+        List<Training> found = new ArrayList<>(dateTimes.size());
+        for (LocalDateTime dateTime : dateTimes) {
+            trainings.getTrainingAt(dateTime).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the trainings from {@code from} to {@code to}, both inclusive, in chronological order.
+     */
+    public List<Training> getTrainingsBetween(LocalDateTime from, LocalDateTime to) {
+        return trainings.getTrainingsBetween(from, to);
+    }
+
+    /**
+     * Returns the trainings that the student with {@code studentId} is in, in chronological order.
+     */
+    public List<Training> getTrainingsOfStudent(Id studentId) {
+        requireNonNull(studentId);
+        List<Training> studentTrainings = new ArrayList<>();
+        for (LocalDateTime dateTime : attendanceLedger.getTrainingDateTimes(studentId.intValue())) {
+            trainings.getTrainingAt(dateTime).ifPresent(studentTrainings::add);
+        }
+        return studentTrainings;
+    }
+
     /**
      * Adds a student to the canoe book.
      * The student must not already exist in the canoe book.
      */
     public void addStudent(Student p) {
         students.add(p);
+        idAllocator.markUsed(p.getId());
+        indexStudent(p);
+        recordMarks(p);
+    }
+
+    /**
+     * Inserts a student into the student list of the canoe book at {@code index}.
+     * The student must not already exist in the canoe book.
+     */
+    public void addStudent(int index, Student p) {
+        students.add(index, p);
+        idAllocator.markUsed(p.getId());
+        indexStudent(p);
+        recordMarks(p);
+    }
+
+    /**
+     * Returns the position of {@code student} in the student list, or -1 if it is not in the canoe book.
+     */
+    public int indexOfStudent(Student student) {
+        return students.indexOf(student);
+    }
+
+    /**
+     * Returns a new student id that is not used by any student added to the canoe book so far.
+     */
+    public Id allocateId() {
+        return idAllocator.allocate();
     }
 
     /**
@@ -114,6 +242,23 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
      */
     public void addTraining(Training p) {
         trainings.add(p);
+        recordTraining(p);
+    }
+
+    /**
+     * Inserts a training into the training list of the canoe book at {@code index}.
+     * The training must not already exist in the canoe book.
+     */
+    public void addTraining(int index, Training p) {
+        trainings.add(index, p);
+        recordTraining(p);
+    }
+
+    /**
+     * Returns the position of {@code training} in the training list, or -1 if it is not in the canoe book.
+     */
+    public int indexOfTraining(Training training) {
+        return trainings.indexOf(training);
     }
 
     /**
@@ -125,6 +270,46 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
     public void setStudentInUniqueStudentList(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
         students.setStudent(target, editedStudent);
+        idAllocator.markUsed(editedStudent.getId());
+        unindexStudent(target);
+        indexStudent(editedStudent);
+        recordMarks(editedStudent);
+    }
+
+    /**
+     * Returns the student with the given {@code id}, if any.
+     */
+    public Optional<Student> getStudentById(Id id) {
+        requireNonNull(id);
+        return students.getStudentById(id);
+    }
+
+    /**
+     * Returns the students with {@code ids}, in the order of {@code ids}. Ids without a student are skipped.
+     */
+    public List<Student> findStudents(Collection<Id> ids) {
+        requireAllNonNull(ids);
+        List<Student> found = new ArrayList<>(ids.size());
+        for (Id id : ids) {
+            students.getStudentById(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Replaces the student with the given {@code id} with {@code editedStudent}.
+     * A student with {@code id} must exist in the canoe book.
+     * The student identity of {@code editedStudent} must not be the same as another existing
+     * student in the canoe book.
+     */
+    public void replaceStudentById(Id id, Student editedStudent) {
+        requireNonNull(editedStudent);
+        Student target = students.getStudentById(id).orElseThrow(StudentNotFoundException::new);
+        students.replaceStudentById(id, editedStudent);
+        idAllocator.markUsed(editedStudent.getId());
+        unindexStudent(target);
+        indexStudent(editedStudent);
+        recordMarks(editedStudent);
     }
 
     /**
@@ -133,6 +318,7 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        unindexStudent(key);
     }
 
     /**
@@ -141,6 +327,183 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
      */
     public void removeTraining(Training training) {
         trainings.remove(training);
+        attendanceLedger.removeTraining(training.getDateTime());
+    }
+
+    //// attendance operations
+
+    /**
+     * Marks the students with {@code studentIds} as present for {@code training} if {@code isMarked},
+     * or as absent otherwise.
+     * {@code training} must exist in the canoe book, and every student must exist and be in the training.
+     */
+    public void setAttendanceMarked(Training training, List<Id> studentIds, boolean isMarked) {
+        requireAllNonNull(training, studentIds);
+        LocalDateTime dateTime = training.getDateTime();
+        attendanceLedger.setMarked(dateTime, toBitSet(studentIds), isMarked);
+        // published as a single change, like the one operation on the ledger
+        students.beginBatch();
+        try {
+            for (Id studentId : studentIds) {
+                Student student = students.getStudentById(studentId).orElseThrow(StudentNotFoundException::new);
+                student.markAttendance(new Attendance(dateTime), new Attendance(dateTime, isMarked));
+                students.markUpdated(studentId);
+            }
+        } finally {
+            students.endBatch();
+        }
+    }
+
+    /**
+     * Returns the number of trainings before {@code before} that the student with {@code studentId} is in,
+     * but has not been marked present for.
+     */
+    public int getAbsenceCount(Id studentId, LocalDateTime before) {
+        requireAllNonNull(studentId, before);
+        return attendanceLedger.countAbsences(studentId.intValue(), before);
+    }
+
+    /**
+     * Returns the students who have missed more than {@code threshold} trainings before {@code now},
+     * in increasing order of id.
+     */
+    public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime now) {
+        requireNonNull(now);
+        return toStudents(attendanceLedger.getStudentsAbsentMoreThan(threshold, now));
+    }
+
+    /**
+     * Returns the students who have missed more than {@code threshold} trainings from {@code from} (inclusive)
+     * to {@code now} (exclusive), in increasing order of id.
+     */
+    public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime from, LocalDateTime now) {
+        requireAllNonNull(from, now);
+        return toStudents(attendanceLedger.getStudentsAbsentMoreThan(threshold, from, now));
+    }
+
+    //// student index operations
+
+    /**
+     * Returns the students who are dismissed at or before the time of {@code dateTime} on its day,
+     * in increasing order of id. Every student is free on weekends.
+     */
+    public List<Student> getStudentsFreeAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return toStudents(dismissalIndex.getFreeAt(dateTime));
+    }
+
+    /**
+     * Returns the students who are dismissed from {@code from} to {@code to}, both inclusive, on {@code day},
+     * in increasing order of id. No student is dismissed on weekends.
+     */
+    public List<Student> getStudentsDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to) {
+        requireAllNonNull(day, from, to);
+        return toStudents(dismissalIndex.getDismissedBetween(day, from, to));
+    }
+
+    /**
+     * Returns the students whose names contain any of {@code keywords} as a full word, ignoring case,
+     * in increasing order of id.
+     */
+    public List<Student> getStudentsWithNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return toStudents(nameIndex.getIdsWithAnyWord(keywords));
+    }
+
+    /**
+     * Returns the students whose emails contain {@code keyword}, in increasing order of id.
+     */
+    public List<Student> getStudentsWithEmailContaining(String keyword) {
+        requireNonNull(keyword);
+        return toStudents(emailIndex.getIdsContaining(keyword));
+    }
+
+    /**
+     * Returns the cheapest plan found for answering {@code query} with the student indexes.
+     * The plan must be executed before the students or trainings of this canoe book are next changed.
+     */
+    public QueryPlan planStudentQuery(Predicate<Student> query) {
+        requireNonNull(query);
+        return new QueryPlanner(students, trainings, nameIndex, emailIndex, dismissalIndex, academicYearIndex,
+                tagIndex, newEvaluator()).plan(query);
+    }
+
+    /**
+     * Returns a predicate that matches the students matching {@code query} now. Every clause of {@code query}
+     * is evaluated once to a bitmap of student ids, and the bitmaps are combined with bitwise operations.
+     */
+    public Predicate<Student> evaluateStudentQuery(Predicate<Student> query) {
+        requireNonNull(query);
+        BitSet matchingIds = newEvaluator().evaluate(query);
+        return student -> matchingIds.get(student.getId().intValue());
+    }
+
+    private BitmapQueryEvaluator newEvaluator() {
+        return new BitmapQueryEvaluator(students, trainings, nameIndex, emailIndex, dismissalIndex,
+                academicYearIndex, tagIndex, studentIds);
+    }
+
+    private List<Student> toStudents(BitSet studentIds) {
+        List<Student> result = new ArrayList<>();
+        for (int id = studentIds.nextSetBit(0); id >= 0; id = studentIds.nextSetBit(id + 1)) {
+            students.getStudentById(new Id(id)).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Adds {@code student} to the student indexes.
+     */
+    private void indexStudent(Student student) {
+        int id = student.getId().intValue();
+        dismissalIndex.add(student);
+        nameIndex.add(student);
+        emailIndex.add(student);
+        academicYearIndex.add(Integer.parseInt(student.getAcademicYear().value), id);
+        student.getTags().forEach(tag -> tagIndex.add(tag.tagName, id));
+        studentIds.set(id);
+    }
+
+    /**
+     * Removes {@code student} from the student indexes.
+     */
+    private void unindexStudent(Student student) {
+        int id = student.getId().intValue();
+        dismissalIndex.remove(student);
+        nameIndex.remove(student);
+        emailIndex.remove(student);
+        academicYearIndex.remove(Integer.parseInt(student.getAcademicYear().value), id);
+        student.getTags().forEach(tag -> tagIndex.remove(tag.tagName, id));
+        studentIds.clear(id);
+    }
+
+    /**
+     * Records the members of {@code training} in the attendance ledger, with their marks taken from their
+     * attendances.
+     */
+    private void recordTraining(Training training) {
+        BitSet enrolled = toBitSet(training.getStudentIds());
+        BitSet marked = new BitSet();
+        for (Id studentId : training.getStudentIds()) {
+            boolean isMarked = students.getStudentById(studentId)
+                    .map(student -> student.isAttendanceMarked(training.getDateTime()))
+                    .orElse(false);
+            marked.set(studentId.intValue(), isMarked);
+        }
+        attendanceLedger.putTraining(training.getDateTime(), enrolled, marked);
+    }
+
+    /**
+     * Records the marks of {@code student} in the attendance ledger.
+     */
+    private void recordMarks(Student student) {
+        attendanceLedger.setMarkedDateTimes(student.getId().intValue(), student.getMarkedTrainingTimes());
+    }
+
+    private static BitSet toBitSet(Collection<Id> ids) {
+        BitSet bits = new BitSet();
+        ids.forEach(id -> bits.set(id.intValue()));
+        return bits;
     }
 
     //// util methods
@@ -161,6 +524,11 @@ public class CanoeCoach implements ReadOnlyCanoeCoach {
         return trainings.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return students.getChangeCount() + trainings.getChangeCount();
+    }
+
 
     @Override
     public boolean equals(Object other) {
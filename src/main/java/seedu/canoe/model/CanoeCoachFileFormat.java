@@ -0,0 +1,41 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats that the canoe coach book can be saved in.
+ */
+public enum CanoeCoachFileFormat {
+    /** Readable json, saved as snapshots with the changes in between journaled. */
+    JSON("json"),
+    /** Compact binary snapshots, which are much smaller and faster to load than json. */
+    BINARY("bin");
+
+    private final String fileExtension;
+
+    CanoeCoachFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension, if any, replaced by the one of this format.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + "." + fileExtension);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
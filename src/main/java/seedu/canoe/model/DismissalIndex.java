@@ -0,0 +1,133 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.canoe.model.student.Student;
+
+/**
+ * Indexes the students of a canoe book by their dismissal time on each weekday, Monday to Friday.
+ *
+ * For every weekday, the ids of the students are kept in a map sorted by dismissal time, so the students
+ * free at a given time of a weekday are found with one binary search and a walk over the times up to it,
+ * instead of comparing the dismissal time of every student.
+ * Students have no lessons on weekends, so every indexed student is free on Saturday and Sunday.
+ */
+class DismissalIndex {
+
+    private static final DayOfWeek[] WEEKDAYS = {
+        DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY
+    };
+
+    private final Map<DayOfWeek, NavigableMap<LocalTime, BitSet>> idsByDismissalTime = new EnumMap<>(DayOfWeek.class);
+    private final BitSet allIds = new BitSet();
+
+    DismissalIndex() {
+        for (DayOfWeek day : WEEKDAYS) {
+            idsByDismissalTime.put(day, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code student} to the index under its dismissal times.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        for (DayOfWeek day : WEEKDAYS) {
+            LocalTime time = student.getDismissalTime(day).get();
+            idsByDismissalTime.get(day).computeIfAbsent(time, unused -> new BitSet()).set(id);
+        }
+        allIds.set(id);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * {@code student} must have the same dismissal times as when it was added.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        for (DayOfWeek day : WEEKDAYS) {
+            LocalTime time = student.getDismissalTime(day).get();
+            NavigableMap<LocalTime, BitSet> ids = idsByDismissalTime.get(day);
+            BitSet idsAtTime = ids.get(time);
+            if (idsAtTime == null) {
+                continue;
+            }
+            idsAtTime.clear(id);
+            if (idsAtTime.isEmpty()) {
+                ids.remove(time);
+            }
+        }
+        allIds.clear(id);
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        idsByDismissalTime.values().forEach(Map::clear);
+        allIds.clear();
+    }
+
+    /**
+     * Returns the ids of the students who are dismissed at or before the time of {@code dateTime} on its day.
+     */
+    BitSet getFreeAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        NavigableMap<LocalTime, BitSet> ids = idsByDismissalTime.get(dateTime.getDayOfWeek());
+        if (ids == null) {
+            return (BitSet) allIds.clone();
+        }
+        return union(ids.headMap(dateTime.toLocalTime(), true));
+    }
+
+    /**
+     * Returns the ids of the students who are dismissed from {@code from} to {@code to}, both inclusive,
+     * on the weekday {@code day}.
+     */
+    BitSet getDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to) {
+        requireNonNull(day);
+        requireNonNull(from);
+        requireNonNull(to);
+        NavigableMap<LocalTime, BitSet> ids = idsByDismissalTime.get(day);
+        if (ids == null || from.isAfter(to)) {
+            return new BitSet();
+        }
+        return union(ids.subMap(from, true, to, true));
+    }
+
+    /**
+     * Returns the number of students who are dismissed from {@code from} to {@code to}, both inclusive,
+     * on the weekday {@code day}, without building the set of their ids.
+     */
+    int countDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to) {
+        requireNonNull(day);
+        requireNonNull(from);
+        requireNonNull(to);
+        NavigableMap<LocalTime, BitSet> ids = idsByDismissalTime.get(day);
+        if (ids == null || from.isAfter(to)) {
+            return 0;
+        }
+        int count = 0;
+        for (BitSet idsAtTime : ids.subMap(from, true, to, true).values()) {
+            count += idsAtTime.cardinality();
+        }
+        return count;
+    }
+
+    private static BitSet union(Map<LocalTime, BitSet> idsByTime) {
+        BitSet result = new BitSet();
+        idsByTime.values().forEach(result::or);
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.canoe.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the changes made to a canoe book so that they can be undone and redone.
+ *
+ * Every change is recorded together with the change that reverses it, rather than as a copy of the canoe book,
+ * and the changes are grouped into steps, one for each edit or batch of edits made to the model. Undoing or
+ * redoing a step replays only its own changes, so it costs about as much as the step did, however big the canoe
+ * book is. The history holds at most {@code limit} students and trainings across all of its changes, and drops
+ * its oldest steps first to stay within the limit.
+ *
+ * The history can also be forked, which marks the point that the steps recorded afterwards can be discarded back
+ * to. Forking only marks the history, and committing only removes the mark, so both take constant time, while
+ * discarding undoes the steps made on the fork. Steps made on a fork are kept even beyond the limit, so that
+ * the fork can always be discarded.
+ */
+class EditHistory {
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step openStep;
+    private int openDepth;
+    private long size;
+    private long limit;
+    /** Number of undoable steps made since the history was forked, or -1 if it is not forked. */
+    private int stepsSinceFork = -1;
+
+    EditHistory(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Sets the number of students and trainings that the history may hold, dropping the oldest steps to fit.
+     */
+    void setLimit(long limit) {
+        this.limit = limit;
+        evict();
+    }
+
+    /**
+     * Starts a step. Changes recorded until the matching {@link #endStep()} are undone and redone together.
+     * Steps can be nested, in which case the outermost step is the one recorded.
+     */
+    void beginStep() {
+        if (openDepth++ == 0) {
+            openStep = new Step();
+        }
+    }
+
+    /**
+     * Ends a step, recording it if this ends the outermost step and it has any changes.
+     */
+    void endStep() {
+        assert openDepth > 0;
+        if (--openDepth > 0) {
+            return;
+        }
+        Step step = openStep;
+        openStep = null;
+        if (step.changes.isEmpty()) {
+            return;
+        }
+        dropRedoSteps();
+        undoSteps.push(step);
+        size += step.size;
+        if (isForked()) {
+            stepsSinceFork++;
+        }
+        evict();
+    }
+
+    /**
+     * Records {@code change}, which has just been made, as part of the current step, or as a step of its own
+     * if no step is open.
+     */
+    void record(ModelChange change) {
+        beginStep();
+        openStep.add(change);
+        endStep();
+    }
+
+    /**
+     * Returns true if there is a step to undo. On a fork, only the steps made on the fork can be undone.
+     */
+    boolean canUndo() {
+        return isForked() ? stepsSinceFork > 0 : !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverses the latest step that has not been undone in {@code canoeCoach}.
+     */
+    void undo(CanoeCoach canoeCoach) {
+        assert openDepth == 0 && canUndo();
+        Step step = undoSteps.pop();
+        step.revert(canoeCoach);
+        redoSteps.push(step);
+        if (isForked()) {
+            stepsSinceFork--;
+        }
+    }
+
+    /**
+     * Makes the latest undone step again in {@code canoeCoach}.
+     */
+    void redo(CanoeCoach canoeCoach) {
+        assert openDepth == 0 && canRedo();
+        Step step = redoSteps.pop();
+        step.apply(canoeCoach);
+        undoSteps.push(step);
+        if (isForked()) {
+            stepsSinceFork++;
+        }
+    }
+
+    boolean isForked() {
+        return stepsSinceFork >= 0;
+    }
+
+    /**
+     * Forks the history at the current step. The steps that can be redone are dropped, as the fork starts a new
+     * line of changes.
+     */
+    void fork() {
+        assert openDepth == 0 && !isForked();
+        dropRedoSteps();
+        stepsSinceFork = 0;
+    }
+
+    /**
+     * Keeps the steps made on the fork as ordinary steps, and removes the fork.
+     */
+    void commitFork() {
+        assert openDepth == 0 && isForked();
+        stepsSinceFork = -1;
+        evict();
+    }
+
+    /**
+     * Undoes the steps made on the fork in {@code canoeCoach}, drops them, and removes the fork.
+     */
+    void discardFork(CanoeCoach canoeCoach) {
+        assert openDepth == 0 && isForked();
+        for (; stepsSinceFork > 0; stepsSinceFork--) {
+            Step step = undoSteps.pop();
+            step.revert(canoeCoach);
+            size -= step.size;
+        }
+        dropRedoSteps();
+        stepsSinceFork = -1;
+    }
+
+    /**
+     * Returns the number of students and trainings held by the steps that can be undone or redone.
+     */
+    long size() {
+        return size;
+    }
+
+    private void dropRedoSteps() {
+        redoSteps.forEach(redoStep -> size -= redoStep.size);
+        redoSteps.clear();
+    }
+
+    private void evict() {
+        while (size > limit && undoSteps.size() > Math.max(stepsSinceFork, 0)) {
+            size -= undoSteps.removeLast().size;
+        }
+        while (size > limit && !redoSteps.isEmpty()) {
+            size -= redoSteps.removeLast().size;
+        }
+    }
+
+    /**
+     * The changes made by one edit, or batch of edits, to the model.
+     */
+    private static class Step {
+        private final List<ModelChange> changes = new ArrayList<>();
+        private long size;
+
+        void add(ModelChange change) {
+            changes.add(change);
+            size += change.size();
+        }
+
+        void apply(CanoeCoach canoeCoach) {
+            changes.forEach(change -> change.apply(canoeCoach));
+        }
+
+        void revert(CanoeCoach canoeCoach) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).revert(canoeCoach);
+            }
+        }
+    }
+}
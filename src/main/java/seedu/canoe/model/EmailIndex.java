@@ -0,0 +1,126 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.canoe.model.student.Student;
+
+/**
+ * Indexes the students of a canoe book by the trigrams, the substrings of three characters, of their emails.
+ *
+ * An email contains a keyword of three or more characters only if it contains every trigram of the keyword,
+ * so the students whose emails may contain the keyword are found by intersecting the ids of the keyword's
+ * trigrams. Only those candidates are checked against the keyword.
+ * A keyword shorter than three characters is matched against the indexed trigrams instead, since every email
+ * is longer than any such keyword.
+ */
+class EmailIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, BitSet> idsByTrigram = new HashMap<>();
+    private String[] emailById = new String[0];
+
+    /**
+     * Adds {@code student} to the index under the trigrams of its email.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        String email = student.getEmail().value;
+        for (int i = 0; i + GRAM_LENGTH <= email.length(); i++) {
+            idsByTrigram.computeIfAbsent(email.substring(i, i + GRAM_LENGTH), unused -> new BitSet()).set(id);
+        }
+        if (id >= emailById.length) {
+            emailById = Arrays.copyOf(emailById, Math.max(id + 1, emailById.length * 2));
+        }
+        emailById[id] = email;
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * {@code student} must have the same email as when it was added.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        String email = student.getEmail().value;
+        for (int i = 0; i + GRAM_LENGTH <= email.length(); i++) {
+            String trigram = email.substring(i, i + GRAM_LENGTH);
+            BitSet ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+        emailById[id] = null;
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        idsByTrigram.clear();
+        emailById = new String[0];
+    }
+
+    /**
+     * Returns an upper bound on the number of students whose emails contain {@code keyword}, without checking
+     * any email, or {@code Integer.MAX_VALUE} if {@code keyword} is too short to be estimated.
+     */
+    int estimateIdsContaining(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.length() < GRAM_LENGTH) {
+            return Integer.MAX_VALUE;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            BitSet ids = idsByTrigram.get(keyword.substring(i, i + GRAM_LENGTH));
+            estimate = Math.min(estimate, ids == null ? 0 : ids.cardinality());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the ids of the students whose emails contain {@code keyword}.
+     */
+    BitSet getIdsContaining(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.length() < GRAM_LENGTH) {
+            BitSet result = new BitSet();
+            idsByTrigram.forEach((trigram, ids) -> {
+                if (trigram.contains(keyword)) {
+                    result.or(ids);
+                }
+            });
+            return result;
+        }
+
+        BitSet candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            BitSet ids = idsByTrigram.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (ids == null) {
+                return new BitSet();
+            }
+            if (candidates == null) {
+                candidates = (BitSet) ids.clone();
+            } else {
+                candidates.and(ids);
+            }
+        }
+
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (!emailById[id].contains(keyword)) {
+                candidates.clear(id);
+            }
+        }
+        return candidates;
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.canoe.model;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.canoe.commons.core.GuiSettings;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -56,6 +64,57 @@ public interface Model {
     /** Returns the CanoeCoach */
     ReadOnlyCanoeCoach getCanoeCoach();
 
+    /**
+     * Applies {@code edits} to this model as a batch. The student and training lists each publish the changes
+     * made by {@code edits} as a single change event once {@code edits} return, so the filtered lists and the
+     * views of them are updated once per batch instead of once per edit.
+     * Until then, the filtered lists are not updated, so {@code edits} should look students and trainings up
+     * by id or by date-time rather than through the filtered lists.
+     */
+    void batch(Consumer<Model> edits);
+
+    /**
+     * Returns true if there is an edit, or batch of edits, to the canoe coach book that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Reverses the latest edit, or batch of edits, to the canoe coach book that has not been undone.
+     * There must be such an edit.
+     */
+    void undo();
+
+    /**
+     * Returns true if there is an undone edit, or batch of edits, that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Makes the latest undone edit, or batch of edits, again. There must be such an edit.
+     */
+    void redo();
+
+    /**
+     * Returns true if the model is on a fork started by {@link #fork()}.
+     */
+    boolean isForked();
+
+    /**
+     * Starts a fork, on which the edits that follow can be tried out, and then either kept with
+     * {@link #commitFork()} or thrown away with {@link #discardFork()}. The model must not already be forked.
+     */
+    void fork();
+
+    /**
+     * Keeps the edits made on the fork, and ends it. The model must be forked.
+     */
+    void commitFork();
+
+    /**
+     * Reverses the edits made on the fork, and ends it. The model must be forked.
+     */
+    void discardFork();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in the canoe coach book.
      */
@@ -81,6 +140,25 @@ public interface Model {
      */
     void setStudentInUniqueStudentList(Student target, Student editedStudent);
 
+    /**
+     * Returns the student with the given {@code id}, regardless of the current student filter.
+     */
+    Optional<Student> getStudentById(Id id);
+
+    /**
+     * Returns the students with {@code ids}, in the order of {@code ids}, regardless of the current student filter.
+     * Ids without a student are skipped.
+     */
+    List<Student> findStudents(Collection<Id> ids);
+
+    /**
+     * Replaces the student with the given {@code id} with {@code editedStudent}.
+     * A student with {@code id} must exist in the canoe book.
+     * The student identity of {@code editedStudent} must not be the same as another
+     * existing student in the canoe coach book.
+     */
+    void replaceStudentById(Id id, Student editedStudent);
+
     /**
      * Replaces the given training {@code target} with {@code editedTraining}.
      * {@code target} must exist in the canoe book.
@@ -103,10 +181,98 @@ public interface Model {
      */
     boolean hasTraining(Training training);
 
+    /**
+     * Returns the training at {@code dateTime}, regardless of the current training filter.
+     */
+    Optional<Training> getTrainingAt(LocalDateTime dateTime);
+
+    /**
+     * Returns the trainings at {@code dateTimes}, in the order of {@code dateTimes}, regardless of the current
+     * training filter. Date-times without a training are skipped.
+     */
+    List<Training> findTrainings(Collection<LocalDateTime> dateTimes);
+
+    /**
+     * Returns the trainings from {@code from} to {@code to}, both inclusive, in chronological order,
+     * regardless of the current training filter.
+     */
+    List<Training> getTrainingsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the trainings that the student with {@code studentId} is in, in chronological order,
+     * regardless of the current training filter.
+     */
+    List<Training> getTrainingsOfStudent(Id studentId);
+
+    /**
+     * Returns a new student id that is not used by any student in the canoe book so far.
+     */
+    Id allocateId();
+
+    /**
+     * Marks the students with {@code studentIds} as present for {@code training} if {@code isMarked},
+     * or as absent otherwise.
+     * {@code training} must exist in the canoe book, and every student must exist and be in the training.
+     */
+    void setAttendanceMarked(Training training, List<Id> studentIds, boolean isMarked);
+
+    /**
+     * Returns the number of trainings before {@code before} that the student with {@code studentId} is in,
+     * but has not been marked present for.
+     */
+    int getAbsenceCount(Id studentId, LocalDateTime before);
+
+    /**
+     * Returns the students who have missed more than {@code threshold} trainings before {@code now},
+     * in increasing order of id.
+     */
+    List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime now);
+
+    /**
+     * Returns the students who have missed more than {@code threshold} trainings from {@code from} (inclusive)
+     * to {@code now} (exclusive), in increasing order of id.
+     */
+    List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime from, LocalDateTime now);
+
+    /**
+     * Returns the students who are dismissed at or before the time of {@code dateTime} on its day,
+     * in increasing order of id.
+     */
+    List<Student> getStudentsFreeAt(LocalDateTime dateTime);
+
+    /**
+     * Returns the students who are dismissed from {@code from} to {@code to}, both inclusive, on {@code day},
+     * in increasing order of id.
+     */
+    List<Student> getStudentsDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to);
+
+    /**
+     * Returns the students whose names contain any of {@code keywords} as a full word, ignoring case,
+     * in increasing order of id.
+     */
+    List<Student> getStudentsWithNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the students whose emails contain {@code keyword}, in increasing order of id.
+     */
+    List<Student> getStudentsWithEmailContaining(String keyword);
+
+    /**
+     * Returns the cheapest plan found for answering {@code query} with the student indexes.
+     * The plan must be executed before the model is next changed.
+     */
+    QueryPlan planStudentQuery(Predicate<Student> query);
+
+    /**
+     * Returns a predicate that matches the students matching {@code query} now, evaluated with bitmap set
+     * operations over the student indexes.
+     */
+    Predicate<Student> evaluateStudentQuery(Predicate<Student> query);
+
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
 
-    /** Returns an unmodifiable view of the filtered training list */
+    /** Returns an unmodifiable view of the filtered training list, in chronological order */
     ObservableList<Training> getFilteredTrainingList();
 
     /**
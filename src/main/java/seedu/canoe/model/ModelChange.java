@@ -0,0 +1,44 @@
+package seedu.canoe.model;
+
+import java.util.function.Consumer;
+
+/**
+ * A change made to a canoe book, together with the change that reverses it.
+ */
+class ModelChange {
+
+    private final int size;
+    private final Consumer<CanoeCoach> apply;
+    private final Consumer<CanoeCoach> revert;
+
+    /**
+     * Creates a change that is made by {@code apply} and reversed by {@code revert}, and that holds on to
+     * {@code size} students and trainings.
+     */
+    ModelChange(int size, Consumer<CanoeCoach> apply, Consumer<CanoeCoach> revert) {
+        this.size = size;
+        this.apply = apply;
+        this.revert = revert;
+    }
+
+    /**
+     * Makes the change to {@code canoeCoach}.
+     */
+    void apply(CanoeCoach canoeCoach) {
+        apply.accept(canoeCoach);
+    }
+
+    /**
+     * Reverses the change in {@code canoeCoach}, which must be as the change left it.
+     */
+    void revert(CanoeCoach canoeCoach) {
+        revert.accept(canoeCoach);
+    }
+
+    /**
+     * Returns the number of students and trainings that the change holds on to.
+     */
+    int size() {
+        return size;
+    }
+}
@@ -4,14 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.canoe.commons.core.GuiSettings;
 import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.exceptions.StudentNotFoundException;
 import seedu.canoe.model.training.Training;
 
 /**
@@ -24,6 +37,8 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Training> filteredTrainings;
+    private final SortedList<Training> sortedTrainings;
+    private final EditHistory editHistory;
 
     /**
      * Initializes a ModelManager with the given canoeCoach and userPrefs.
@@ -37,6 +52,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.canoeCoach.getStudentList());
         filteredTrainings = new FilteredList<>(this.canoeCoach.getTrainingList());
+        sortedTrainings = new SortedList<>(filteredTrainings, Comparator.comparing(Training::getDateTime));
+        editHistory = new EditHistory(this.userPrefs.getUndoHistoryLimit());
     }
 
     public ModelManager() {
@@ -49,6 +66,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        editHistory.setLimit(this.userPrefs.getUndoHistoryLimit());
     }
 
     @Override
@@ -82,7 +100,19 @@ public class ModelManager implements Model {
 
     @Override
     public void setCanoeCoach(ReadOnlyCanoeCoach canoeCoach) {
-        this.canoeCoach.resetData(canoeCoach);
+        requireNonNull(canoeCoach);
+        List<Student> oldStudents = new ArrayList<>(this.canoeCoach.getStudentList());
+        List<Training> oldTrainings = new ArrayList<>(this.canoeCoach.getTrainingList());
+        List<Student> newStudents = new ArrayList<>(canoeCoach.getStudentList());
+        List<Training> newTrainings = new ArrayList<>(canoeCoach.getTrainingList());
+        int size = oldStudents.size() + oldTrainings.size() + newStudents.size() + newTrainings.size();
+        apply(new ModelChange(size, book -> {
+            book.setStudents(newStudents);
+            book.setTrainings(newTrainings);
+        }, book -> {
+            book.setStudents(oldStudents);
+            book.setTrainings(oldTrainings);
+        }));
     }
 
     @Override
@@ -90,38 +120,124 @@ public class ModelManager implements Model {
         return canoeCoach;
     }
 
+    @Override
+    public void batch(Consumer<Model> edits) {
+        requireNonNull(edits);
+        editHistory.beginStep();
+        try {
+            canoeCoach.batch(() -> edits.accept(this));
+        } finally {
+            editHistory.endStep();
+        }
+    }
+
+    @Override
+    public boolean canUndo() {
+        return editHistory.canUndo();
+    }
+
+    @Override
+    public void undo() {
+        canoeCoach.batch(() -> editHistory.undo(canoeCoach));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return editHistory.canRedo();
+    }
+
+    @Override
+    public void redo() {
+        canoeCoach.batch(() -> editHistory.redo(canoeCoach));
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
         return canoeCoach.hasStudent(student);
     }
 
+    @Override
+    public boolean isForked() {
+        return editHistory.isForked();
+    }
+
+    @Override
+    public void fork() {
+        editHistory.fork();
+    }
+
+    @Override
+    public void commitFork() {
+        editHistory.commitFork();
+    }
+
+    @Override
+    public void discardFork() {
+        canoeCoach.batch(() -> editHistory.discardFork(canoeCoach));
+    }
+
     @Override
     public void deleteStudent(Student target) {
-        canoeCoach.removeStudent(target);
+        requireNonNull(target);
+        int index = canoeCoach.indexOfStudent(target);
+        apply(new ModelChange(1,
+            book -> book.removeStudent(target),
+            book -> book.addStudent(index, target)));
     }
 
     @Override
     public void addStudent(Student student) {
-        canoeCoach.addStudent(student);
+        requireNonNull(student);
+        apply(new ModelChange(1,
+            book -> book.addStudent(student),
+            book -> book.removeStudent(student)));
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
     @Override
     public void setStudentInUniqueStudentList(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
-        canoeCoach.setStudentInUniqueStudentList(target, editedStudent);
+        apply(new ModelChange(2,
+            book -> book.setStudentInUniqueStudentList(target, editedStudent),
+            book -> book.setStudentInUniqueStudentList(editedStudent, target)));
+    }
+
+    @Override
+    public Optional<Student> getStudentById(Id id) {
+        requireNonNull(id);
+        return canoeCoach.getStudentById(id);
+    }
+
+    @Override
+    public List<Student> findStudents(Collection<Id> ids) {
+        requireNonNull(ids);
+        return canoeCoach.findStudents(ids);
+    }
+
+    @Override
+    public void replaceStudentById(Id id, Student editedStudent) {
+        requireAllNonNull(id, editedStudent);
+        Student target = canoeCoach.getStudentById(id).orElseThrow(StudentNotFoundException::new);
+        apply(new ModelChange(2,
+            book -> book.replaceStudentById(id, editedStudent),
+            book -> book.replaceStudentById(editedStudent.getId(), target)));
     }
 
     @Override
     public void setTraining(Training target, Training editedTraining) {
         requireAllNonNull(target, editedTraining);
-        canoeCoach.setTraining(target, editedTraining);
+        apply(new ModelChange(2,
+            book -> book.setTraining(target, editedTraining),
+            book -> book.setTraining(editedTraining, target)));
     }
 
     @Override
     public void addTraining(Training training) {
-        canoeCoach.addTraining(training);
+        requireNonNull(training);
+        apply(new ModelChange(1,
+            book -> book.addTraining(training),
+            book -> book.removeTraining(training)));
     }
 
     @Override
@@ -129,9 +245,119 @@ public class ModelManager implements Model {
         return canoeCoach.hasTraining(training);
     }
 
+    @Override
+    public Optional<Training> getTrainingAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return canoeCoach.getTrainingAt(dateTime);
+    }
+
+    @Override
+    public List<Training> findTrainings(Collection<LocalDateTime> dateTimes) {
+        requireNonNull(dateTimes);
+        return canoeCoach.findTrainings(dateTimes);
+    }
+
+    @Override
+    public List<Training> getTrainingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return canoeCoach.getTrainingsBetween(from, to);
+    }
+
+    @Override
+    public List<Training> getTrainingsOfStudent(Id studentId) {
+        requireNonNull(studentId);
+        return canoeCoach.getTrainingsOfStudent(studentId);
+    }
+
+    @Override
+    public Id allocateId() {
+        return canoeCoach.allocateId();
+    }
+
+    @Override
+    public void setAttendanceMarked(Training training, List<Id> studentIds, boolean isMarked) {
+        requireAllNonNull(training, studentIds);
+        // Only the students whose marks are changed have them changed back.
+        List<Id> changedIds = studentIds.stream()
+                .filter(id -> canoeCoach.getStudentById(id)
+                        .map(student -> student.isAttendanceMarked(training.getDateTime()) != isMarked)
+                        .orElse(false))
+                .collect(Collectors.toList());
+        List<Id> markedIds = new ArrayList<>(studentIds);
+        apply(new ModelChange(1,
+            book -> book.setAttendanceMarked(training, markedIds, isMarked),
+            book -> book.setAttendanceMarked(training, changedIds, !isMarked)));
+    }
+
+    @Override
+    public int getAbsenceCount(Id studentId, LocalDateTime before) {
+        requireAllNonNull(studentId, before);
+        return canoeCoach.getAbsenceCount(studentId, before);
+    }
+
+    @Override
+    public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime now) {
+        requireNonNull(now);
+        return canoeCoach.getStudentsAbsentMoreThan(threshold, now);
+    }
+
+    @Override
+    public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime from, LocalDateTime now) {
+        requireAllNonNull(from, now);
+        return canoeCoach.getStudentsAbsentMoreThan(threshold, from, now);
+    }
+
+    @Override
+    public List<Student> getStudentsFreeAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return canoeCoach.getStudentsFreeAt(dateTime);
+    }
+
+    @Override
+    public List<Student> getStudentsDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to) {
+        requireAllNonNull(day, from, to);
+        return canoeCoach.getStudentsDismissedBetween(day, from, to);
+    }
+
+    @Override
+    public List<Student> getStudentsWithNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return canoeCoach.getStudentsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public List<Student> getStudentsWithEmailContaining(String keyword) {
+        requireNonNull(keyword);
+        return canoeCoach.getStudentsWithEmailContaining(keyword);
+    }
+
+    @Override
+    public QueryPlan planStudentQuery(Predicate<Student> query) {
+        requireNonNull(query);
+        return canoeCoach.planStudentQuery(query);
+    }
+
+    @Override
+    public Predicate<Student> evaluateStudentQuery(Predicate<Student> query) {
+        requireNonNull(query);
+        return canoeCoach.evaluateStudentQuery(query);
+    }
+
     @Override
     public void deleteTraining(Training training) {
-        canoeCoach.removeTraining(training);
+        requireNonNull(training);
+        int index = canoeCoach.indexOfTraining(training);
+        apply(new ModelChange(1,
+            book -> book.removeTraining(training),
+            book -> book.addTraining(index, training)));
+    }
+
+    /**
+     * Makes {@code change} to the canoe book, and records it in the edit history.
+     */
+    private void apply(ModelChange change) {
+        change.apply(canoeCoach);
+        editHistory.record(change);
     }
 
     //=========== Filtered Student List Accessors =============================================================
@@ -145,9 +371,13 @@ public class ModelManager implements Model {
         return filteredStudents;
     }
 
+    /**
+     * Returns an unmodifiable view of the filtered list of {@code Training} in chronological order.
+     * The view places each added training by binary search, rather than sorting the trainings again.
+     */
     @Override
     public ObservableList<Training> getFilteredTrainingList() {
-        return filteredTrainings;
+        return sortedTrainings;
     }
 
     @Override
@@ -0,0 +1,103 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.canoe.model.student.Student;
+
+/**
+ * Indexes the students of a canoe book by the words in their names.
+ *
+ * Every word of a name is case-folded and mapped to the ids of the students whose names contain it, so the
+ * students matching a name keyword are found with one lookup, instead of splitting the name of every student.
+ */
+class NameIndex {
+
+    private static final String WORD_SEPARATOR = "\\s+";
+
+    private final Map<String, BitSet> idsByWord = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index under the words of its name.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        for (String word : toWords(student)) {
+            idsByWord.computeIfAbsent(word, unused -> new BitSet()).set(id);
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * {@code student} must have the same name as when it was added.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        int id = student.getId().intValue();
+        for (String word : toWords(student)) {
+            BitSet ids = idsByWord.get(word);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                idsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        idsByWord.clear();
+    }
+
+    /**
+     * Returns the ids of the students whose names contain any of {@code keywords} as a full word,
+     * ignoring case.
+     */
+    BitSet getIdsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            BitSet ids = idsByWord.get(fold(keyword.trim()));
+            if (ids != null) {
+                result.or(ids);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of students whose names contain any of {@code keywords},
+     * without building the set of their ids.
+     */
+    int estimateIdsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            BitSet ids = idsByWord.get(fold(keyword.trim()));
+            estimate += ids == null ? 0 : ids.cardinality();
+        }
+        return estimate;
+    }
+
+    private static String[] toWords(Student student) {
+        String[] words = student.getName().fullName.split(WORD_SEPARATOR);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = fold(words[i]);
+        }
+        return words;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
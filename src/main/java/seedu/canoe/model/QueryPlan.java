@@ -0,0 +1,53 @@
+package seedu.canoe.model;
+
+import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.canoe.model.student.Student;
+
+/**
+ * Represents the way a query over the students of a canoe book is answered, as chosen by the query planner.
+ * Guarantees: immutable; the students matched by {@link #execute()} are exactly those matching the query.
+ */
+public class QueryPlan {
+
+    private final String explanation;
+    private final long estimatedCost;
+    private final Supplier<Predicate<Student>> execution;
+
+    QueryPlan(String explanation, long estimatedCost, Supplier<Predicate<Student>> execution) {
+        requireAllNonNull(explanation, execution);
+        this.explanation = explanation;
+        this.estimatedCost = estimatedCost;
+        this.execution = execution;
+    }
+
+    /**
+     * Returns a description of the steps of this plan, with their estimated number of students and cost.
+     */
+    public String explain() {
+        return explanation;
+    }
+
+    /**
+     * Returns the estimated number of students touched by this plan.
+     */
+    public long getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    /**
+     * Runs this plan, and returns a predicate that matches the students found.
+     * The predicate only looks up the results of the plan, so it is cheap to test on every student.
+     */
+    public Predicate<Student> execute() {
+        return execution.get();
+    }
+
+    @Override
+    public String toString() {
+        return explanation;
+    }
+}
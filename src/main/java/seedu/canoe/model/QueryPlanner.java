@@ -0,0 +1,299 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.canoe.model.student.AcademicYearMatchesPredicate;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.DateTimeMatchesPredicate;
+import seedu.canoe.model.student.EmailContainsKeywordPredicate;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.IdSetPredicate;
+import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.StudentQuery;
+import seedu.canoe.model.student.StudentQueryVisitor;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.student.UniqueStudentList;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+import seedu.canoe.model.training.Training;
+import seedu.canoe.model.training.UniqueTrainingList;
+
+/**
+ * Plans queries over the students of a canoe book against its student indexes.
+ *
+ * Every node of a query is given an estimate of the number of students it matches, and a cost in students
+ * touched. A clause answered by an index is looked up directly, and a NOT node whose clause is looked up is
+ * answered with its complement. An AND node starts from its most selective
+ * looked-up clause, and tests its other clauses, most selective first, only on the students found. An OR node
+ * unions its clauses if every one of them can be looked up. A query that cannot be looked up, or whose lookup
+ * would touch as many students as the whole roster, is answered by testing every student.
+ */
+class QueryPlanner implements StudentQueryVisitor<QueryPlanner.Step> {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String INDENT = "  ";
+
+    private final UniqueStudentList students;
+    private final UniqueTrainingList trainings;
+    private final NameIndex nameIndex;
+    private final EmailIndex emailIndex;
+    private final DismissalIndex dismissalIndex;
+    private final ValueIndex<Integer> academicYearIndex;
+    private final ValueIndex<String> tagIndex;
+    private final BitmapQueryEvaluator evaluator;
+    private final int rosterSize;
+
+    QueryPlanner(UniqueStudentList students, UniqueTrainingList trainings, NameIndex nameIndex,
+                 EmailIndex emailIndex, DismissalIndex dismissalIndex, ValueIndex<Integer> academicYearIndex,
+                 ValueIndex<String> tagIndex, BitmapQueryEvaluator evaluator) {
+        this.students = students;
+        this.trainings = trainings;
+        this.nameIndex = nameIndex;
+        this.emailIndex = emailIndex;
+        this.dismissalIndex = dismissalIndex;
+        this.academicYearIndex = academicYearIndex;
+        this.tagIndex = tagIndex;
+        this.evaluator = evaluator;
+        this.rosterSize = students.asUnmodifiableObservableList().size();
+    }
+
+    /**
+     * Returns the cheapest plan found for {@code query}.
+     */
+    QueryPlan plan(Predicate<Student> query) {
+        requireNonNull(query);
+        Step step = planNode(query);
+        if (step.isIndexed() && step.cost < rosterSize) {
+            StringBuilder explanation = new StringBuilder(String.format(
+                    "Plan for %d students, estimated cost %d:", rosterSize, step.cost));
+            step.describe(explanation, INDENT);
+            return new QueryPlan(explanation.toString(), step.cost, () -> toPredicate(step.lookup.get()));
+        }
+
+        StringBuilder explanation = new StringBuilder(String.format(
+                "Plan for %d students, estimated cost %d:\n%sscan all students", rosterSize, rosterSize, INDENT));
+        step.describe(explanation, INDENT + INDENT);
+        return new QueryPlan(explanation.toString(), rosterSize, () -> query);
+    }
+
+    private Step planNode(Predicate<Student> query) {
+        if (query instanceof StudentQuery) {
+            return ((StudentQuery) query).accept(this);
+        }
+        return Step.test("test custom condition", rosterSize, query);
+    }
+
+    @Override
+    public Step visitAllMatch(AllMatchPredicateList query) {
+        List<Step> children = new ArrayList<>();
+        query.getPredicates().forEach(predicate -> children.add(planNode(predicate)));
+        if (children.isEmpty()) {
+            return Step.test("match every student", rosterSize, query);
+        }
+
+        children.sort(Comparator.comparingInt(step -> step.estimate));
+        Optional<Step> driver = children.stream().filter(Step::isIndexed).findFirst();
+        int estimate = children.get(0).estimate;
+        if (driver.isEmpty()) {
+            return Step.test(String.format("AND, est. %d students", estimate), estimate, query, children);
+        }
+
+        // Tests the other clauses, most selective first, only on the students found by the driver.
+        List<Step> residuals = new ArrayList<>(children);
+        residuals.remove(driver.get());
+        children.remove(driver.get());
+        children.add(0, driver.get());
+        long cost = driver.get().cost + (residuals.isEmpty() ? 0 : driver.get().estimate);
+        Supplier<BitSet> lookup = () -> {
+            BitSet ids = driver.get().lookup.get();
+            for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                Optional<Student> student = students.getStudentById(new Id(id));
+                if (student.isEmpty() || !residuals.stream().allMatch(step -> step.predicate.test(student.get()))) {
+                    ids.clear(id);
+                }
+            }
+            return ids;
+        };
+        return Step.lookUp(String.format("AND, est. %d students, starting from the first clause", estimate),
+                estimate, cost, lookup, query, children);
+    }
+
+    @Override
+    public Step visitAnyMatch(AnyMatchPredicateList query) {
+        List<Step> children = new ArrayList<>();
+        query.getPredicates().forEach(predicate -> children.add(planNode(predicate)));
+        int estimate = (int) Math.min(rosterSize, children.stream().mapToLong(step -> step.estimate).sum());
+        if (!children.stream().allMatch(Step::isIndexed)) {
+            return Step.test(String.format("OR, est. %d students", estimate), estimate, query, children);
+        }
+
+        long cost = children.stream().mapToLong(step -> step.cost).sum();
+        Supplier<BitSet> lookup = () -> {
+            BitSet ids = new BitSet();
+            children.forEach(step -> ids.or(step.lookup.get()));
+            return ids;
+        };
+        return Step.lookUp(String.format("OR, est. %d students, union of the clauses", estimate),
+                estimate, cost, lookup, query, children);
+    }
+
+    @Override
+    public Step visitNot(NotMatchPredicate query) {
+        Step child = planNode(query.getPredicate());
+        int estimate = Math.max(0, rosterSize - child.estimate);
+        if (!child.isIndexed()) {
+            return Step.test(String.format("NOT, est. %d students", estimate), estimate, query, List.of(child));
+        }
+        return Step.lookUp(String.format("NOT, est. %d students, complement of the clause", estimate),
+                estimate, child.cost, () -> evaluator.evaluate(query), query, List.of(child));
+    }
+
+    @Override
+    public Step visitId(IdMatchesPredicate query) {
+        String idValue = query.getIdValue();
+        Optional<Student> student = idValue != null && Id.isValidId(idValue)
+                ? students.getStudentById(new Id(idValue))
+                : Optional.empty();
+        int estimate = student.isPresent() ? 1 : 0;
+        return Step.lookUp(String.format("look up id %s, est. %d students", idValue, estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitIdSet(IdSetPredicate query) {
+        int estimate = Math.min(rosterSize, query.size());
+        return Step.lookUp(String.format("look up %d ids, est. %d students", query.size(), estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitPhone(PhoneMatchesPredicate query) {
+        // Phone numbers are not indexed, but are rarely shared.
+        return Step.test(String.format("test phone %s, est. 1 student", query.getPhone()), 1, query);
+    }
+
+    @Override
+    public Step visitAcademicYear(AcademicYearMatchesPredicate query) {
+        int year = Integer.parseInt(query.getAcademicYear().value);
+        int estimate = academicYearIndex.countBetween(year, year);
+        return Step.lookUp(String.format("look up academic year %d, est. %d students", year, estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitAcademicYearRange(AcademicYearRangePredicate query) {
+        int estimate = academicYearIndex.countBetween(query.getFrom(), query.getTo());
+        return Step.lookUp(String.format("look up academic years %d to %d, est. %d students", query.getFrom(),
+                query.getTo(), estimate), estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitTag(TagMatchesPredicate query) {
+        String tagName = query.getTag().tagName;
+        int estimate = tagIndex.countBetween(tagName, tagName);
+        return Step.lookUp(String.format("look up tag %s, est. %d students", tagName, estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitName(NameContainsKeywordsPredicate query) {
+        List<String> keywords = query.getKeywords();
+        int estimate = Math.min(rosterSize, nameIndex.estimateIdsWithAnyWord(keywords));
+        return Step.lookUp(String.format("look up name words %s, est. %d students", keywords, estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitEmail(EmailContainsKeywordPredicate query) {
+        String keyword = query.getKeyword();
+        int estimate = Math.min(rosterSize, emailIndex.estimateIdsContaining(keyword));
+        return Step.lookUp(String.format("look up email trigrams of \"%s\", est. %d students", keyword, estimate),
+                estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitDismissalRange(DismissalRangePredicate query) {
+        int estimate = dismissalIndex.countDismissedBetween(query.getDay(), query.getFrom(), query.getTo());
+        return Step.lookUp(String.format("look up %s dismissals from %s to %s, est. %d students", query.getDay(),
+                query.getFrom(), query.getTo(), estimate), estimate, estimate, () -> evaluator.evaluate(query), query);
+    }
+
+    @Override
+    public Step visitTrainingDateTime(DateTimeMatchesPredicate query) {
+        LocalDateTime dateTime = query.getDateTime();
+        Optional<Training> training = trainings.getTrainingAt(dateTime);
+        int estimate = training.map(found -> found.getStudentIds().size()).orElse(0);
+        return Step.lookUp(String.format("look up members of training at %s, est. %d students",
+                dateTime.format(DATE_TIME_FORMAT), estimate), estimate, estimate, () -> evaluator.evaluate(query),
+                query);
+    }
+
+    private static Predicate<Student> toPredicate(BitSet ids) {
+        return student -> ids.get(student.getId().intValue());
+    }
+
+    /**
+     * A planned node of a query.
+     */
+    static class Step {
+        private final String description;
+        private final int estimate;
+        private final long cost;
+        private final Supplier<BitSet> lookup;
+        private final Predicate<Student> predicate;
+        private final List<Step> children;
+
+        private Step(String description, int estimate, long cost, Supplier<BitSet> lookup,
+                     Predicate<Student> predicate, List<Step> children) {
+            this.description = description;
+            this.estimate = estimate;
+            this.cost = cost;
+            this.lookup = lookup;
+            this.predicate = predicate;
+            this.children = children;
+        }
+
+        private static Step lookUp(String description, int estimate, long cost, Supplier<BitSet> lookup,
+                                   Predicate<Student> predicate, List<Step> children) {
+            return new Step(description, estimate, cost, lookup, predicate, children);
+        }
+
+        private static Step lookUp(String description, int estimate, long cost, Supplier<BitSet> lookup,
+                                   Predicate<Student> predicate) {
+            return lookUp(description, estimate, cost, lookup, predicate, List.of());
+        }
+
+        private static Step test(String description, int estimate, Predicate<Student> predicate,
+                                 List<Step> children) {
+            return new Step(description, estimate, Long.MAX_VALUE, null, predicate, children);
+        }
+
+        private static Step test(String description, int estimate, Predicate<Student> predicate) {
+            return test(description, estimate, predicate, List.of());
+        }
+
+        private boolean isIndexed() {
+            return lookup != null;
+        }
+
+        private void describe(StringBuilder explanation, String indent) {
+            explanation.append('\n').append(indent).append(description);
+            children.forEach(child -> child.describe(explanation, indent + INDENT));
+        }
+    }
+}
@@ -16,4 +16,10 @@ public interface ReadOnlyCanoeCoach {
     ObservableList<Student> getStudentList();
 
     ObservableList<Training> getTrainingList();
+
+    /**
+     * Returns the number of changes made to the canoe coach book so far.
+     * The count only stays the same while the book is unchanged, so it tells whether the book needs saving again.
+     */
+    long getModificationCount();
 }
@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getCanoeCoachFilePath();
 
+    CanoeCoachFileFormat getCanoeCoachFileFormat();
+
+    int getUndoHistoryLimit();
+
 }
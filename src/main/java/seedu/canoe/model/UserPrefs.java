@@ -1,6 +1,7 @@
 package seedu.canoe.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.canoe.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,15 @@ import seedu.canoe.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Default number of students and trainings that the undo history may hold. */
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 10000;
+
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_LIMIT = "Undo history limit must not be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path canoeCoachFilePath = Paths.get("data" , "canoecoach.json");
+    private CanoeCoachFileFormat canoeCoachFileFormat = CanoeCoachFileFormat.JSON;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setCanoeCoachFilePath(newUserPrefs.getCanoeCoachFilePath());
+        setCanoeCoachFileFormat(newUserPrefs.getCanoeCoachFileFormat());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,27 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.canoeCoachFilePath = canoeCoachFilePath;
     }
 
+    public CanoeCoachFileFormat getCanoeCoachFileFormat() {
+        return canoeCoachFileFormat;
+    }
+
+    public void setCanoeCoachFileFormat(CanoeCoachFileFormat canoeCoachFileFormat) {
+        requireNonNull(canoeCoachFileFormat);
+        this.canoeCoachFileFormat = canoeCoachFileFormat;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the number of students and trainings that the undo history may hold, which must not be negative.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, MESSAGE_INVALID_UNDO_HISTORY_LIMIT);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +99,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && canoeCoachFilePath.equals(o.canoeCoachFilePath);
+                && canoeCoachFilePath.equals(o.canoeCoachFilePath)
+                && canoeCoachFileFormat == o.canoeCoachFileFormat
+                && undoHistoryLimit == o.undoHistoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, canoeCoachFilePath);
+        return Objects.hash(guiSettings, canoeCoachFilePath, canoeCoachFileFormat, undoHistoryLimit);
     }
 
     @Override
@@ -81,6 +114,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + canoeCoachFilePath);
+        sb.append("\nLocal data file format : " + canoeCoachFileFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
         return sb.toString();
     }
 
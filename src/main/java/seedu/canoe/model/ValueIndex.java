@@ -0,0 +1,90 @@
+package seedu.canoe.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes the ids of the students of a canoe book by a sortable value of theirs, such as their academic year
+ * or one of their tags.
+ *
+ * The ids of the students with each value are kept as a bitmap in a map sorted by value, so the students with
+ * a value, or with a value within a range, are found by combining a few bitmaps a word at a time, instead of
+ * reading the value of every student.
+ *
+ * @param <K> the type of the indexed values.
+ */
+class ValueIndex<K extends Comparable<K>> {
+
+    private final NavigableMap<K, BitSet> idsByValue = new TreeMap<>();
+
+    /**
+     * Adds the student with {@code id} to the index under {@code value}.
+     */
+    void add(K value, int id) {
+        requireNonNull(value);
+        idsByValue.computeIfAbsent(value, unused -> new BitSet()).set(id);
+    }
+
+    /**
+     * Removes the student with {@code id} from the index under {@code value}.
+     */
+    void remove(K value, int id) {
+        requireNonNull(value);
+        BitSet ids = idsByValue.get(value);
+        if (ids == null) {
+            return;
+        }
+        ids.clear(id);
+        if (ids.isEmpty()) {
+            idsByValue.remove(value);
+        }
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        idsByValue.clear();
+    }
+
+    /**
+     * Returns the ids of the students with {@code value}.
+     */
+    BitSet get(K value) {
+        requireNonNull(value);
+        BitSet ids = idsByValue.get(value);
+        return ids == null ? new BitSet() : (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the ids of the students with a value from {@code from} to {@code to}, both inclusive.
+     */
+    BitSet getBetween(K from, K to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        BitSet result = new BitSet();
+        if (from.compareTo(to) <= 0) {
+            idsByValue.subMap(from, true, to, true).values().forEach(result::or);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of students with a value from {@code from} to {@code to}, both inclusive,
+     * without building the set of their ids.
+     */
+    int countBetween(K from, K to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int count = 0;
+        if (from.compareTo(to) <= 0) {
+            for (BitSet ids : idsByValue.subMap(from, true, to, true).values()) {
+                count += ids.cardinality();
+            }
+        }
+        return count;
+    }
+}
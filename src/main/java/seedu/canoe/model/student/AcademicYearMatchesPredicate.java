@@ -1,11 +1,9 @@
 package seedu.canoe.model.student;
 
-import java.util.function.Predicate;
-
 /**
  * Tests that a {@code Student}'s {@code AcademicYear} value matches the value given.
  */
-public class AcademicYearMatchesPredicate implements Predicate<Student> {
+public class AcademicYearMatchesPredicate implements StudentQuery {
     private final AcademicYear year;
 
     public AcademicYearMatchesPredicate(AcademicYear year) {
@@ -13,6 +11,15 @@ public class AcademicYearMatchesPredicate implements Predicate<Student> {
     }
 
 
+    public AcademicYear getAcademicYear() {
+        return year;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitAcademicYear(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getAcademicYear().equals(year);
@@ -0,0 +1,45 @@
+package seedu.canoe.model.student;
+
+/**
+ * Tests that a {@code Student}'s {@code AcademicYear} value is within a range of years, both inclusive.
+ */
+public class AcademicYearRangePredicate implements StudentQuery {
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs an {@code AcademicYearRangePredicate} for academic years from {@code from} to {@code to}.
+     */
+    public AcademicYearRangePredicate(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitAcademicYearRange(this);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        int year = Integer.parseInt(student.getAcademicYear().value);
+        return from <= year && year <= to;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AcademicYearRangePredicate // instanceof handles nulls
+                && from == ((AcademicYearRangePredicate) other).from
+                && to == ((AcademicYearRangePredicate) other).to); // state check
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.canoe.model.student;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -9,7 +10,7 @@ import java.util.function.Predicate;
  * Tests that the searched parameters match any of the predicates in the predicate list.
  * If the predicate list is empty, it defaults to false.
  */
-public class AnyMatchPredicateList implements Predicate<Student> {
+public class AnyMatchPredicateList implements StudentQuery {
     private final List<Predicate<Student>> predicates;
 
     public AnyMatchPredicateList(List<Predicate<Student>> predicates) {
@@ -29,10 +30,19 @@ public class AnyMatchPredicateList implements Predicate<Student> {
         return predicates.add(predicate);
     }
 
+    public List<Predicate<Student>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
     public boolean isEmpty() {
         return predicates.isEmpty();
     }
 
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitAnyMatch(this);
+    }
+
     @Override
     public boolean test(Student student) {
         if (predicates.isEmpty()) {
@@ -12,32 +12,25 @@ import java.time.format.DateTimeFormatter;
 public class Attendance implements Comparable<Attendance> {
 
     private final LocalDateTime trainingTime;
-
-    //By default, isMarked is false when initialised.
-    private boolean isMarked = false;
+    private final boolean isMarked;
 
     /**
-     * Constructs an Attend class from the time of that the training is conducted.
+     * Constructs an unmarked Attendance from the time that the training is conducted.
      * @param trainingTime time that the training is held.
      */
-
     public Attendance(LocalDateTime trainingTime) {
-        requireNonNull(trainingTime);
-        this.trainingTime = trainingTime;
+        this(trainingTime, false);
     }
 
     /**
-     * Marks the Attendance.
-     */
-    public void marks() {
-        isMarked = true;
-    }
-
-    /**
-     * Unarks the Attendance.
+     * Constructs an Attendance from the time that the training is conducted and whether it is marked.
+     * @param trainingTime time that the training is held.
+     * @param isMarked whether the student has been marked present.
      */
-    public void unmarks() {
-        isMarked = false;
+    public Attendance(LocalDateTime trainingTime, boolean isMarked) {
+        requireNonNull(trainingTime);
+        this.trainingTime = trainingTime;
+        this.isMarked = isMarked;
     }
 
     /**
@@ -1,18 +1,26 @@
 package seedu.canoe.model.student;
 
 import java.time.LocalDateTime;
-import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Student}'s training schedules contain the training with the specific date time.
  */
-public class DateTimeMatchesPredicate implements Predicate<Student> {
+public class DateTimeMatchesPredicate implements StudentQuery {
     private final LocalDateTime dateTime;
 
     public DateTimeMatchesPredicate(LocalDateTime dateTime) {
         this.dateTime = dateTime;
     }
 
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitTrainingDateTime(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getTrainingAttendances().stream().map(attendance -> attendance.getTrainingTime())
@@ -1,17 +1,24 @@
 package seedu.canoe.model.student;
 
-import java.util.function.Predicate;
-
 /**
  * Tests that a {@code Student}'s {@code Email} contains the keyword given.
  */
-public class EmailContainsKeywordPredicate implements Predicate<Student> {
+public class EmailContainsKeywordPredicate implements StudentQuery {
     private final String keyword;
 
     public EmailContainsKeywordPredicate(String keyword) {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitEmail(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getEmail().value.contains(keyword);
@@ -2,52 +2,57 @@ package seedu.canoe.model.student;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
-import java.util.Set;
-
 import seedu.canoe.commons.util.StringUtil;
 
 /**
  * Represents a Student's id in the canoe coach book.
+ * Guarantees: immutable; the value is a non-negative int, where 0 is the placeholder value.
+ * Allocation of new values is left to the {@link IdAllocator} of the book that the student is in.
  */
-public class Id {
+public class Id implements Comparable<Id> {
     public static final String MESSAGE_CONSTRAINTS = "Id must be a non-zero positive integer!";
 
+    /**
+     * The largest id that a stored student can have. The student indexes of the canoe coach book are bitmaps
+     * indexed by id, so the ids in a data file are kept to this bound when it is loaded.
+     */
+    public static final int MAX_VALUE = 9_999_999;
+
+    public static final String MESSAGE_TOO_LARGE = "Id must be at most " + MAX_VALUE + "!";
+
     /** validates if the string is numeric */
     public static final String VALIDATION_REGEX = "^[1-9][0-9]*$";
 
     /** placeholder value */
     public static final String PLACEHOLDER_VALUE = "0";
 
-    /** fields allowing auto-assignment and uniqueness of Id value */
-    private static int lastUsedId = 0;
-    private static final Set<String> usedIds = new HashSet<>();
+    private static final Id PLACEHOLDER_ID = new Id(0);
 
-    public final String value;
+    private final int value;
 
     /**
      * Constructs an {@code Id} with value.
      */
     public Id(String value) {
-        requireNonNull(value);
-        if (!value.equals(PLACEHOLDER_VALUE) && !isUsedId(value)) {
-            Id.usedIds.add(value);
-            Id.lastUsedId = Integer.parseInt(value);
+        this(Integer.parseInt(requireNonNull(value)));
+    }
+
+    /**
+     * Constructs an {@code Id} with an int value.
+     */
+    public Id(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.value = value;
     }
 
     public String getValue() {
-        return this.value;
+        return String.valueOf(value);
     }
 
-    /**
-     * Generates a new Id with auto-assigned value.
-     */
-    public static Id newId() {
-        lastUsedId++;
-        String newIdValue = String.valueOf(lastUsedId);
-        return new Id(newIdValue);
+    public int intValue() {
+        return value;
     }
 
     /**
@@ -57,43 +62,29 @@ public class Id {
         return test.matches(VALIDATION_REGEX) && StringUtil.isNonZeroUnsignedInteger(test);
     }
 
-    /**
-     * Returns true if a given string has been used as an Id value.
-     */
-    public static boolean isUsedId(String test) {
-        return Id.usedIds.contains(test);
-    }
-
     public static Id getPlaceHolderId() {
-        return new Id(Id.PLACEHOLDER_VALUE);
+        return PLACEHOLDER_ID;
     }
 
-    public static int getLastUsedId() {
-        return lastUsedId;
+    public boolean isPlaceHolder() {
+        return value == 0;
     }
 
-    public static Set<String> getUsedIds() {
-        return usedIds;
-    }
-
-    /**
-     * Resets the last used id value and clears all used id records.
-     */
-    public static void resetId() {
-        Id.usedIds.clear();
-        Id.lastUsedId = 0;
+    @Override
+    public int compareTo(Id other) {
+        return Integer.compare(value, other.value);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Id // instanceof handles nulls
-                && value.equals(((Id) other).value)); // state check
+                && value == ((Id) other).value); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(value);
     }
 
     @Override
@@ -0,0 +1,78 @@
+package seedu.canoe.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out student ids for a single canoe coach book.
+ * Ids in use are tracked in a {@code BitSet}, and new ids are taken from a counter that always stays above the
+ * highest id seen, so the ids of removed students are not handed out again. Once the counter passes
+ * {@link Id#MAX_VALUE}, the lowest id not in use is handed out instead.
+ * Safe to use from multiple threads.
+ */
+public class IdAllocator {
+
+    private final BitSet usedIds = new BitSet();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /**
+     * Records {@code id} as used. Placeholder ids, and ids above {@link Id#MAX_VALUE}, which are never handed out,
+     * are ignored.
+     */
+    public void markUsed(Id id) {
+        requireNonNull(id);
+        int value = id.intValue();
+        if (id.isPlaceHolder() || value > Id.MAX_VALUE) {
+            return;
+        }
+        synchronized (usedIds) {
+            usedIds.set(value);
+        }
+        nextId.accumulateAndGet(value + 1, Math::max);
+    }
+
+    /**
+     * Returns a new id that has not been used in this book, and records it as used.
+     *
+     * @throws IllegalStateException if every id up to {@link Id#MAX_VALUE} is in use.
+     */
+    public Id allocate() {
+        while (true) {
+            int candidate = nextId.getAndUpdate(value -> Math.min(value, Id.MAX_VALUE) + 1);
+            synchronized (usedIds) {
+                if (candidate > Id.MAX_VALUE) {
+                    candidate = usedIds.nextClearBit(1);
+                }
+                if (candidate > Id.MAX_VALUE) {
+                    throw new IllegalStateException("Every student id up to " + Id.MAX_VALUE + " is in use.");
+                }
+                if (!usedIds.get(candidate)) {
+                    usedIds.set(candidate);
+                    return new Id(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code id} has been used in this book.
+     */
+    public boolean isUsed(Id id) {
+        requireNonNull(id);
+        synchronized (usedIds) {
+            return usedIds.get(id.intValue());
+        }
+    }
+
+    /**
+     * Forgets all used ids, so that allocation starts again from 1.
+     */
+    public void reset() {
+        synchronized (usedIds) {
+            usedIds.clear();
+            nextId.set(1);
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.canoe.model.student;
 
-import java.util.function.Predicate;
-
 /**
  * Tests that a {@code Student}'s {@code Id} value matches the value given.
  */
-public class IdMatchesPredicate implements Predicate<Student> {
+public class IdMatchesPredicate implements StudentQuery {
     private final String idValue;
 
     public IdMatchesPredicate(String idValue) {
         this.idValue = idValue;
     }
 
+    public String getIdValue() {
+        return idValue;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitId(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getId().getValue().equals(idValue);
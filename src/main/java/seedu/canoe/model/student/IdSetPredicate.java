@@ -0,0 +1,75 @@
+package seedu.canoe.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Tests that a {@code Student}'s {@code Id} is one of the ids given.
+ *
+ * The ids are kept as a bitmap indexed by id, like the student indexes of the canoe coach book, so testing a
+ * student takes a single lookup, however many ids are given. Ids above {@link Id#MAX_VALUE}, which no stored
+ * student has, are kept apart so that they do not make the bitmap large.
+ */
+public class IdSetPredicate implements StudentQuery {
+    private final BitSet ids = new BitSet();
+    private final SortedSet<Integer> idsAboveMaxValue = new TreeSet<>();
+    private final int size;
+
+    /**
+     * Constructs an {@code IdSetPredicate} for the students with any of {@code ids}.
+     */
+    public IdSetPredicate(Collection<Id> ids) {
+        requireNonNull(ids);
+        for (Id id : ids) {
+            int value = id.intValue();
+            if (value > Id.MAX_VALUE) {
+                idsAboveMaxValue.add(value);
+            } else {
+                this.ids.set(value);
+            }
+        }
+        size = this.ids.cardinality() + idsAboveMaxValue.size();
+    }
+
+    /**
+     * Returns a bitmap of the ids that a stored student can have, indexed by id.
+     */
+    public BitSet getIds() {
+        return (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the number of distinct ids.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitIdSet(this);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        int value = student.getId().intValue();
+        return value > Id.MAX_VALUE ? idsAboveMaxValue.contains(value) : ids.get(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IdSetPredicate // instanceof handles nulls
+                && ids.equals(((IdSetPredicate) other).ids)
+                && idsAboveMaxValue.equals(((IdSetPredicate) other).idsAboveMaxValue)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return idsAboveMaxValue.isEmpty() ? ids.toString() : ids + " " + idsAboveMaxValue;
+    }
+}
@@ -1,20 +1,28 @@
 package seedu.canoe.model.student;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.canoe.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Student> {
+public class NameContainsKeywordsPredicate implements StudentQuery {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitName(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return keywords.stream()
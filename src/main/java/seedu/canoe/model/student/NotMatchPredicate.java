@@ -0,0 +1,42 @@
+package seedu.canoe.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Student} does not match the predicate given.
+ */
+public class NotMatchPredicate implements StudentQuery {
+    private final Predicate<Student> predicate;
+
+    /**
+     * Constructs a {@code NotMatchPredicate} for the students not matching {@code predicate}.
+     */
+    public NotMatchPredicate(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public Predicate<Student> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitNot(this);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return !predicate.test(student);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotMatchPredicate // instanceof handles nulls
+                && predicate.equals(((NotMatchPredicate) other).predicate)); // state check
+    }
+
+}
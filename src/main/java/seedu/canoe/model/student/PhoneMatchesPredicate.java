@@ -1,17 +1,24 @@
 package seedu.canoe.model.student;
 
-import java.util.function.Predicate;
-
 /**
  * Tests that a {@code Student}'s {@code Phone} value matches the value given.
  */
-public class PhoneMatchesPredicate implements Predicate<Student> {
+public class PhoneMatchesPredicate implements StudentQuery {
     private final Phone phone;
 
     public PhoneMatchesPredicate(Phone phone) {
         this.phone = phone;
     }
 
+    public Phone getPhone() {
+        return phone;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitPhone(this);
+    }
+
     @Override
     public boolean test(Student student) {
         return student.getPhone().equals(phone);
@@ -6,19 +6,24 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import seedu.canoe.model.student.time.Day;
 import seedu.canoe.model.tag.Tag;
-import seedu.canoe.model.training.Training;
 
 /**
  * Represents a Student in the canoe coach book.
@@ -42,14 +47,9 @@ public class Student {
 
     private final Set<Tag> tags = new HashSet<>();
 
-    class TreeSetComparator implements Comparator<Attendance> {
-        public int compare(Attendance attendance1, Attendance attendance2) {
-            return attendance1.compareTo(attendance2);
-        }
-    }
-
-    //Collection of scheduled training dates tagged to the particular student
-    private final TreeSet<Attendance> trainingAttendances = new TreeSet<>(new TreeSetComparator());
+    //Scheduled trainings of the student, keyed and sorted by training date-time, so that lookups by date
+    //are range queries on the keys rather than scans over every attendance.
+    private final NavigableMap<LocalDateTime, Attendance> attendancesByTime = new TreeMap<>();
 
     /**
      * Constructs the {@code Student} with a given id.
@@ -92,7 +92,7 @@ public class Student {
         this.thursdayDismissal = thursdayDismissal;
         this.fridayDismissal = fridayDismissal;
         this.tags.addAll(tags);
-        this.trainingAttendances.addAll(trainingAttendances);
+        addAllAttendances(trainingAttendances);
         this.id = id;
     }
 
@@ -106,14 +106,14 @@ public class Student {
     }
 
     /**
-     * Creates a student with a new valid Id if it was constructed with placeholder Id.
-     * If the student already has a valid Id, the same student is returned.
+     * Creates a student with a new valid Id from {@code idSupplier} if it was constructed with placeholder Id.
+     * If the student already has a valid Id, the same student is returned and no Id is taken.
      */
-    public Student createStudentWithValidId() {
-        if (getId().equals(Id.getPlaceHolderId())) {
+    public Student createStudentWithValidId(Supplier<Id> idSupplier) {
+        if (getId().isPlaceHolder()) {
             return new Student(getName(), getPhone(), getEmail(), getAcademicYear(), getTags(),
                     getMondayDismissal(), getTuesdayDismissal(), getWednesdayDismissal(), getThursdayDismissal(),
-                    getFridayDismissal(), new ArrayList<>(getTrainingAttendances()), Id.newId());
+                    getFridayDismissal(), new ArrayList<>(getTrainingAttendances()), idSupplier.get());
         }
         return this;
     }
@@ -126,7 +126,7 @@ public class Student {
      * Duplicates are not allowed and will not be added.
      */
     public void addAttendance(Attendance trainingAttendance) {
-        trainingAttendances.add(trainingAttendance);
+        attendancesByTime.putIfAbsent(trainingAttendance.getTrainingTime(), trainingAttendance);
     }
 
     /**
@@ -137,7 +137,7 @@ public class Student {
      * Duplicates are not allowed and will not be added.
      */
     public void addAllAttendances(List<Attendance> attendingTrainings) {
-        trainingAttendances.addAll(attendingTrainings);
+        attendingTrainings.forEach(this::addAttendance);
     }
 
     /**
@@ -148,7 +148,25 @@ public class Student {
      * @return true If Attendance is scheduled for the Student.
      */
     public boolean containsAttendance(Attendance attendance) {
-        return trainingAttendances.contains(attendance);
+        return attendancesByTime.containsKey(attendance.getTrainingTime());
+    }
+
+    /**
+     * Returns true if the student has an Attendance at {@code dateTime} and it is marked.
+     */
+    public boolean isAttendanceMarked(LocalDateTime dateTime) {
+        Attendance attendance = attendancesByTime.get(dateTime);
+        return attendance != null && attendance.isMarked();
+    }
+
+    /**
+     * Returns the training times of the student's marked Attendances, in chronological order.
+     */
+    public NavigableSet<LocalDateTime> getMarkedTrainingTimes() {
+        return attendancesByTime.values().stream()
+                .filter(Attendance::isMarked)
+                .map(Attendance::getTrainingTime)
+                .collect(Collectors.toCollection(TreeSet::new));
     }
 
     /**
@@ -157,16 +175,14 @@ public class Student {
      * @param attendance Attendance to remove
      */
     public void removeAttendance(Attendance attendance) {
-        if (containsAttendance(attendance)) {
-            trainingAttendances.remove(attendance);
-        }
+        attendancesByTime.remove(attendance.getTrainingTime());
     }
 
     /**
      * Removes all Attendances for the student.
      */
     public void removeAllAttendances() {
-        trainingAttendances.clear();
+        attendancesByTime.clear();
     }
 
     public Id getId() {
@@ -222,7 +238,7 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Attendance> getTrainingAttendances() {
-        return Collections.unmodifiableSet(trainingAttendances);
+        return Collections.unmodifiableSet(new AttendanceSetView());
     }
 
     /**
@@ -265,14 +281,14 @@ public class Student {
                 && otherStudent.getFridayDismissal().equals(getFridayDismissal())
                 && otherStudent.getAcademicYear().equals(getAcademicYear())
                 && otherStudent.getTags().equals(getTags())
-                && otherStudent.getTrainingAttendances().equals(getTrainingAttendances());
+                && otherStudent.attendancesByTime.keySet().equals(attendancesByTime.keySet());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(name, phone, email, academicYear, mondayDismissal, tuesdayDismissal, wednesdayDismissal,
-                thursdayDismissal, fridayDismissal, tags, id, trainingAttendances);
+                thursdayDismissal, fridayDismissal, tags, id, attendancesByTime.keySet());
     }
 
     @Override
@@ -326,82 +342,52 @@ public class Student {
      */
     public boolean hasAttendanceAtDateTime(LocalDateTime dateTime) {
         //Has a training scheduled on the same date already
-        for (Attendance attendance: trainingAttendances) {
-            if (LocalDate.from(attendance.getTrainingTime()).isEqual(LocalDate.from(dateTime))) {
-                return true;
-            }
-        }
-        return false;
+        LocalDate date = dateTime.toLocalDate();
+        LocalDateTime firstOnOrAfterStartOfDay = attendancesByTime.ceilingKey(date.atStartOfDay());
+        return firstOnOrAfterStartOfDay != null && firstOnOrAfterStartOfDay.toLocalDate().isEqual(date);
     }
 
     /**
      * Returns whether a student is able to attend a training at a particular DateTime
      */
     public boolean isAvailableAtDateTime(LocalDateTime dateTime) {
-        DayOfWeek day = dateTime.getDayOfWeek();
-
         LocalTime queryTime = LocalTime.from(dateTime);
-        LocalTime studentTime;
+        //Students do not have lessons on Saturday and Sunday, thus able to attend training.
+        return getDismissalTime(dateTime.getDayOfWeek())
+                .map(studentTime -> !studentTime.isAfter(queryTime))
+                .orElse(true);
+    }
 
+    /**
+     * Returns the dismissal time of the student on {@code day}, or an empty Optional on weekends.
+     */
+    public Optional<LocalTime> getDismissalTime(DayOfWeek day) {
         switch (day) {
         case MONDAY:
-            studentTime = mondayDismissal.dismissalTime;
-            return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
+            return Optional.of(mondayDismissal.dismissalTime);
         case TUESDAY:
-            studentTime = tuesdayDismissal.dismissalTime;
-            return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
+            return Optional.of(tuesdayDismissal.dismissalTime);
         case WEDNESDAY:
-            studentTime = wednesdayDismissal.dismissalTime;
-            return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
+            return Optional.of(wednesdayDismissal.dismissalTime);
         case THURSDAY:
-            studentTime = thursdayDismissal.dismissalTime;
-            return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
+            return Optional.of(thursdayDismissal.dismissalTime);
         case FRIDAY:
-            studentTime = fridayDismissal.dismissalTime;
-            return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
+            return Optional.of(fridayDismissal.dismissalTime);
         default:
-            //Students do not have lessons on Saturday and Sunday, thus able to attend training.
-            return true;
+            return Optional.empty();
         }
-
     }
 
     /**
      * Returns whether a student is able to attend all of his/her Attendances.
      */
     public boolean isAvailableForAllAttendances() {
-        if (trainingAttendances.isEmpty()) {
-            return true;
-        }
-
-        boolean isAvailable = true;
-        for (Attendance attendance: trainingAttendances) {
-            if (attendance.getTrainingTime().isAfter(LocalDateTime.now())
-                    && !isAvailableAtDateTime(attendance.getTrainingTime())) {
-                isAvailable = false;
+        for (LocalDateTime trainingTime : attendancesByTime.tailMap(LocalDateTime.now(), false).keySet()) {
+            if (!isAvailableAtDateTime(trainingTime)) {
+                return false;
             }
         }
-
-        return isAvailable;
-    }
-
-    /**
-     * Mark a student's attendance based on training dateTime
-     *
-     * @param training Training to be marked attendance.
-     */
-    public void markAttendanceFromTraining(Training training) {
-        Attendance markedAttendance = new Attendance(training.getDateTime());
-        markedAttendance.marks();
-        Optional<Attendance> attendanceToRemove =
-                trainingAttendances.stream()
-                        .filter(attendance -> attendance.getTrainingTime()
-                                .isEqual(training.getDateTime())).findFirst();
-
-        assert(attendanceToRemove.get() != null);
-
-        trainingAttendances.remove(attendanceToRemove.get());
-        trainingAttendances.add(markedAttendance);
+        return true;
     }
 
     /**
@@ -412,8 +398,8 @@ public class Student {
     public void markAttendance(Attendance originalAttendance, Attendance markedAttendance) {
         assert(containsAttendance(originalAttendance));
 
-        trainingAttendances.remove(originalAttendance);
-        trainingAttendances.add(markedAttendance);
+        attendancesByTime.remove(originalAttendance.getTrainingTime());
+        addAttendance(markedAttendance);
     }
 
     /**
@@ -424,33 +410,27 @@ public class Student {
     public void unmarkAttendance(Attendance originalAttendance, Attendance unmarkedAttendance) {
         assert(containsAttendance(originalAttendance));
 
-        trainingAttendances.remove(originalAttendance);
-        trainingAttendances.add(unmarkedAttendance);
+        attendancesByTime.remove(originalAttendance.getTrainingTime());
+        addAttendance(unmarkedAttendance);
     }
 
     /**
-     * Checks student's attendance record and returns whether the student
-     * has a bad attendance record.
-     *
-     * @return whether student has a bad attendance record.
+     * A read-through {@code Set} view of the student's attendances, in chronological order.
      */
-    public boolean hasBadAttendanceRecord() {
-        int numOfAbsences = 0;
-        int threshold = 3;
+    private class AttendanceSetView extends AbstractSet<Attendance> {
+        @Override
+        public Iterator<Attendance> iterator() {
+            return attendancesByTime.values().iterator();
+        }
 
-        if (trainingAttendances.isEmpty()) {
-            return false;
+        @Override
+        public int size() {
+            return attendancesByTime.size();
         }
 
-        assert !trainingAttendances.isEmpty();
-        for (Attendance attendance : trainingAttendances) {
-            if (attendance.getTrainingTime().isAfter(LocalDateTime.now())) {
-                continue;
-            }
-            if (!attendance.isMarked()) {
-                numOfAbsences += 1;
-            }
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Attendance && containsAttendance((Attendance) o);
         }
-        return numOfAbsences > threshold;
     }
 }
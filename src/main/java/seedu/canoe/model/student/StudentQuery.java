@@ -0,0 +1,15 @@
+package seedu.canoe.model.student;
+
+import java.util.function.Predicate;
+
+/**
+ * A node of a query over students, which can be tested against a single student, or planned as a whole
+ * against the student indexes of a canoe book through a {@link StudentQueryVisitor}.
+ */
+public interface StudentQuery extends Predicate<Student> {
+
+    /**
+     * Returns the result of {@code visitor} visiting this node.
+     */
+    <R> R accept(StudentQueryVisitor<R> visitor);
+}
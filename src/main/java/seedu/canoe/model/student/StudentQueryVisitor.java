@@ -0,0 +1,37 @@
+package seedu.canoe.model.student;
+
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+
+/**
+ * Visits the nodes of a {@link StudentQuery}.
+ *
+ * @param <R> the type of the result of visiting a node.
+ */
+public interface StudentQueryVisitor<R> {
+
+    R visitAllMatch(AllMatchPredicateList query);
+
+    R visitAnyMatch(AnyMatchPredicateList query);
+
+    R visitNot(NotMatchPredicate query);
+
+    R visitId(IdMatchesPredicate query);
+
+    R visitIdSet(IdSetPredicate query);
+
+    R visitPhone(PhoneMatchesPredicate query);
+
+    R visitAcademicYear(AcademicYearMatchesPredicate query);
+
+    R visitAcademicYearRange(AcademicYearRangePredicate query);
+
+    R visitTag(TagMatchesPredicate query);
+
+    R visitName(NameContainsKeywordsPredicate query);
+
+    R visitEmail(EmailContainsKeywordPredicate query);
+
+    R visitDismissalRange(DismissalRangePredicate query);
+
+    R visitTrainingDateTime(DateTimeMatchesPredicate query);
+}
@@ -0,0 +1,42 @@
+package seedu.canoe.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.canoe.model.tag.Tag;
+
+/**
+ * Tests that a {@code Student} has the {@code Tag} given.
+ */
+public class TagMatchesPredicate implements StudentQuery {
+    private final Tag tag;
+
+    /**
+     * Constructs a {@code TagMatchesPredicate} for the students with {@code tag}.
+     */
+    public TagMatchesPredicate(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitTag(this);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return student.getTags().contains(tag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagMatchesPredicate // instanceof handles nulls
+                && tag.equals(((TagMatchesPredicate) other).tag)); // state check
+    }
+
+}
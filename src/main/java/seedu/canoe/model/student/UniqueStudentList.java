@@ -3,13 +3,20 @@ package seedu.canoe.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.canoe.model.student.exceptions.DuplicateStudentException;
 import seedu.canoe.model.student.exceptions.StudentNotFoundException;
+import seedu.canoe.model.util.BatchedObservableList;
 
 /**
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +25,31 @@ import seedu.canoe.model.student.exceptions.StudentNotFoundException;
  * or updated is unique in terms of identity in the UniqueStudentList. However, the removal of a student uses
  * Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  *
+ * Since two students are the same exactly when they share a (name, academic year, phone) or a
+ * (name, academic year, email) key, both keys are kept in hash sets so that duplicates are found without
+ * scanning the list.
+ * Students are also indexed by {@code Id} so that they can be looked up and replaced without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Student> internalList = new BatchedObservableList<>();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Id, Integer> idToSlot = new HashMap<>();
+    private final Set<IdentityKey> phoneKeys = new HashSet<>();
+    private final Set<IdentityKey> emailKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return phoneKeys.contains(IdentityKey.withPhone(toCheck))
+                || emailKeys.contains(IdentityKey.withEmail(toCheck));
     }
 
     /**
@@ -46,6 +62,31 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        addIdentityKeys(toAdd);
+        idToSlot.put(toAdd.getId(), internalList.size() - 1);
+    }
+
+    /**
+     * Inserts a student into the list at {@code index}.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        internalList.add(index, toAdd);
+        addIdentityKeys(toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the student with the given {@code id}, if any.
+     */
+    public Optional<Student> getStudentById(Id id) {
+        requireNonNull(id);
+        Integer slot = idToSlot.get(id);
+        return slot == null ? Optional.empty() : Optional.of(internalList.get(slot));
     }
 
     /**
@@ -56,16 +97,28 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
 
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
-            throw new DuplicateStudentException();
+        setStudentAt(index, editedStudent);
+    }
+
+    /**
+     * Replaces the student with the given {@code id} in the list with {@code editedStudent}.
+     * A student with {@code id} must exist in the list.
+     * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
+     */
+    public void replaceStudentById(Id id, Student editedStudent) {
+        requireAllNonNull(id, editedStudent);
+
+        Integer slot = idToSlot.get(id);
+        if (slot == null) {
+            throw new StudentNotFoundException();
         }
 
-        internalList.set(index, editedStudent);
+        setStudentAt(slot, editedStudent);
     }
 
     /**
@@ -74,14 +127,21 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        Student removed = internalList.remove(index);
+        removeIdentityKeys(removed);
+        idToSlot.remove(removed.getId());
+        reindexFrom(index);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        replaceIdentityKeys(replacement.phoneKeys, replacement.emailKeys);
+        rebuildIdIndex();
     }
 
     /**
@@ -90,11 +150,70 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Set<IdentityKey> newPhoneKeys = new HashSet<>();
+        Set<IdentityKey> newEmailKeys = new HashSet<>();
+        for (Student student : students) {
+            boolean hasNewPhoneKey = newPhoneKeys.add(IdentityKey.withPhone(student));
+            boolean hasNewEmailKey = newEmailKeys.add(IdentityKey.withEmail(student));
+            if (!hasNewPhoneKey || !hasNewEmailKey) {
+                throw new DuplicateStudentException();
+            }
         }
 
         internalList.setAll(students);
+        replaceIdentityKeys(newPhoneKeys, newEmailKeys);
+        rebuildIdIndex();
+    }
+
+    /**
+     * Returns the position of the student equal to {@code target}, or -1 if there is no such student.
+     * The {@code Id} index is tried first so that the usual case does not scan the list.
+     */
+    public int indexOf(Student target) {
+        requireNonNull(target);
+        Integer slot = idToSlot.get(target.getId());
+        if (slot != null) {
+            Student candidate = internalList.get(slot);
+            if (candidate == target || candidate.equals(target)) {
+                return slot;
+            }
+        }
+        return internalList.indexOf(target);
+    }
+
+    /**
+     * Publishes that the student with the given {@code id} has been changed in place.
+     * A student with {@code id} must exist in the list.
+     */
+    public void markUpdated(Id id) {
+        requireNonNull(id);
+        Integer slot = idToSlot.get(id);
+        if (slot == null) {
+            throw new StudentNotFoundException();
+        }
+        internalList.markUpdated(slot);
+    }
+
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made to the list since the outermost {@link #beginBatch()} as a single change event,
+     * if this ends it.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the number of change events published by the list so far.
+     */
+    public long getChangeCount() {
+        return internalList.getChangeCount();
     }
 
     /**
@@ -122,16 +241,99 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Replaces the student at {@code index} with {@code editedStudent}, keeping the {@code Id} index up to date.
+     * {@code editedStudent} may share its identity with the student it replaces, but not with any other student.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
+    private void setStudentAt(int index, Student editedStudent) {
+        Student target = internalList.get(index);
+        IdentityKey phoneKey = IdentityKey.withPhone(editedStudent);
+        IdentityKey emailKey = IdentityKey.withEmail(editedStudent);
+        // no two students share a key, so a key held by the list is another student's unless it is the target's
+        boolean isPhoneKeyTaken = phoneKeys.contains(phoneKey) && !phoneKey.equals(IdentityKey.withPhone(target));
+        boolean isEmailKeyTaken = emailKeys.contains(emailKey) && !emailKey.equals(IdentityKey.withEmail(target));
+        if (isPhoneKeyTaken || isEmailKeyTaken) {
+            throw new DuplicateStudentException();
+        }
+
+        removeIdentityKeys(target);
+        internalList.set(index, editedStudent);
+        addIdentityKeys(editedStudent);
+        if (!target.getId().equals(editedStudent.getId())) {
+            idToSlot.remove(target.getId());
+            idToSlot.put(editedStudent.getId(), index);
+        }
+    }
+
+    private void rebuildIdIndex() {
+        idToSlot.clear();
+        reindexFrom(0);
+    }
+
+    /**
+     * Points the {@code Id} index at the current slots of the students from {@code index} onwards, which have been
+     * shifted by an insertion or removal before them.
+     */
+    private void reindexFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            idToSlot.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void addIdentityKeys(Student student) {
+        phoneKeys.add(IdentityKey.withPhone(student));
+        emailKeys.add(IdentityKey.withEmail(student));
+    }
+
+    private void removeIdentityKeys(Student student) {
+        phoneKeys.remove(IdentityKey.withPhone(student));
+        emailKeys.remove(IdentityKey.withEmail(student));
+    }
+
+    private void replaceIdentityKeys(Set<IdentityKey> newPhoneKeys, Set<IdentityKey> newEmailKeys) {
+        if (newPhoneKeys == phoneKeys) {
+            return;
+        }
+        phoneKeys.clear();
+        phoneKeys.addAll(newPhoneKeys);
+        emailKeys.clear();
+        emailKeys.addAll(newEmailKeys);
+    }
+
+    /**
+     * The part of a student's identity used by {@code Student#isSameStudent(Student)}: name and academic year,
+     * together with either the phone or the email.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final AcademicYear academicYear;
+        private final Object contact;
+
+        private IdentityKey(Name name, AcademicYear academicYear, Object contact) {
+            this.name = name;
+            this.academicYear = academicYear;
+            this.contact = contact;
+        }
+
+        static IdentityKey withPhone(Student student) {
+            return new IdentityKey(student.getName(), student.getAcademicYear(), student.getPhone());
+        }
+
+        static IdentityKey withEmail(Student student) {
+            return new IdentityKey(student.getName(), student.getAcademicYear(), student.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && academicYear.equals(((IdentityKey) other).academicYear)
+                    && contact.equals(((IdentityKey) other).contact));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, academicYear, contact);
         }
-        return true;
     }
 }
@@ -0,0 +1,63 @@
+package seedu.canoe.model.student.time;
+
+import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.StudentQuery;
+import seedu.canoe.model.student.StudentQueryVisitor;
+
+/**
+ * Tests that a {@code Student}'s dismissal time on a weekday is within a range of times, both inclusive.
+ */
+public class DismissalRangePredicate implements StudentQuery {
+    private final DayOfWeek day;
+    private final LocalTime from;
+    private final LocalTime to;
+
+    /**
+     * Constructs a {@code DismissalRangePredicate} for dismissal times from {@code from} to {@code to} on
+     * {@code day}.
+     */
+    public DismissalRangePredicate(DayOfWeek day, LocalTime from, LocalTime to) {
+        requireAllNonNull(day, from, to);
+        this.day = day;
+        this.from = from;
+        this.to = to;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public LocalTime getFrom() {
+        return from;
+    }
+
+    public LocalTime getTo() {
+        return to;
+    }
+
+    @Override
+    public <R> R accept(StudentQueryVisitor<R> visitor) {
+        return visitor.visitDismissalRange(this);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return student.getDismissalTime(day)
+                .map(studentTime -> !studentTime.isBefore(from) && !studentTime.isAfter(to))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DismissalRangePredicate // instanceof handles nulls
+                && day.equals(((DismissalRangePredicate) other).day)
+                && from.equals(((DismissalRangePredicate) other).from)
+                && to.equals(((DismissalRangePredicate) other).to)); // state check
+    }
+}
@@ -1,26 +1,22 @@
 package seedu.canoe.model.student.time;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.function.Predicate;
-
-import seedu.canoe.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s dismissal time for Monday is before the query time.
  */
-public class MondayDismissalPredicate implements Predicate<Student> {
+public class MondayDismissalPredicate extends DismissalRangePredicate {
     private final LocalTime queryTime;
 
+    /**
+     * Constructs a {@code MondayDismissalPredicate} for dismissal times at or before {@code queryTime}.
+     */
     public MondayDismissalPredicate(LocalTime queryTime) {
+        super(DayOfWeek.MONDAY, LocalTime.MIN, queryTime);
         this.queryTime = queryTime;
     }
 
-    @Override
-    public boolean test(Student student) {
-        LocalTime studentTime = student.getMondayDismissal().dismissalTime;
-        return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,26 +1,22 @@
 package seedu.canoe.model.student.time;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.function.Predicate;
-
-import seedu.canoe.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s dismissal time for Thursday is before the query time.
  */
-public class ThursdayDismissalPredicate implements Predicate<Student> {
+public class ThursdayDismissalPredicate extends DismissalRangePredicate {
     private final LocalTime queryTime;
 
+    /**
+     * Constructs a {@code ThursdayDismissalPredicate} for dismissal times at or before {@code queryTime}.
+     */
     public ThursdayDismissalPredicate(LocalTime queryTime) {
+        super(DayOfWeek.THURSDAY, LocalTime.MIN, queryTime);
         this.queryTime = queryTime;
     }
 
-    @Override
-    public boolean test(Student student) {
-        LocalTime studentTime = student.getThursdayDismissal().dismissalTime;
-        return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
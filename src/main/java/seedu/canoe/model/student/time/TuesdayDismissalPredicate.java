@@ -1,26 +1,22 @@
 package seedu.canoe.model.student.time;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.function.Predicate;
-
-import seedu.canoe.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s dismissal time for Tuesday is before the query time.
  */
-public class TuesdayDismissalPredicate implements Predicate<Student> {
+public class TuesdayDismissalPredicate extends DismissalRangePredicate {
     private final LocalTime queryTime;
 
+    /**
+     * Constructs a {@code TuesdayDismissalPredicate} for dismissal times at or before {@code queryTime}.
+     */
     public TuesdayDismissalPredicate(LocalTime queryTime) {
+        super(DayOfWeek.TUESDAY, LocalTime.MIN, queryTime);
         this.queryTime = queryTime;
     }
 
-    @Override
-    public boolean test(Student student) {
-        LocalTime studentTime = student.getTuesdayDismissal().dismissalTime;
-        return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
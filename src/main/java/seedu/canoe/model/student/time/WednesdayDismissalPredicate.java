@@ -1,26 +1,22 @@
 package seedu.canoe.model.student.time;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.function.Predicate;
-
-import seedu.canoe.model.student.Student;
 
 /**
  * Tests that a {@code Student}'s dismissal time for Wednesday is before the query time.
  */
-public class WednesdayDismissalPredicate implements Predicate<Student> {
+public class WednesdayDismissalPredicate extends DismissalRangePredicate {
     private final LocalTime queryTime;
 
+    /**
+     * Constructs a {@code WednesdayDismissalPredicate} for dismissal times at or before {@code queryTime}.
+     */
     public WednesdayDismissalPredicate(LocalTime queryTime) {
+        super(DayOfWeek.WEDNESDAY, LocalTime.MIN, queryTime);
         this.queryTime = queryTime;
     }
 
-    @Override
-    public boolean test(Student student) {
-        LocalTime studentTime = student.getWednesdayDismissal().dismissalTime;
-        return studentTime.equals(queryTime) || studentTime.isBefore(queryTime);
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
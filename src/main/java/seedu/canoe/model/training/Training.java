@@ -1,13 +1,11 @@
 package seedu.canoe.model.training;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Set;
 import java.util.TreeSet;
 
-import seedu.canoe.model.student.Attendance;
-import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.exceptions.DuplicateStudentException;
 
 public class Training {
@@ -15,18 +13,9 @@ public class Training {
     public static final String MESSAGE_CONSTRAINTS = "Datetime provided must be a valid date and time.";
     private final LocalDateTime dateTime;
 
-    //Used a TreeSet with Comparator to sort Students by increasing Unique ID values.
-    private final TreeSet<Student> students = new TreeSet<>(new StudentComparator());
-
-    /**
-     * Student Comparator class that implements the compare method to compare unique IDs.
-     */
-    private static class StudentComparator implements Comparator<Student> {
-        public int compare(Student student1, Student student2) {
-            return Integer.parseInt(student1.getId().value)
-                    - Integer.parseInt(student2.getId().value);
-        }
-    }
+    //Used a TreeSet to sort members by increasing Unique ID values.
+    //Members are referenced by Id; the Student objects themselves live in the student list.
+    private final TreeSet<Id> studentIds = new TreeSet<>();
 
     /**
      * Constructor with only LocalDateTime.
@@ -38,27 +27,30 @@ public class Training {
     }
 
     /**
-     * Constructor with both LocalDateTime and a Set of Students.
-     * Initialises Training with the specified set of students.
+     * Constructor with both LocalDateTime and a Set of student Ids.
+     * Initialises Training with the specified members.
      *
      * @param dateTime of training
-     * @param students set of students
+     * @param studentIds ids of the students attending the training
      */
-    public Training(LocalDateTime dateTime, Set<Student> students) {
+    public Training(LocalDateTime dateTime, Set<Id> studentIds) {
         this.dateTime = dateTime;
-        this.students.addAll(students);
+        this.studentIds.addAll(studentIds);
     }
 
     public LocalDateTime getDateTime() {
         return this.dateTime;
     }
 
-    public Set<Student> getStudents() {
-        return this.students;
+    /**
+     * Returns the ids of the students attending the training, in increasing order, as an unmodifiable set.
+     */
+    public Set<Id> getStudentIds() {
+        return Collections.unmodifiableSet(studentIds);
     }
 
     public Training cloneTraining() {
-        return new Training(dateTime, students);
+        return new Training(dateTime, studentIds);
     }
 
     public boolean canAddStudent() {
@@ -66,51 +58,33 @@ public class Training {
     }
 
     /**
-     * Adds the specified student to the Training Session.
-     * Also adds training's LocalDateTime to the student container
+     * Adds the student with the specified id to the Training Session.
      *
-     * @param student to be added
+     * @param studentId of the student to be added
      */
-    public void addStudent(Student student) {
-        if (students.contains(student)) {
+    public void addStudent(Id studentId) {
+        if (!studentIds.add(studentId)) {
             throw new DuplicateStudentException();
-        } else {
-            this.students.add(student);
-            student.addAttendance(new Attendance(getDateTime()));
         }
     }
 
     /**
-     * Removes the specified student from the Training Session.
-     * Also removes training's LocalDateTime from the student container
+     * Removes the student with the specified id from the Training Session.
      *
-     * @param student to be removed
-     */
-    public void removeStudent(Student student) {
-        Set<Student> studentsCopy = new HashSet<>(students);
-        for (Student studentCheck : studentsCopy) {
-            if (student.getId().equals(studentCheck.getId())) {
-                students.remove(studentCheck);
-                removeDateTimeFromStudent(student);
-            }
-        }
-    }
-
-    /**
-     * Removes the training's date time from the student.
+     * @param studentId of the student to be removed
      */
-    public void removeDateTimeFromStudent(Student student) {
-        student.removeAttendance(new Attendance(getDateTime()));
+    public void removeStudent(Id studentId) {
+        studentIds.remove(studentId);
     }
 
     /**
-     * Checks if specified student is already present inside of training list.
+     * Checks if the student with the specified id is already present inside of training list.
      *
-     * @param student to be checked
+     * @param studentId to be checked
      * @return true if student is present inside of training schedule.
      */
-    public boolean hasStudent(Student student) {
-        return getStudents().contains(student);
+    public boolean hasStudent(Id studentId) {
+        return studentIds.contains(studentId);
     }
 
     /**
@@ -120,18 +94,7 @@ public class Training {
      * @return true if student id is present inside of training schedule.
      */
     public boolean hasStudentId(String studentId) {
-        return getStudents().stream().map(Student::getId).anyMatch(id -> id.getValue().equals(studentId));
-    }
-
-    /**
-     * Clears all students from the Training.
-     * Also removes the training date from students' training schedules.
-     */
-    public void clearStudents() {
-        for (Student student : students) {
-            removeDateTimeFromStudent(student);
-        }
-        this.students.clear();
+        return studentId != null && Id.isValidId(studentId) && hasStudent(new Id(studentId));
     }
 
     /**
@@ -162,7 +125,7 @@ public class Training {
 
         Training otherTraining = (Training) other;
         return otherTraining.getDateTime().equals(getDateTime())
-                && otherTraining.getStudents().equals(getStudents());
+                && otherTraining.getStudentIds().equals(getStudentIds());
     }
 
     @Override
@@ -170,7 +133,7 @@ public class Training {
         final int prime = 31;
         int result = 1;
         result = prime * result + dateTime.hashCode();
-        result = prime * result + students.hashCode();
+        result = prime * result + studentIds.hashCode();
         return result;
     }
 
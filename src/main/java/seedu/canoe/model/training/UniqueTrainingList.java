@@ -3,13 +3,19 @@ package seedu.canoe.model.training;
 import static java.util.Objects.requireNonNull;
 import static seedu.canoe.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.canoe.model.student.exceptions.DuplicateTrainingException;
 import seedu.canoe.model.student.exceptions.TrainingNotFoundException;
+import seedu.canoe.model.util.BatchedObservableList;
 
 /**
  * A list of trainings that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +25,45 @@ import seedu.canoe.model.student.exceptions.TrainingNotFoundException;
  * or updated is unique in terms of identity in the UniqueTrainingList. However, the removal of a training uses
  * Training#equals(Object) so as to ensure that the training with exactly the same fields will be removed.
  *
+ * Since two trainings are the same exactly when they share a date-time, the trainings are also indexed by
+ * date-time in a {@code NavigableMap}, which answers identity checks, lookups and range queries in O(log n).
+ *
  * Supports a minimal set of list operations.
  *
  * @see Training#isSameTraining(Training)
  */
 public class UniqueTrainingList implements Iterable<Training> {
 
-    private final ObservableList<Training> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Training> internalList = new BatchedObservableList<>();
     private final ObservableList<Training> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<LocalDateTime, Training> trainingsByDateTime = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent training as the given argument.
      */
     public boolean contains(Training toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTraining);
+        return trainingsByDateTime.containsKey(toCheck.getDateTime());
+    }
+
+    /**
+     * Returns the training at {@code dateTime}, if any.
+     */
+    public Optional<Training> getTrainingAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return Optional.ofNullable(trainingsByDateTime.get(dateTime));
+    }
+
+    /**
+     * Returns the trainings from {@code from} to {@code to}, both inclusive, in chronological order.
+     */
+    public List<Training> getTrainingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(trainingsByDateTime.subMap(from, true, to, true).values());
     }
 
     /**
@@ -47,6 +76,20 @@ public class UniqueTrainingList implements Iterable<Training> {
             throw new DuplicateTrainingException();
         }
         internalList.add(toAdd);
+        trainingsByDateTime.put(toAdd.getDateTime(), toAdd);
+    }
+
+    /**
+     * Inserts a training into the list at {@code index}.
+     * The training must not already exist in the list.
+     */
+    public void add(int index, Training toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTrainingException();
+        }
+        internalList.add(index, toAdd);
+        trainingsByDateTime.put(toAdd.getDateTime(), toAdd);
     }
 
     /**
@@ -57,12 +100,18 @@ public class UniqueTrainingList implements Iterable<Training> {
     public void setTraining(Training target, Training editedTraining) {
         requireAllNonNull(target, editedTraining);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TrainingNotFoundException();
         }
 
+        if (!target.isSameTraining(editedTraining) && contains(editedTraining)) {
+            throw new DuplicateTrainingException();
+        }
+
         internalList.set(index, editedTraining);
+        trainingsByDateTime.remove(target.getDateTime());
+        trainingsByDateTime.put(editedTraining.getDateTime(), editedTraining);
     }
 
     /**
@@ -71,9 +120,12 @@ public class UniqueTrainingList implements Iterable<Training> {
      */
     public void remove(Training toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TrainingNotFoundException();
         }
+        internalList.remove(index);
+        trainingsByDateTime.remove(toRemove.getDateTime());
     }
 
     /**
@@ -82,11 +134,56 @@ public class UniqueTrainingList implements Iterable<Training> {
      */
     public void setTrainings(List<Training> trainings) {
         requireAllNonNull(trainings);
-        if (!trainingsAreUnique(trainings)) {
-            throw new DuplicateTrainingException();
+        NavigableMap<LocalDateTime, Training> newTrainingsByDateTime = new TreeMap<>();
+        for (Training training : trainings) {
+            if (newTrainingsByDateTime.put(training.getDateTime(), training) != null) {
+                throw new DuplicateTrainingException();
+            }
         }
 
         internalList.setAll(trainings);
+        trainingsByDateTime.clear();
+        trainingsByDateTime.putAll(newTrainingsByDateTime);
+    }
+
+    /**
+     * Returns the position of the training equal to {@code target}, or -1 if there is no such training.
+     * The date-time index narrows the search to a single candidate, so only that training is compared in full.
+     */
+    public int indexOf(Training target) {
+        requireNonNull(target);
+        Training candidate = trainingsByDateTime.get(target.getDateTime());
+        if (candidate == null || !candidate.equals(target)) {
+            return -1;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == candidate) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Holds back the change events of the list until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made to the list since the outermost {@link #beginBatch()} as a single change event,
+     * if this ends it.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns the number of change events published by the list so far.
+     */
+    public long getChangeCount() {
+        return internalList.getChangeCount();
     }
 
     /**
@@ -112,18 +209,4 @@ public class UniqueTrainingList implements Iterable<Training> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code trainings} contains only unique trainings.
-     */
-    private boolean trainingsAreUnique(List<Training> trainings) {
-        for (int i = 0; i < trainings.size() - 1; i++) {
-            for (int j = i + 1; j < trainings.size(); j++) {
-                if (trainings.get(i).isSameTraining(trainings.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,123 @@
+package seedu.canoe.model.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be batched.
+ * Changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are published to the listeners
+ * of the list as a single change once the batch ends, instead of as one change per modification.
+ * Batches can be nested, in which case the changes are published when the outermost batch ends.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private long changeCount;
+
+    public BatchedObservableList() {
+        addListener((ListChangeListener<E>) change -> changeCount++);
+    }
+
+    /**
+     * Starts a batch. Changes are held back until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch, publishing the changes made since the outermost {@link #beginBatch()} if this ends it.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Publishes that the element at {@code index} has been changed in place, so that listeners of the list
+     * can update their views of it.
+     */
+    public void markUpdated(int index) {
+        beginChange();
+        try {
+            nextUpdate(index);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the number of changes published by the list so far, which is unchanged as long as the list is.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Appends all of {@code toAdd} to the list as a single added range.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            int from = elements.size();
+            elements.addAll(toAdd);
+            modCount++;
+            nextAdd(from, elements.size());
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} to {@code toIndex} at once, rather than one element at a time,
+     * so that {@code clear} and {@code setAll} take linear time.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
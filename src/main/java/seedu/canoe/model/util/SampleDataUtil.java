@@ -65,28 +65,28 @@ public class SampleDataUtil {
         Student alex = new Student(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new AcademicYear("2"), getTagSet("fast swimmer"), new Monday("1500"),
                 new Tuesday("1500"), new Wednesday("1500"),
-                new Thursday("1500"), new Friday("1500"), Id.newId());
+                new Thursday("1500"), new Friday("1500"), new Id("1"));
         Student bernice = new Student(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new AcademicYear("3"), getTagSet("fast runner", "leader"), new Monday("1500"),
                 new Tuesday("1500"), new Wednesday("1500"),
-                new Thursday("1500"), new Friday("1500"), Id.newId());
+                new Thursday("1500"), new Friday("1500"), new Id("2"));
         Student charlotte = new Student(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte"
                 + "@example.com"), new AcademicYear("5"), getTagSet("fast swimmer"),
                 new Monday("1500"), new Tuesday("1500"),
                 new Wednesday("1500"), new Thursday("1500"), new Friday("1500"),
-                Id.newId());
+                new Id("3"));
         Student david = new Student(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                         new AcademicYear("1"), getTagSet("fittest"), new Monday("1500"),
                         new Tuesday("1500"), new Wednesday("1500"),
-                        new Thursday("1500"), new Friday("1500"), Id.newId());
+                        new Thursday("1500"), new Friday("1500"), new Id("4"));
         Student irfan = new Student(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                         new AcademicYear("4"), getTagSet("slowest runner"), new Monday("1500"),
                         new Tuesday("1500"), new Wednesday("1500"),
-                        new Thursday("1500"), new Friday("1500"), Id.newId());
+                        new Thursday("1500"), new Friday("1500"), new Id("5"));
         Student roy = new Student(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                         new AcademicYear("1"), getTagSet("best canoer"), new Monday("1500"),
                         new Tuesday("1500"), new Wednesday("1500"),
-                        new Thursday("1500"), new Friday("1500"), Id.newId());
+                        new Thursday("1500"), new Friday("1500"), new Id("6"));
 
         return new Student[] {
             alex, bernice, charlotte, david, irfan, roy
@@ -100,22 +100,22 @@ public class SampleDataUtil {
         }
 
         for (Training sampleTraining : getPastSampleTraining()) {
-            sampleAb.addTraining(sampleTraining);
             for (Student sampleStudent : sampleAb.getStudentList()) {
-                sampleTraining.addStudent(sampleStudent);
                 Student alex = sampleAb.getStudentList().get(0);
                 Student bernice = sampleAb.getStudentList().get(1);
-                if (!(sampleStudent == alex || sampleStudent == bernice)) {
-                    sampleStudent.markAttendanceFromTraining(sampleTraining);
-                }
+                boolean isMarked = !(sampleStudent == alex || sampleStudent == bernice);
+                sampleTraining.addStudent(sampleStudent.getId());
+                sampleStudent.addAttendance(new Attendance(sampleTraining.getDateTime(), isMarked));
             }
+            sampleAb.addTraining(sampleTraining);
         }
 
         for (Training sampleTraining : getFutureSampleTraining()) {
-            sampleAb.addTraining(sampleTraining);
             for (Student sampleStudent : sampleAb.getStudentList()) {
-                sampleTraining.addStudent(sampleStudent);
+                sampleTraining.addStudent(sampleStudent.getId());
+                sampleStudent.addAttendance(new Attendance(sampleTraining.getDateTime()));
             }
+            sampleAb.addTraining(sampleTraining);
         }
 
         return sampleAb;
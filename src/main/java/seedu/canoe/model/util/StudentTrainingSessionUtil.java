@@ -9,7 +9,6 @@ import seedu.canoe.model.Model;
 import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
-import seedu.canoe.model.training.TrainingMatchesPredicate;
 
 public class StudentTrainingSessionUtil {
     public static List<Attendance> getConflictsInStudentTrainingAttendances(
@@ -24,8 +23,8 @@ public class StudentTrainingSessionUtil {
 
     public static List<Training> getTrainingListFromTrainingAttendances(List<Attendance> trainingAttendances,
                                                                         Model model) {
-        TrainingMatchesPredicate predicate = new TrainingMatchesPredicate(trainingAttendances);
-        model.updateFilteredTrainingList(predicate);
-        return model.getFilteredTrainingList();
+        return model.findTrainings(trainingAttendances.stream()
+                .map(Attendance::getTrainingTime)
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,203 @@
+package seedu.canoe.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+
+/**
+ * A {@code CanoeCoachStorage} that saves CanoeCoach data through another one on a background thread, so that
+ * saving does not hold up the thread that changes the canoe coach book.
+ *
+ * Each save only takes the data to write from the canoe coach book, through
+ * {@link CanoeCoachStorage#prepareSave(ReadOnlyCanoeCoach, Path)}, and queues the write for a single writer
+ * thread, which runs the writes in order. A save made while the writes before it are still waiting is merged
+ * with them where it can be, so that a burst of saves is written as one. A write that fails is reported by the
+ * next save or flush.
+ */
+public class AsyncCanoeCoachStorage implements CanoeCoachStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCanoeCoachStorage.class);
+
+    private final CanoeCoachStorage canoeCoachStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "canoe-coach-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Deque<QueuedWrite> queuedWrites = new ArrayDeque<>();
+    private QueuedWrite runningWrite;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AsyncCanoeCoachStorage} that writes the saves made to it through {@code canoeCoachStorage}.
+     */
+    public AsyncCanoeCoachStorage(CanoeCoachStorage canoeCoachStorage) {
+        requireNonNull(canoeCoachStorage);
+        this.canoeCoachStorage = canoeCoachStorage;
+    }
+
+    @Override
+    public Path getCanoeCoachFilePath() {
+        return canoeCoachStorage.getCanoeCoachFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach() throws DataConversionException, IOException {
+        return readCanoeCoach(getCanoeCoachFilePath());
+    }
+
+    /**
+     * Similar to {@link #readCanoeCoach()}.
+     * The saves made so far are written before the data is read.
+     */
+    @Override
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        flush();
+        return canoeCoachStorage.readCanoeCoach(filePath);
+    }
+
+    @Override
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach) throws IOException {
+        saveCanoeCoach(canoeCoach, getCanoeCoachFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveCanoeCoach(ReadOnlyCanoeCoach)}.
+     * Returns once the data to write is taken from {@code canoeCoach}, and writes it in the background.
+     *
+     * @throws IOException if an earlier save could not be written.
+     */
+    @Override
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, Path filePath) throws IOException {
+        CanoeCoachWrite write = prepareSave(canoeCoach, filePath);
+        enqueue(write);
+        throwFailure();
+    }
+
+    @Override
+    public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+        return canoeCoachStorage.prepareSave(canoeCoach, filePath);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        boolean isInterrupted = false;
+        while (runningWrite != null || !queuedWrites.isEmpty()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+        throwFailure();
+    }
+
+    @Override
+    public synchronized Duration getSaveLag() {
+        QueuedWrite oldest = runningWrite != null ? runningWrite : queuedWrites.peekFirst();
+        if (oldest == null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(System.nanoTime() - oldest.requestedAt);
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        canoeCoachStorage.close();
+    }
+
+    /**
+     * Queues {@code write} after the writes waiting to be run, merging it with the latest of them where it can be.
+     */
+    private synchronized void enqueue(CanoeCoachWrite write) {
+        boolean isIdle = runningWrite == null && queuedWrites.isEmpty();
+        QueuedWrite queued = new QueuedWrite(write, System.nanoTime());
+        while (!queuedWrites.isEmpty()) {
+            QueuedWrite latest = queuedWrites.peekLast();
+            Optional<CanoeCoachWrite> merged = queued.write.mergeAfter(latest.write);
+            if (!merged.isPresent()) {
+                break;
+            }
+            queuedWrites.pollLast();
+            queued = new QueuedWrite(merged.get(), latest.requestedAt);
+        }
+        queuedWrites.addLast(queued);
+
+        if (isIdle) {
+            writer.execute(this::runQueuedWrites);
+        }
+    }
+
+    /**
+     * Runs the queued writes one by one until there are none left.
+     */
+    private void runQueuedWrites() {
+        while (true) {
+            QueuedWrite next;
+            synchronized (this) {
+                runningWrite = null;
+                next = queuedWrites.pollFirst();
+                if (next == null) {
+                    notifyAll();
+                    return;
+                }
+                runningWrite = next;
+            }
+
+            try {
+                next.write.run();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not write to " + getCanoeCoachFilePath() + ": " + e);
+                recordFailure(e instanceof IOException ? (IOException) e : new IOException(e));
+            }
+        }
+    }
+
+    private synchronized void recordFailure(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Throws the first failure of the writes run since the last failure was thrown, if any.
+     */
+    private synchronized void throwFailure() throws IOException {
+        IOException thrown = failure;
+        failure = null;
+        if (thrown != null) {
+            throw thrown;
+        }
+    }
+
+    /**
+     * A write waiting to be run, with the time that the oldest save it writes was made at.
+     */
+    private static class QueuedWrite {
+        private final CanoeCoachWrite write;
+        private final long requestedAt;
+
+        QueuedWrite(CanoeCoachWrite write, long requestedAt) {
+            this.write = write;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
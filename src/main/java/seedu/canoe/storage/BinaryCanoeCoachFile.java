@@ -0,0 +1,508 @@
+package seedu.canoe.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.student.AcademicYear;
+import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Email;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.Name;
+import seedu.canoe.model.student.Phone;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.Friday;
+import seedu.canoe.model.student.time.Monday;
+import seedu.canoe.model.student.time.Thursday;
+import seedu.canoe.model.student.time.Tuesday;
+import seedu.canoe.model.student.time.Wednesday;
+import seedu.canoe.model.tag.Tag;
+import seedu.canoe.model.training.Training;
+
+/**
+ * The compact binary form of a canoe coach book, as saved by {@link BinaryCanoeCoachStorage}.
+ *
+ * The file starts with the magic bytes {@code CCBK} and the version of the format, and ends with a CRC32 checksum
+ * of everything before it. In between are, in order:
+ * <ul>
+ *     <li>a string table that holds each name, phone, email, academic year, dismissal time and tag once;</li>
+ *     <li>a time table that holds each training and attendance time once, in increasing epoch minutes;</li>
+ *     <li>the students, whose fields are indexes into the string table, and whose attendances are indexes into the
+ *     time table followed by their marked flags, eight to a byte;</li>
+ *     <li>the trainings, as an index into the time table and the ids of their members.</li>
+ * </ul>
+ * Numbers are stored as unsigned varints, and increasing runs of numbers as the differences between them.
+ * Times that are not whole minutes keep their seconds and nanoseconds after their epoch minute.
+ */
+class BinaryCanoeCoachFile {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not a binary canoe coach book.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted, as its checksum does not match.";
+    public static final String MESSAGE_TRUNCATED = "Data file ends in the middle of the canoe coach book.";
+    public static final String MESSAGE_BAD_INDEX = "Data file refers to a string or time that it does not hold.";
+
+    public static final int CURRENT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'C', 'B', 'K'};
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final List<Function<String, Day>> DAYS = List.of(Monday::new, Tuesday::new, Wednesday::new,
+            Thursday::new, Friday::new);
+
+    private BinaryCanoeCoachFile() {}
+
+    /**
+     * Returns the students and trainings of {@code canoeCoach} in their binary form.
+     */
+    static byte[] encode(ReadOnlyCanoeCoach canoeCoach) {
+        Encoder encoder = new Encoder();
+        encoder.writeBook(canoeCoach.getStudentList(), canoeCoach.getTrainingList());
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Converts the binary form of a canoe coach book in {@code bytes} back into the model's {@code CanoeCoach}.
+     *
+     * @throws IllegalValueException if the bytes are not a whole canoe coach book in a format this app supports,
+     *     or there were any data constraints violated.
+     */
+    static CanoeCoach decode(byte[] bytes) throws IllegalValueException {
+        int bodyEnd = bytes.length - CHECKSUM_LENGTH;
+        if (bodyEnd < MAGIC.length || !Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+
+        Decoder decoder = new Decoder(bytes, MAGIC.length, bodyEnd);
+        int version = decoder.readInt();
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(JsonSerializableCanoeCoach.MESSAGE_UNSUPPORTED_VERSION,
+                    version));
+        }
+        if (checksum(bytes, bodyEnd) != readChecksum(bytes, bodyEnd)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        try {
+            return decoder.readBook();
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static int readChecksum(byte[] bytes, int from) {
+        int checksum = 0;
+        for (int i = from; i < from + CHECKSUM_LENGTH; i++) {
+            checksum = (checksum << 8) | (bytes[i] & 0xff);
+        }
+        return checksum;
+    }
+
+    /**
+     * Returns the number of whole minutes from the epoch to {@code dateTime}, taken as UTC.
+     */
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the nanoseconds that {@code dateTime} is past its epoch minute, which is 0 for whole minutes.
+     */
+    private static long toNanoOfMinute(LocalDateTime dateTime) {
+        return dateTime.getSecond() * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    /**
+     * Returns {@code value} mapped onto the unsigned numbers so that it stays small when close to 0, which is needed
+     * for the first time in the time table, as it may be before the epoch.
+     */
+    private static long toZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long fromZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Returns the dismissal times of {@code student}, from Monday to Friday.
+     */
+    private static Day[] dismissalsOf(Student student) {
+        return new Day[] {student.getMondayDismissal(), student.getTuesdayDismissal(),
+            student.getWednesdayDismissal(), student.getThursdayDismissal(), student.getFridayDismissal()};
+    }
+
+    /**
+     * Writes a canoe coach book into a growing byte array.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final TreeMap<LocalDateTime, Integer> timeIndexes = new TreeMap<>();
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+
+        void writeBook(List<Student> students, List<Training> trainings) {
+            // the tables are filled in first, so that the students and trainings can refer to them
+            for (Student student : students) {
+                indexStrings(student);
+                for (Attendance attendance : student.getTrainingAttendances()) {
+                    timeIndexes.put(attendance.getTrainingTime(), 0);
+                }
+            }
+            for (Training training : trainings) {
+                timeIndexes.put(training.getDateTime(), 0);
+            }
+            int timeIndex = 0;
+            for (Map.Entry<LocalDateTime, Integer> entry : timeIndexes.entrySet()) {
+                entry.setValue(timeIndex++);
+            }
+
+            writeBytes(MAGIC, MAGIC.length);
+            writeLong(CURRENT_VERSION);
+            writeStringTable();
+            writeTimeTable();
+            writeLong(students.size());
+            students.forEach(this::writeStudent);
+            writeLong(trainings.size());
+            trainings.forEach(this::writeTraining);
+
+            int checksum = checksum(bytes, length);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(checksum >>> shift);
+            }
+        }
+
+        private void indexStrings(Student student) {
+            indexString(student.getName().fullName);
+            indexString(student.getPhone().value);
+            indexString(student.getEmail().value);
+            indexString(student.getAcademicYear().value);
+            for (Day dismissal : dismissalsOf(student)) {
+                indexString(dismissal.toString());
+            }
+            student.getTags().forEach(tag -> indexString(tag.tagName));
+        }
+
+        private int indexString(String string) {
+            return stringIndexes.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        private void writeStringTable() {
+            writeLong(strings.size());
+            for (String string : strings) {
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                writeLong(utf8.length);
+                writeBytes(utf8, utf8.length);
+            }
+        }
+
+        private void writeTimeTable() {
+            writeLong(timeIndexes.size());
+            long previousMinute = 0;
+            for (LocalDateTime time : timeIndexes.keySet()) {
+                long minute = toEpochMinute(time);
+                long nanoOfMinute = toNanoOfMinute(time);
+                // the lowest bit tells whether the time is past its whole minute
+                writeLong(toZigZag(minute - previousMinute) << 1 | (nanoOfMinute == 0 ? 0 : 1));
+                if (nanoOfMinute != 0) {
+                    writeLong(nanoOfMinute);
+                }
+                previousMinute = minute;
+            }
+        }
+
+        private void writeStudent(Student student) {
+            writeLong(student.getId().intValue());
+            writeString(student.getName().fullName);
+            writeString(student.getPhone().value);
+            writeString(student.getEmail().value);
+            writeString(student.getAcademicYear().value);
+            for (Day dismissal : dismissalsOf(student)) {
+                writeString(dismissal.toString());
+            }
+
+            Set<Tag> tags = student.getTags();
+            writeLong(tags.size());
+            tags.forEach(tag -> writeString(tag.tagName));
+
+            List<Attendance> attendances = new ArrayList<>(student.getTrainingAttendances());
+            attendances.sort(null);
+            writeLong(attendances.size());
+            int previousIndex = 0;
+            for (Attendance attendance : attendances) {
+                int index = timeIndexes.get(attendance.getTrainingTime());
+                writeLong(index - previousIndex);
+                previousIndex = index;
+            }
+            for (int i = 0; i < attendances.size(); i += 8) {
+                int flags = 0;
+                for (int bit = 0; bit < 8 && i + bit < attendances.size(); bit++) {
+                    flags |= attendances.get(i + bit).isMarked() ? 1 << bit : 0;
+                }
+                writeByte(flags);
+            }
+        }
+
+        private void writeTraining(Training training) {
+            writeLong(timeIndexes.get(training.getDateTime()));
+            Set<Id> studentIds = training.getStudentIds();
+            writeLong(studentIds.size());
+            int previousId = 0;
+            for (Id studentId : studentIds) {
+                writeLong(studentId.intValue() - previousId);
+                previousId = studentId.intValue();
+            }
+        }
+
+        private void writeString(String string) {
+            writeLong(stringIndexes.get(string));
+        }
+
+        /**
+         * Writes {@code value}, which must not be negative, as a varint of 7 bits to a byte, lowest bits first.
+         */
+        private void writeLong(long value) {
+            assert value >= 0;
+            while (value >= 0x80) {
+                writeByte((int) (value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] values, int count) {
+            ensureCapacity(count);
+            System.arraycopy(values, 0, bytes, length, count);
+            length += count;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    /**
+     * Reads a canoe coach book back from its binary form.
+     * The model objects made from the string table that students share, such as tags, are made once and shared.
+     */
+    private static class Decoder {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        private String[] strings;
+        private LocalDateTime[] times;
+        private final Map<Integer, AcademicYear> academicYears = new HashMap<>();
+        private final List<Map<Integer, Day>> dismissals = new ArrayList<>();
+        private final Map<Integer, Tag> tags = new HashMap<>();
+
+        Decoder(byte[] bytes, int from, int end) {
+            this.bytes = bytes;
+            this.position = from;
+            this.end = end;
+            DAYS.forEach(unused -> dismissals.add(new HashMap<>()));
+        }
+
+        CanoeCoach readBook() throws IllegalValueException {
+            readStringTable();
+            readTimeTable();
+
+            int studentCount = readInt();
+            List<Student> students = new ArrayList<>(Math.min(studentCount, end));
+            for (int i = 0; i < studentCount; i++) {
+                students.add(readStudent());
+            }
+            int trainingCount = readInt();
+            List<Training> trainings = new ArrayList<>(Math.min(trainingCount, end));
+            for (int i = 0; i < trainingCount; i++) {
+                trainings.add(readTraining());
+            }
+            if (position != end) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return JsonSerializableCanoeCoach.toCanoeCoach(students, trainings);
+        }
+
+        private void readStringTable() throws IllegalValueException {
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readCount();
+                strings[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+
+        private void readTimeTable() throws IllegalValueException {
+            times = new LocalDateTime[readCount()];
+            long minute = 0;
+            for (int i = 0; i < times.length; i++) {
+                long entry = readLong();
+                minute += fromZigZag(entry >>> 1);
+                long nanoOfMinute = (entry & 1) == 0 ? 0 : readLong();
+                times[i] = LocalDateTime.ofEpochSecond(minute * 60 + nanoOfMinute / NANOS_PER_SECOND,
+                        (int) (nanoOfMinute % NANOS_PER_SECOND), ZoneOffset.UTC);
+            }
+        }
+
+        private Student readStudent() throws IllegalValueException {
+            int id = readInt();
+            if (id == 0) {
+                throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+            }
+            if (id > Id.MAX_VALUE) {
+                throw new IllegalValueException(Id.MESSAGE_TOO_LARGE);
+            }
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            AcademicYear academicYear = readShared(academicYears, readStringIndex(), AcademicYear::new);
+            Day[] days = new Day[DAYS.size()];
+            for (int day = 0; day < days.length; day++) {
+                days[day] = readShared(dismissals.get(day), readStringIndex(), DAYS.get(day));
+            }
+
+            int tagCount = readCount();
+            Set<Tag> studentTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                studentTags.add(readShared(tags, readStringIndex(), Tag::new));
+            }
+
+            int attendanceCount = readCount();
+            int[] timeIndexes = new int[attendanceCount];
+            int timeIndex = 0;
+            for (int i = 0; i < attendanceCount; i++) {
+                timeIndex += readInt();
+                timeIndexes[i] = timeIndex;
+            }
+            List<Attendance> attendances = new ArrayList<>(attendanceCount);
+            int flags = 0;
+            for (int i = 0; i < attendanceCount; i++) {
+                if (i % 8 == 0) {
+                    flags = readByte();
+                }
+                attendances.add(new Attendance(readTime(timeIndexes[i]), (flags & 1 << i % 8) != 0));
+            }
+
+            return new Student(name, phone, email, academicYear, studentTags, days[0], days[1], days[2], days[3],
+                    days[4], attendances, new Id(id));
+        }
+
+        private Training readTraining() throws IllegalValueException {
+            LocalDateTime dateTime = readTime(readInt());
+            int memberCount = readCount();
+            Set<Id> studentIds = new HashSet<>();
+            long studentId = 0;
+            for (int i = 0; i < memberCount; i++) {
+                studentId += readInt();
+                if (studentId > Id.MAX_VALUE) {
+                    throw new IllegalValueException(Id.MESSAGE_TOO_LARGE);
+                }
+                studentIds.add(new Id((int) studentId));
+            }
+            return new Training(dateTime, studentIds);
+        }
+
+        /**
+         * Returns the model object made by {@code constructor} from the string at {@code stringIndex}, which is made
+         * the first time it is read and shared after.
+         */
+        private <T> T readShared(Map<Integer, T> made, int stringIndex, Function<String, T> constructor) {
+            return made.computeIfAbsent(stringIndex, unused -> constructor.apply(strings[stringIndex]));
+        }
+
+        private String readString() throws IllegalValueException {
+            return strings[readStringIndex()];
+        }
+
+        private int readStringIndex() throws IllegalValueException {
+            int index = readInt();
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_BAD_INDEX);
+            }
+            return index;
+        }
+
+        private LocalDateTime readTime(int index) throws IllegalValueException {
+            if (index < 0 || index >= times.length) {
+                throw new IllegalValueException(MESSAGE_BAD_INDEX);
+            }
+            return times[index];
+        }
+
+        /**
+         * Reads the number of items that follow, which cannot be more than the bytes left.
+         */
+        private int readCount() throws IllegalValueException {
+            int count = readInt();
+            if (count > end - position) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return count;
+        }
+
+        /**
+         * Reads a varint that must fit in a non-negative int.
+         */
+        private int readInt() throws IllegalValueException {
+            long value = readLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return (int) value;
+        }
+
+        private long readLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int next = readByte();
+                value |= (long) (next & 0x7f) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        private int readByte() throws IllegalValueException {
+            if (position >= end) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return bytes[position++] & 0xff;
+        }
+    }
+}
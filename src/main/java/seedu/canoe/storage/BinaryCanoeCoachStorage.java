@@ -0,0 +1,118 @@
+package seedu.canoe.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.commons.util.FileUtil;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+
+/**
+ * A class to access CanoeCoach data stored as a compact binary file on the hard disk.
+ * The file is a snapshot of the whole canoe coach book, in the format described by {@link BinaryCanoeCoachFile},
+ * which is much smaller and faster to load than the json one.
+ */
+public class BinaryCanoeCoachStorage implements CanoeCoachStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCanoeCoachStorage.class);
+
+    private final Path filePath;
+
+    public BinaryCanoeCoachStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCanoeCoachFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach() throws DataConversionException, IOException {
+        return readCanoeCoach(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCanoeCoach()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, or fails its checksum.
+     */
+    @Override
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryCanoeCoachFile.decode(Files.readAllBytes(filePath)));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach) throws IOException {
+        saveCanoeCoach(canoeCoach, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCanoeCoach(ReadOnlyCanoeCoach)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, Path filePath) throws IOException {
+        prepareSave(canoeCoach, filePath).run();
+    }
+
+    /**
+     * Similar to {@link CanoeCoachStorage#prepareSave(ReadOnlyCanoeCoach, Path)}.
+     * The canoe coach book is turned into its binary form straight away, which is quick enough to do on the
+     * thread that changes it.
+     */
+    @Override
+    public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+        requireNonNull(canoeCoach);
+        requireNonNull(filePath);
+
+        return new FileWrite(BinaryCanoeCoachFile.encode(canoeCoach), filePath);
+    }
+
+    /**
+     * Writes a canoe coach book out in full to a file, which makes any earlier write to the same file unneeded.
+     */
+    private static class FileWrite implements CanoeCoachWrite {
+        private final byte[] content;
+        private final Path filePath;
+
+        FileWrite(byte[] content, Path filePath) {
+            this.content = content;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void run() throws IOException {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFileAtomically(filePath, out -> out.write(content));
+        }
+
+        @Override
+        public Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+            boolean isOverwritten = earlier instanceof FileWrite && ((FileWrite) earlier).filePath.equals(filePath);
+            return isOverwritten ? Optional.of(this) : Optional.empty();
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.canoe.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 
 import seedu.canoe.commons.exceptions.DataConversionException;
@@ -45,4 +46,35 @@ public interface CanoeCoachStorage {
      */
     void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, Path filePath) throws IOException;
 
+    /**
+     * Takes the data to save from the given {@link ReadOnlyCanoeCoach} as it is now, and returns the write that
+     * saves it to {@code filePath}, to be run later.
+     *
+     * @param canoeCoach cannot be null.
+     * @see #saveCanoeCoach(ReadOnlyCanoeCoach, Path)
+     */
+    CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath);
+
+    /**
+     * Waits for the saves made so far to be written.
+     *
+     * @throws IOException if there was any problem writing one of them to the file.
+     */
+    default void flush() throws IOException {
+    }
+
+    /**
+     * Returns how long the oldest save that is not written yet has been waiting, or zero if every save is written.
+     */
+    default Duration getSaveLag() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Stops watching the canoe coach book saved through this storage, if any, and stops the threads that it
+     * writes on once the saves made so far are written. No more saves are to be made through it after.
+     */
+    default void close() {
+    }
+
 }
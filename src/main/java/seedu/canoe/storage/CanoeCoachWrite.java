@@ -0,0 +1,27 @@
+package seedu.canoe.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A write of CanoeCoach data prepared by a {@link CanoeCoachStorage}.
+ * The data is taken from the canoe coach book when the write is prepared, so the write can be run later, on another
+ * thread, while the canoe coach book goes on changing.
+ */
+public interface CanoeCoachWrite {
+
+    /**
+     * Writes the data to the storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void run() throws IOException;
+
+    /**
+     * Returns a single write with the same result as running {@code earlier} and then this write, if there is one
+     * that costs less than running both.
+     */
+    default Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+        return Optional.empty();
+    }
+}
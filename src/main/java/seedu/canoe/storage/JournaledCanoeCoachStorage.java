@@ -0,0 +1,463 @@
+package seedu.canoe.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.commons.util.FileUtil;
+import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+
+/**
+ * A class to access CanoeCoach data stored on the hard disk as a json snapshot, together with journals of the
+ * changes made since the snapshot was written.
+ *
+ * The first save of a canoe coach book writes it out in full. From then on its student and training lists are
+ * watched, so that each later save of the same book only appends the changes made since the last save to the
+ * current journal, as a single compact line, and a save without changes writes nothing. Once the journal grows
+ * past the compaction threshold, the next changes go to a new journal, and the full one is folded into the
+ * snapshot in the background. Reading the data replays the journals over the snapshot. Saves can also be prepared
+ * on the thread that changes the canoe coach book and written later, on another thread, with
+ * {@link #prepareSave(ReadOnlyCanoeCoach, Path)}.
+ *
+ * Journals are numbered by generation and kept next to the snapshot, which records the first generation that it
+ * does not include. The snapshot is replaced in a single step, and an entry cut short at the end of a journal is
+ * skipped, so that a crash in the middle of a save loses at most the changes being saved.
+ *
+ * Saves are prepared on the thread that changes the canoe coach book, as that is where its changes are seen. The
+ * writes prepared may then run on another thread, such as the writer thread of {@link AsyncCanoeCoachStorage},
+ * but only one at a time and in the order they were prepared in. Reads may come from any thread, and wait for
+ * the journal being folded into the snapshot, if any, to be done first.
+ */
+public class JournaledCanoeCoachStorage implements CanoeCoachStorage {
+
+    /** Size in bytes beyond which a journal is folded into the snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledCanoeCoachStorage.class);
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String MESSAGE_JOURNAL_BROKEN = "An earlier change could not be written to the journal";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<JsonAdaptedListChange> pendingChanges = new ArrayList<>();
+    private final ListChangeListener<Student> studentListener = change -> {
+        while (change.next()) {
+            pendingChanges.add(JsonAdaptedListChange.ofStudents(change));
+        }
+    };
+    private final ListChangeListener<Training> trainingListener = change -> {
+        while (change.next()) {
+            pendingChanges.add(JsonAdaptedListChange.ofTrainings(change));
+        }
+    };
+
+    private ReadOnlyCanoeCoach trackedCanoeCoach;
+    /** Set by a failed write to the journal or snapshot, after which the next save writes a new snapshot. */
+    private volatile boolean isJournalBroken;
+    /** Generation of the current journal. Only changed by the writes, which need not all run on one thread. */
+    private volatile long generation;
+    /** Size in bytes of the current journal. Only changed by the writes. */
+    private volatile long journalSize;
+    /** Folding of a full journal into the snapshot, started by a write and waited for by reads too. */
+    private volatile Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    public JournaledCanoeCoachStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledCanoeCoachStorage} whose journals are folded into the snapshot at
+     * {@code filePath} once they grow past {@code compactionThreshold} bytes.
+     */
+    public JournaledCanoeCoachStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getCanoeCoachFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach() throws DataConversionException, IOException {
+        return readCanoeCoach(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCanoeCoach()}.
+     * The journals kept next to {@code filePath} are replayed over the snapshot in it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or a journal is not in the correct format.
+     */
+    public Optional<ReadOnlyCanoeCoach> readCanoeCoach(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        Optional<JsonCanoeCoachFile> jsonCanoeCoach = readWithJournals(filePath, Long.MAX_VALUE);
+        if (!jsonCanoeCoach.isPresent()) {
+            return Optional.empty();
+        }
+
+        CanoeCoach canoeCoach;
+        try {
+            canoeCoach = jsonCanoeCoach.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // written back straight away, so that the snapshot is migrated even if the book is never changed
+        if (jsonCanoeCoach.get().isLegacyFormat()) {
+            try {
+                jsonCanoeCoach.get().write(filePath, false);
+                deleteJournalsBefore(filePath, jsonCanoeCoach.get().getJournalGeneration());
+            } catch (IOException e) {
+                logger.warning("Could not migrate " + filePath + " to the current format: " + e);
+            }
+        }
+        return Optional.of(canoeCoach);
+    }
+
+    @Override
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach) throws IOException {
+        saveCanoeCoach(canoeCoach, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCanoeCoach(ReadOnlyCanoeCoach)}.
+     * If {@code canoeCoach} was last saved to the file path of this storage, only the changes made to it since
+     * are written. Otherwise it is written out in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, Path filePath) throws IOException {
+        prepareSave(canoeCoach, filePath).run();
+    }
+
+    /**
+     * Similar to {@link #saveCanoeCoach(ReadOnlyCanoeCoach, Path)}, but only takes the changes, or the full
+     * canoe coach book, to write. The writes returned are to be run in the order they were prepared in.
+     */
+    @Override
+    public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+        requireNonNull(canoeCoach);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (canoeCoach == trackedCanoeCoach && isOwnFile && !isJournalBroken) {
+            JournalAppend append = new JournalAppend(new ArrayList<>(pendingChanges));
+            pendingChanges.clear();
+            return append;
+        }
+
+        SnapshotWrite snapshot = new SnapshotWrite(new JsonSerializableCanoeCoach(canoeCoach), filePath);
+        if (isOwnFile) {
+            isJournalBroken = false;
+            untrack();
+            track(canoeCoach);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        untrack();
+        compactor.shutdown();
+    }
+
+    /**
+     * Returns true if changes have been made to the canoe coach book saved last since it was saved.
+     */
+    boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Waits for the journal being folded into the snapshot, if any, to be done.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction of " + filePath + " failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} out in full to {@code filePath}, as a snapshot that includes all the journals next
+     * to it, and deletes them. If {@code filePath} is the file path of this storage, the journal that follows the
+     * snapshot is started.
+     */
+    private void writeSnapshot(JsonSerializableCanoeCoach snapshot, Path filePath) throws IOException {
+        awaitCompaction();
+        boolean isOwnFile = filePath.equals(this.filePath);
+
+        long nextGeneration = journalGenerations(filePath).stream().mapToLong(Long::longValue).max().orElse(-1) + 1;
+        if (isOwnFile) {
+            nextGeneration = Math.max(nextGeneration, generation + 1);
+        }
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(snapshot.withJournalGeneration(nextGeneration), filePath);
+            deleteJournalsBefore(filePath, nextGeneration);
+        } catch (IOException ioe) {
+            // The journal after it would not follow the snapshot on disk, so the next save writes the book in full.
+            if (isOwnFile) {
+                isJournalBroken = true;
+            }
+            throw ioe;
+        }
+
+        if (isOwnFile) {
+            generation = nextGeneration;
+            journalSize = 0;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the current journal, as a single entry, and starts folding the journal into the
+     * snapshot if it has grown past the threshold.
+     */
+    private void appendToJournal(List<JsonAdaptedListChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (isJournalBroken) {
+            throw new IOException(MESSAGE_JOURNAL_BROKEN);
+        }
+
+        byte[] entry = (JsonUtil.toCompactJsonString(new JsonJournalEntry(changes)) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(journalPath(filePath, generation), entry, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException ioe) {
+            // The journal may end in part of the entry now, so the next save writes the book out in full instead.
+            isJournalBroken = true;
+            throw ioe;
+        }
+        journalSize += entry.length;
+
+        if (journalSize > compactionThreshold && compaction.isDone()) {
+            long compactedGeneration = generation++;
+            journalSize = 0;
+            compaction = compactor.submit(() -> compact(filePath, compactedGeneration));
+        }
+    }
+
+    private void track(ReadOnlyCanoeCoach canoeCoach) {
+        trackedCanoeCoach = canoeCoach;
+        canoeCoach.getStudentList().addListener(studentListener);
+        canoeCoach.getTrainingList().addListener(trainingListener);
+    }
+
+    private void untrack() {
+        if (trackedCanoeCoach != null) {
+            trackedCanoeCoach.getStudentList().removeListener(studentListener);
+            trackedCanoeCoach.getTrainingList().removeListener(trainingListener);
+            trackedCanoeCoach = null;
+        }
+        pendingChanges.clear();
+    }
+
+    /**
+     * Folds the journals at {@code filePath} up to generation {@code lastGeneration} into the snapshot there.
+     * The snapshot is replaced before the journals are deleted, and records that it includes them, so a crash
+     * in between does not replay them twice.
+     */
+    private static void compact(Path filePath, long lastGeneration) {
+        try {
+            Optional<JsonCanoeCoachFile> compacted = readWithJournals(filePath, lastGeneration);
+            if (compacted.isPresent()) {
+                compacted.get().write(filePath, false);
+                deleteJournalsBefore(filePath, lastGeneration + 1);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not fold the journals of " + filePath + " into it: " + e);
+        }
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays over it the journals next to it, up to generation
+     * {@code lastGeneration}, that it does not include yet.
+     */
+    private static Optional<JsonCanoeCoachFile> readWithJournals(Path filePath, long lastGeneration)
+            throws DataConversionException, IOException {
+        Optional<JsonCanoeCoachFile> snapshot = JsonCanoeCoachFile.read(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        long nextGeneration = snapshot.get().getJournalGeneration();
+        List<JsonAdaptedListChange> changes = new ArrayList<>();
+        for (long journalGeneration : journalGenerations(filePath)) {
+            if (journalGeneration >= nextGeneration && journalGeneration <= lastGeneration) {
+                changes.addAll(readJournal(journalPath(filePath, journalGeneration)));
+                nextGeneration = journalGeneration + 1;
+            }
+        }
+        if (changes.isEmpty()) {
+            return snapshot;
+        }
+
+        try {
+            snapshot.get().applyChanges(changes, nextGeneration);
+            return snapshot;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal changes found in the journals of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the changes in the journal at {@code journalPath}, skipping its last entry if it was cut short.
+     */
+    private static List<JsonAdaptedListChange> readJournal(Path journalPath)
+            throws DataConversionException, IOException {
+        List<String> entries = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        List<JsonAdaptedListChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            try {
+                changes.addAll(JsonUtil.fromJsonString(entries.get(i), JsonJournalEntry.class).getChanges());
+            } catch (IOException e) {
+                if (i < entries.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Skipping the incomplete last entry of " + journalPath);
+            }
+        }
+        return changes;
+    }
+
+    private static Path journalPath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns the generations of the journals next to {@code filePath}, in increasing order.
+     */
+    private static List<Long> journalGenerations(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        String prefix = filePath.getFileName() + ".";
+        List<Long> generations = new ArrayList<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return generations;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(prefix) && name.endsWith(JOURNAL_EXTENSION)) {
+                    try {
+                        generations.add(Long.parseLong(
+                                name.substring(prefix.length(), name.length() - JOURNAL_EXTENSION.length())));
+                    } catch (NumberFormatException e) {
+                        // not a journal of this file
+                    }
+                }
+            }
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private static void deleteJournalsBefore(Path filePath, long generation) throws IOException {
+        for (long journalGeneration : journalGenerations(filePath)) {
+            if (journalGeneration < generation) {
+                Files.deleteIfExists(journalPath(filePath, journalGeneration));
+            }
+        }
+    }
+
+    /**
+     * Appends changes to the journal. Changes saved one after the other are appended together.
+     */
+    private class JournalAppend implements CanoeCoachWrite {
+        private final List<JsonAdaptedListChange> changes;
+
+        JournalAppend(List<JsonAdaptedListChange> changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void run() throws IOException {
+            appendToJournal(changes);
+        }
+
+        @Override
+        public Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+            if (!isAppendOf(earlier, JournaledCanoeCoachStorage.this)) {
+                return Optional.empty();
+            }
+            List<JsonAdaptedListChange> mergedChanges = new ArrayList<>(((JournalAppend) earlier).changes);
+            mergedChanges.addAll(changes);
+            return Optional.of(new JournalAppend(mergedChanges));
+        }
+
+        private JournaledCanoeCoachStorage storage() {
+            return JournaledCanoeCoachStorage.this;
+        }
+    }
+
+    /**
+     * Writes a canoe coach book out in full as a snapshot, which makes the writes to the same file before it
+     * unneeded.
+     */
+    private class SnapshotWrite implements CanoeCoachWrite {
+        private final JsonSerializableCanoeCoach snapshot;
+        private final Path filePath;
+
+        SnapshotWrite(JsonSerializableCanoeCoach snapshot, Path filePath) {
+            this.snapshot = snapshot;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void run() throws IOException {
+            writeSnapshot(snapshot, filePath);
+        }
+
+        @Override
+        public Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+            boolean isOwnFile = filePath.equals(JournaledCanoeCoachStorage.this.filePath);
+            boolean isOverwritten = isOwnFile && isAppendOf(earlier, JournaledCanoeCoachStorage.this)
+                    || earlier instanceof SnapshotWrite && ((SnapshotWrite) earlier).filePath.equals(filePath);
+            return isOverwritten ? Optional.of(this) : Optional.empty();
+        }
+    }
+
+    private static boolean isAppendOf(CanoeCoachWrite write, JournaledCanoeCoachStorage storage) {
+        return write instanceof JournalAppend && ((JournalAppend) write).storage() == storage;
+    }
+}
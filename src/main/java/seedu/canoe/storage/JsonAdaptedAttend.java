@@ -47,10 +47,6 @@ class JsonAdaptedAttend {
             throw new IllegalValueException(String
                     .format(MISSING_FIELD_MESSAGE_FORMAT, LocalDateTime.class.getSimpleName()));
         }
-        Attendance attendance = new Attendance(trainingTime);
-        if (isMarked) {
-            attendance.marks();
-        }
-        return attendance;
+        return new Attendance(trainingTime, isMarked);
     }
 }
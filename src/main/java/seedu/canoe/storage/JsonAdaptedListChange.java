@@ -0,0 +1,123 @@
+package seedu.canoe.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ListChangeListener;
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+
+/**
+ * Jackson-friendly version of a change to the student or training list of a canoe coach book.
+ * The change removes {@code removed} items from position {@code from} of the list, and then inserts the items it
+ * holds at that position, so that the change can be made again to a saved copy of the list.
+ */
+class JsonAdaptedListChange {
+
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal changes an unknown list: %s";
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal changes items outside the %s list.";
+
+    static final String STUDENTS = "students";
+    static final String TRAININGS = "trainings";
+
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final List<JsonAdaptedTraining> trainings = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("list") String list, @JsonProperty("from") int from,
+                                 @JsonProperty("removed") int removed,
+                                 @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                 @JsonProperty("trainings") List<JsonAdaptedTraining> trainings) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (trainings != null) {
+            this.trainings.addAll(trainings);
+        }
+    }
+
+    /**
+     * Converts the current part of a change to the student list into this class for Jackson use.
+     * {@code change} must be positioned on a part with {@link ListChangeListener.Change#next()}.
+     */
+    public static JsonAdaptedListChange ofStudents(ListChangeListener.Change<? extends Student> change) {
+        List<JsonAdaptedStudent> added = currentItems(change).stream()
+                .map(JsonAdaptedStudent::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedListChange(STUDENTS, change.getFrom(), removedCount(change), added, null);
+    }
+
+    /**
+     * Converts the current part of a change to the training list into this class for Jackson use.
+     * {@code change} must be positioned on a part with {@link ListChangeListener.Change#next()}.
+     */
+    public static JsonAdaptedListChange ofTrainings(ListChangeListener.Change<? extends Training> change) {
+        List<JsonAdaptedTraining> added = currentItems(change).stream()
+                .map(JsonAdaptedTraining::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedListChange(TRAININGS, change.getFrom(), removedCount(change), null, added);
+    }
+
+    /**
+     * Makes this change to whichever of {@code studentList} and {@code trainingList} it was made to.
+     *
+     * @throws IllegalValueException if the change does not fit the list, or an item it holds is invalid.
+     */
+    public void applyTo(List<Student> studentList, List<Training> trainingList) throws IllegalValueException {
+        if (STUDENTS.equals(list)) {
+            List<Student> added = new ArrayList<>();
+            for (JsonAdaptedStudent student : students) {
+                added.add(student.toModelType());
+            }
+            replaceRange(studentList, added);
+        } else if (TRAININGS.equals(list)) {
+            List<Training> added = new ArrayList<>();
+            for (JsonAdaptedTraining training : trainings) {
+                added.add(training.toModelType());
+            }
+            replaceRange(trainingList, added);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+        }
+    }
+
+    private <T> void replaceRange(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, list));
+        }
+        target.subList(from, from + removed).clear();
+        target.addAll(from, added);
+    }
+
+    /**
+     * Returns the items that the current part of {@code change} leaves in place of the removed ones.
+     * Permuted and updated items are treated as replaced.
+     */
+    private static <T> List<? extends T> currentItems(ListChangeListener.Change<? extends T> change) {
+        if (change.wasPermutated() || change.wasUpdated()) {
+            return change.getList().subList(change.getFrom(), change.getTo());
+        }
+        return change.wasAdded() ? change.getAddedSubList() : List.of();
+    }
+
+    private static int removedCount(ListChangeListener.Change<?> change) {
+        if (change.wasPermutated() || change.wasUpdated()) {
+            return change.getTo() - change.getFrom();
+        }
+        return change.getRemovedSize();
+    }
+}
@@ -81,7 +81,7 @@ class JsonAdaptedStudent {
      * Converts a given {@code Student} into this class for Jackson use.
      */
     public JsonAdaptedStudent(Student source) {
-        id = source.getId().value;
+        id = source.getId().getValue();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -101,6 +101,13 @@ class JsonAdaptedStudent {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id of this student as stored, without checking the other fields.
+     */
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's {@code Student} object.
      *
@@ -192,7 +199,13 @@ class JsonAdaptedStudent {
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
         }
+        if (!Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
         final Id studentId = new Id(id);
+        if (studentId.intValue() > Id.MAX_VALUE) {
+            throw new IllegalValueException(Id.MESSAGE_TOO_LARGE);
+        }
 
         Student student = new Student(modelName, modelPhone, modelEmail, modelAcademicYear,
             modelTags, monday, tuesday, wednesday, thursday, friday, studentId);
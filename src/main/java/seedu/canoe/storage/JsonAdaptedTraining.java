@@ -14,30 +14,36 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.canoe.commons.exceptions.IllegalValueException;
-import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.training.Training;
 
-
 /**
  * Jackson-friendly version of {@link Training}.
+ * Members are stored by their student ids.
  */
 class JsonAdaptedTraining {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Training's %s field is missing!";
 
     private final LocalDateTime dateTime;
-    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final List<String> studentIds = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedTraining} with the given training details.
+     * Version 1 files store a full copy of each member under {@code students} instead of {@code studentIds};
+     * only the ids of those copies are kept.
      */
     @JsonCreator
     public JsonAdaptedTraining(@JsonProperty("dateTime") String dateTime,
-                              @JsonProperty("students") List<JsonAdaptedStudent> students) {
+                               @JsonProperty("studentIds") List<String> studentIds,
+                               @JsonProperty("students") List<JsonAdaptedStudent> students) {
         try {
             this.dateTime = LocalDateTime.parse(dateTime);
+            if (studentIds != null) {
+                this.studentIds.addAll(studentIds);
+            }
             if (students != null) {
-                this.students.addAll(students);
+                students.stream().map(JsonAdaptedStudent::getId).forEach(this.studentIds::add);
             }
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException(MESSAGE_INVALID_DATE_TIME);
@@ -50,8 +56,8 @@ class JsonAdaptedTraining {
     public JsonAdaptedTraining(Training source) {
         dateTime = source.getDateTime();
 
-        students.addAll(source.getStudents().stream()
-                .map(JsonAdaptedStudent::new)
+        studentIds.addAll(source.getStudentIds().stream()
+                .map(Id::getValue)
                 .collect(Collectors.toList()));
     }
 
@@ -61,9 +67,15 @@ class JsonAdaptedTraining {
      * @throws IllegalValueException if there were any data constraints violated in the adapted training.
      */
     public Training toModelType() throws IllegalValueException {
-        final List<Student> studentList = new ArrayList<>();
-        for (JsonAdaptedStudent student : students) {
-            studentList.add(student.toModelType());
+        final Set<Id> modelStudentIds = new HashSet<>();
+        for (String studentId : studentIds) {
+            if (studentId == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
+            }
+            if (!Id.isValidId(studentId)) {
+                throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+            }
+            modelStudentIds.add(new Id(studentId));
         }
 
         if (dateTime == null) {
@@ -72,8 +84,7 @@ class JsonAdaptedTraining {
         }
 
         final LocalDateTime modelDateTime = dateTime;
-        Set<Student> studentSet = new HashSet<>(studentList);
 
-        return new Training(modelDateTime, studentSet);
+        return new Training(modelDateTime, modelStudentIds);
     }
 }
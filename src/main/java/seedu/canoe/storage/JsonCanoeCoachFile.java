@@ -0,0 +1,220 @@
+package seedu.canoe.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.commons.util.FileUtil;
+import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+
+/**
+ * The contents of a CanoeCoach data file, which is read and written one student or training at a time.
+ *
+ * The file is in the same format as a {@link JsonSerializableCanoeCoach}, but is never held in memory in its
+ * json form as a whole. Each student and training read is turned into the model's straight away, and each one
+ * written is turned into its json form just before it is written, so at most one of them is in its json form at
+ * any time.
+ */
+class JsonCanoeCoachFile {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonCanoeCoachFile.class);
+
+    private static final String VERSION = "version";
+    private static final String JOURNAL_GENERATION = "journalGeneration";
+    private static final String STUDENTS = "students";
+    private static final String TRAININGS = "trainings";
+
+    private final int version;
+    private final List<Student> students;
+    private final List<Training> trainings;
+    private long journalGeneration;
+
+    private JsonCanoeCoachFile(int version, long journalGeneration, List<Student> students,
+                               List<Training> trainings) {
+        this.version = version;
+        this.journalGeneration = journalGeneration;
+        this.students = students;
+        this.trainings = trainings;
+    }
+
+    /**
+     * Returns the contents of the data file at {@code filePath}, or {@code Optional.empty()} if the file is not
+     * found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<JsonCanoeCoachFile> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(read(JsonUtil.createParser(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static JsonCanoeCoachFile read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a canoe coach book");
+        }
+
+        int version = JsonSerializableCanoeCoach.LEGACY_VERSION;
+        long journalGeneration = 0;
+        List<Student> students = new ArrayList<>();
+        List<Training> trainings = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+            case VERSION:
+                version = parser.getIntValue();
+                // checked as soon as it is read, as the students and trainings after it may be in a newer format
+                JsonSerializableCanoeCoach.checkVersion(version);
+                break;
+            case JOURNAL_GENERATION:
+                journalGeneration = parser.getLongValue();
+                break;
+            case STUDENTS:
+                readArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    students.add(JsonUtil.readValue(parser, JsonAdaptedStudent.class).toModelType());
+                }
+                break;
+            case TRAININGS:
+                readArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    trainings.add(JsonUtil.readValue(parser, JsonAdaptedTraining.class).toModelType());
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of the canoe coach book");
+        }
+
+        if (version == JsonSerializableCanoeCoach.LEGACY_VERSION) {
+            JsonSerializableCanoeCoach.checkVersion(version);
+        }
+        return new JsonCanoeCoachFile(version, journalGeneration, students, trainings);
+    }
+
+    private static void readArray(JsonParser parser) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a list");
+        }
+    }
+
+    /**
+     * Writes the students and trainings of {@code canoeCoach} to the data file at {@code filePath}, as a snapshot
+     * that includes the changes of the journals before {@code journalGeneration}.
+     * The file is replaced only once it has been written in full.
+     *
+     * @param isCompact whether to write the file on a single line rather than pretty-printed.
+     */
+    static void write(ReadOnlyCanoeCoach canoeCoach, long journalGeneration, Path filePath, boolean isCompact)
+            throws IOException {
+        write(canoeCoach.getStudentList(), canoeCoach.getTrainingList(), journalGeneration, filePath, isCompact);
+    }
+
+    /**
+     * Writes these contents back to the data file at {@code filePath}, in the current format.
+     *
+     * @see #write(ReadOnlyCanoeCoach, long, Path, boolean)
+     */
+    void write(Path filePath, boolean isCompact) throws IOException {
+        write(students, trainings, journalGeneration, filePath, isCompact);
+    }
+
+    private static void write(List<? extends Student> students, List<? extends Training> trainings,
+                              long journalGeneration, Path filePath, boolean isCompact) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out, isCompact);
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION, JsonSerializableCanoeCoach.CURRENT_VERSION);
+            generator.writeNumberField(JOURNAL_GENERATION, journalGeneration);
+            generator.writeArrayFieldStart(STUDENTS);
+            for (Student student : students) {
+                JsonUtil.writeValue(generator, new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(TRAININGS);
+            for (Training training : trainings) {
+                JsonUtil.writeValue(generator, new JsonAdaptedTraining(training));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        });
+    }
+
+    /**
+     * Returns true if these contents were read from a file in the version 1 format.
+     */
+    boolean isLegacyFormat() {
+        return version == JsonSerializableCanoeCoach.LEGACY_VERSION;
+    }
+
+    /**
+     * Returns the generation of the first journal whose changes are not included in these contents.
+     */
+    long getJournalGeneration() {
+        return journalGeneration;
+    }
+
+    /**
+     * Makes {@code changes} to these contents, after which they include the changes of the journals before
+     * {@code journalGeneration}.
+     *
+     * @throws IllegalValueException if a change does not fit the lists it is made to.
+     */
+    void applyChanges(List<JsonAdaptedListChange> changes, long journalGeneration) throws IllegalValueException {
+        for (JsonAdaptedListChange change : changes) {
+            change.applyTo(students, trainings);
+        }
+        this.journalGeneration = journalGeneration;
+    }
+
+    /**
+     * Converts these contents into the model's {@code CanoeCoach} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    CanoeCoach toModelType() throws IllegalValueException {
+        return JsonSerializableCanoeCoach.toCanoeCoach(students, trainings);
+    }
+}
@@ -12,19 +12,31 @@ import seedu.canoe.commons.exceptions.DataConversionException;
 import seedu.canoe.commons.exceptions.IllegalValueException;
 import seedu.canoe.commons.util.FileUtil;
 import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
 
 /**
  * A class to access CanoeCoach data stored as a json file on the hard disk.
+ * The file is read, and saved, one student or training at a time.
  */
 public class JsonCanoeCoachStorage implements CanoeCoachStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonCanoeCoachStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonCanoeCoachStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonCanoeCoachStorage} that writes the file at {@code filePath} on a single line if
+     * {@code isCompact}, or pretty-printed otherwise.
+     */
+    public JsonCanoeCoachStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getCanoeCoachFilePath() {
@@ -45,18 +57,28 @@ public class JsonCanoeCoachStorage implements CanoeCoachStorage {
     public Optional<ReadOnlyCanoeCoach> readCanoeCoach(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCanoeCoach> jsonCanoeCoach = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCanoeCoach.class);
+        Optional<JsonCanoeCoachFile> jsonCanoeCoach = JsonCanoeCoachFile.read(filePath);
         if (!jsonCanoeCoach.isPresent()) {
             return Optional.empty();
         }
 
+        CanoeCoach canoeCoach;
         try {
-            return Optional.of(jsonCanoeCoach.get().toModelType());
+            canoeCoach = jsonCanoeCoach.get().toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+
+        // written back straight away, so that the file is migrated even if the book is never changed
+        if (jsonCanoeCoach.get().isLegacyFormat()) {
+            try {
+                jsonCanoeCoach.get().write(filePath, isCompact);
+            } catch (IOException e) {
+                logger.warning("Could not migrate " + filePath + " to the current format: " + e);
+            }
+        }
+        return Optional.of(canoeCoach);
     }
 
     @Override
@@ -74,7 +96,42 @@ public class JsonCanoeCoachStorage implements CanoeCoachStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCanoeCoach(canoeCoach), filePath);
+        JsonCanoeCoachFile.write(canoeCoach, 0, filePath, isCompact);
+    }
+
+    @Override
+    public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+        requireNonNull(canoeCoach);
+        requireNonNull(filePath);
+
+        return new FileWrite(new JsonSerializableCanoeCoach(canoeCoach), filePath, isCompact);
+    }
+
+    /**
+     * Writes a canoe coach book out in full to a file, which makes any earlier write to the same file unneeded.
+     */
+    private static class FileWrite implements CanoeCoachWrite {
+        private final JsonSerializableCanoeCoach jsonCanoeCoach;
+        private final Path filePath;
+        private final boolean isCompact;
+
+        FileWrite(JsonSerializableCanoeCoach jsonCanoeCoach, Path filePath, boolean isCompact) {
+            this.jsonCanoeCoach = jsonCanoeCoach;
+            this.filePath = filePath;
+            this.isCompact = isCompact;
+        }
+
+        @Override
+        public void run() throws IOException {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(jsonCanoeCoach, filePath, isCompact);
+        }
+
+        @Override
+        public Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+            boolean isOverwritten = earlier instanceof FileWrite && ((FileWrite) earlier).filePath.equals(filePath);
+            return isOverwritten ? Optional.of(this) : Optional.empty();
+        }
     }
 
 }
@@ -0,0 +1,30 @@
+package seedu.canoe.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of one entry of a canoe coach book journal, holding the changes saved together.
+ * Each entry is written on a line of its own, so that an entry cut short by a crash can be told apart.
+ */
+class JsonJournalEntry {
+
+    private final List<JsonAdaptedListChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("changes") List<JsonAdaptedListChange> changes) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    public List<JsonAdaptedListChange> getChanges() {
+        return changes;
+    }
+}
@@ -1,28 +1,48 @@
 package seedu.canoe.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.canoe.commons.core.LogsCenter;
 import seedu.canoe.commons.exceptions.IllegalValueException;
 import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
 /**
  * An Immutable CanoeCoach that is serializable to JSON format.
+ * Version 2 of the format stores each training's members by id. Version 1 files, which have no version field and
+ * store a full copy of every member inside each training, are still read and are written back as version 2.
+ * A file written by {@link JournaledCanoeCoachStorage} also records the generation of the first journal whose
+ * changes it does not include yet. {@link JsonCanoeCoachFile} reads and writes the same format one student or
+ * training at a time.
  */
 @JsonRootName(value = "canoecoach")
 class JsonSerializableCanoeCoach {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Students list contains duplicate student id(s).";
     public static final String MESSAGE_DUPLICATE_TRAINING = "Training list contains duplicate Training Session(s).";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "Training list refers to unknown student id(s).";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is newer than this app supports.";
 
+    public static final int LEGACY_VERSION = 1;
+    public static final int CURRENT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableCanoeCoach.class);
+
+    private final int version;
+    private final long journalGeneration;
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedTraining> trainings = new ArrayList<>();
 
@@ -30,8 +50,12 @@ class JsonSerializableCanoeCoach {
      * Constructs a {@code JsonSerializableCanoeCoach} with the given students.
      */
     @JsonCreator
-    public JsonSerializableCanoeCoach(@JsonProperty("students") List<JsonAdaptedStudent> students,
-                                      @JsonProperty("trainings") List<JsonAdaptedTraining> trainings) {
+    public JsonSerializableCanoeCoach(@JsonProperty("version") Integer version,
+                                      @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                      @JsonProperty("trainings") List<JsonAdaptedTraining> trainings,
+                                      @JsonProperty("journalGeneration") Long journalGeneration) {
+        this.version = version == null ? LEGACY_VERSION : version;
+        this.journalGeneration = journalGeneration == null ? 0 : journalGeneration;
         this.students.addAll(students);
         this.trainings.addAll(trainings);
     }
@@ -42,29 +66,92 @@ class JsonSerializableCanoeCoach {
      * @param source future changes to this will not affect the created {@code JsonSerializableCanoeCoach}.
      */
     public JsonSerializableCanoeCoach(ReadOnlyCanoeCoach source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyCanoeCoach} into this class for Jackson use, as a snapshot that includes
+     * the changes of the journals before {@code journalGeneration}.
+     */
+    public JsonSerializableCanoeCoach(ReadOnlyCanoeCoach source, long journalGeneration) {
+        version = CURRENT_VERSION;
+        this.journalGeneration = journalGeneration;
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
         trainings.addAll(source.getTrainingList().stream().map(JsonAdaptedTraining::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns a copy of this canoe coach book as a snapshot that includes the changes of the journals before
+     * {@code journalGeneration}.
+     */
+    public JsonSerializableCanoeCoach withJournalGeneration(long journalGeneration) {
+        return new JsonSerializableCanoeCoach(version, students, trainings, journalGeneration);
+    }
+
+    /**
+     * Returns true if this was read from a file in the version 1 format.
+     */
+    public boolean isLegacyFormat() {
+        return version == LEGACY_VERSION;
+    }
+
     /**
      * Converts this canoe coach book into the model's {@code CanoeCoach} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public CanoeCoach toModelType() throws IllegalValueException {
-        CanoeCoach canoeCoach = new CanoeCoach();
+        checkVersion(version);
+        List<Student> modelStudents = new ArrayList<>();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
+            modelStudents.add(jsonAdaptedStudent.toModelType());
+        }
+        List<Training> modelTrainings = new ArrayList<>();
+        for (JsonAdaptedTraining jsonAdaptedTraining : trainings) {
+            modelTrainings.add(jsonAdaptedTraining.toModelType());
+        }
+        return toCanoeCoach(modelStudents, modelTrainings);
+    }
+
+    /**
+     * Checks that data in format {@code version} can be read.
+     *
+     * @throws IllegalValueException if the version is newer than this app supports.
+     */
+    static void checkVersion(int version) throws IllegalValueException {
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (version == LEGACY_VERSION) {
+            logger.info("Migrating data from version " + LEGACY_VERSION + " to version " + CURRENT_VERSION);
+        }
+    }
+
+    /**
+     * Returns the model's {@code CanoeCoach} object holding {@code students} and {@code trainings}.
+     *
+     * @throws IllegalValueException if they contain duplicates, students that share an id, or a training has members
+     *     that are not students.
+     */
+    static CanoeCoach toCanoeCoach(List<Student> students, List<Training> trainings) throws IllegalValueException {
+        CanoeCoach canoeCoach = new CanoeCoach();
+        Set<Id> studentIds = new HashSet<>();
+        for (Student student : students) {
             if (canoeCoach.hasStudent(student)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
             }
+            if (!studentIds.add(student.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
             canoeCoach.addStudent(student);
         }
-        for (JsonAdaptedTraining jsonAdaptedTraining : trainings) {
-            Training training = jsonAdaptedTraining.toModelType();
+        for (Training training : trainings) {
             if (canoeCoach.hasTraining(training)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TRAINING);
             }
+            if (!studentIds.containsAll(training.getStudentIds())) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_MEMBER);
+            }
             canoeCoach.addTraining(training);
         }
 
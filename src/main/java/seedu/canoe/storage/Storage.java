@@ -29,4 +29,14 @@ public interface Storage extends CanoeCoachStorage, UserPrefsStorage {
     @Override
     void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach) throws IOException;
 
+    /**
+     * Switches to saving CanoeCoach data to the data file, and in the format, given by {@code userPrefs}.
+     * The whole of {@code canoeCoach} is saved there before {@code userPrefs} are, so that the preferences never
+     * point to a data file that is not written yet. The data file saved to before is left as it is, and the
+     * storage that saved to it is closed.
+     *
+     * @throws IOException if there was any problem writing to either file.
+     */
+    void moveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, ReadOnlyUserPrefs userPrefs) throws IOException;
+
 }
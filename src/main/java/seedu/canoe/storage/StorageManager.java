@@ -2,6 +2,7 @@ package seedu.canoe.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -29,6 +30,21 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code CanoeCoachStorage} for the data file, and in the format, given by {@code userPrefs}, which
+     * saves in the background.
+     */
+    public static CanoeCoachStorage createCanoeCoachStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getCanoeCoachFilePath();
+        switch (userPrefs.getCanoeCoachFileFormat()) {
+        case BINARY:
+            return new AsyncCanoeCoachStorage(new BinaryCanoeCoachStorage(filePath));
+        case JSON:
+        default:
+            return new AsyncCanoeCoachStorage(new JournaledCanoeCoachStorage(filePath));
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -76,4 +92,41 @@ public class StorageManager implements Storage {
         canoeCoachStorage.saveCanoeCoach(canoeCoach, filePath);
     }
 
+    @Override
+    public void moveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, ReadOnlyUserPrefs userPrefs) throws IOException {
+        logger.fine("Attempting to move data file to: " + userPrefs.getCanoeCoachFilePath());
+        CanoeCoachStorage movedStorage = createCanoeCoachStorage(userPrefs);
+        try {
+            canoeCoachStorage.flush();
+            movedStorage.saveCanoeCoach(canoeCoach);
+            movedStorage.flush();
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            movedStorage.close();
+            throw e;
+        }
+        canoeCoachStorage.close();
+        canoeCoachStorage = movedStorage;
+    }
+
+    @Override
+    public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+        return canoeCoachStorage.prepareSave(canoeCoach, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        canoeCoachStorage.flush();
+    }
+
+    @Override
+    public Duration getSaveLag() {
+        return canoeCoachStorage.getSaveLag();
+    }
+
+    @Override
+    public void close() {
+        canoeCoachStorage.close();
+    }
+
 }
@@ -118,13 +118,14 @@ public class MainWindow extends UiPart<Stage> {
         studentListPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
 
         //This is a placeholder.
-        trainingListPanel = new TrainingListPanel(logic.getFilteredTrainingList());
+        trainingListPanel = new TrainingListPanel(logic.getFilteredTrainingList(),
+                logic.getCanoeCoach().getStudentList(), logic::getStudentById);
         trainingListPanelPlaceholder.getChildren().add(trainingListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getCanoeCoachFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic::getCanoeCoachFilePath, logic::getSaveLag);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -2,7 +2,12 @@ package seedu.canoe.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.function.Supplier;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,17 +17,42 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String SAVE_LAG_FORMAT = "Saving (%.1fs behind)";
+
     private static final String FXML = "StatusBarFooter.fxml";
+    /** Save lag below which the status bar shows the changes as saved, so that quick saves do not flicker. */
+    private static final Duration SHOWN_SAVE_LAG = Duration.ofMillis(500);
+    private static final javafx.util.Duration REFRESH_INTERVAL = javafx.util.Duration.millis(250);
+
+    private final Supplier<Path> saveLocation;
+    private final Supplier<Duration> saveLag;
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveLagStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} that shows the {@code Path} given by {@code saveLocation}, which may change
+     * when the data file is converted, and the save lag given by {@code saveLag} while saving falls behind.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Supplier<Path> saveLocation, Supplier<Duration> saveLag) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        this.saveLocation = saveLocation;
+        this.saveLag = saveLag;
+        refreshStatus();
+
+        Timeline refresh = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refreshStatus()));
+        refresh.setCycleCount(Animation.INDEFINITE);
+        refresh.play();
+    }
+
+    private void refreshStatus() {
+        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation.get()).toString());
+        Duration lag = saveLag.get();
+        saveLagStatus.setText(lag.compareTo(SHOWN_SAVE_LAG) < 0 ? ""
+                : String.format(SAVE_LAG_FORMAT, lag.toMillis() / 1000.0));
     }
 
 }
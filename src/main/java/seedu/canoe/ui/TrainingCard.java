@@ -2,8 +2,9 @@ package seedu.canoe.ui;
 
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
-import java.util.Comparator;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -11,6 +12,8 @@ import javafx.scene.control.Separator;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
 /**
@@ -40,9 +43,10 @@ public class TrainingCard extends UiPart<Region> {
     private VBox students;
 
     /**
-     * Creates a {@code StudentCode} with the given {@code Student} and index to display.
+     * Creates a {@code TrainingCard} with the given {@code Training} and index to display.
+     * Members of the training are resolved from their ids with {@code studentLookup}.
      */
-    public TrainingCard(Training training, int displayedIndex) {
+    public TrainingCard(Training training, int displayedIndex, Function<Id, Optional<Student>> studentLookup) {
         super(FXML);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
@@ -55,8 +59,10 @@ public class TrainingCard extends UiPart<Region> {
         name.setText("Training on: " + training.getDateTime().format(formatter)
                 + " (" + day + ")");
 
-        training.getStudents().stream()
-                .sorted(Comparator.comparing(student -> student.getName().toString()))
+        // Members are kept in increasing order of id, so they need no sorting here.
+        training.getStudentIds().stream()
+                .map(studentLookup)
+                .flatMap(Optional::stream)
                 .forEach(student -> students.getChildren().add(new Label(student.studentEssentialPrinter())));
     }
 
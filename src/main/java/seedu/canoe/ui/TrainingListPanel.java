@@ -1,13 +1,18 @@
 package seedu.canoe.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.canoe.commons.core.LogsCenter;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
 /**
@@ -20,13 +25,20 @@ public class TrainingListPanel extends UiPart<Region> {
     @FXML
     private ListView<Training> trainingListView;
 
+    private final Function<Id, Optional<Student>> studentLookup;
+
     /**
      * Creates a {@code TrainingListPanel} with the given {@code ObservableList}.
+     * Trainings refer to their members by id, so members are resolved with {@code studentLookup}, and the
+     * panel is redrawn whenever {@code studentList} changes.
      */
-    public TrainingListPanel(ObservableList<Training> trainingList) {
+    public TrainingListPanel(ObservableList<Training> trainingList, ObservableList<Student> studentList,
+                             Function<Id, Optional<Student>> studentLookup) {
         super(FXML);
+        this.studentLookup = studentLookup;
         trainingListView.setItems(trainingList);
         trainingListView.setCellFactory(listView -> new TrainingListViewCell());
+        studentList.addListener((ListChangeListener<Student>) change -> trainingListView.refresh());
     }
 
     /**
@@ -41,7 +53,7 @@ public class TrainingListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TrainingCard(training, getIndex() + 1).getRoot());
+                setGraphic(new TrainingCard(training, getIndex() + 1, studentLookup).getRoot());
             }
         }
     }
@@ -19,14 +19,18 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.canoe.logic.commands.AddCommand;
 import seedu.canoe.logic.commands.CommandResult;
+import seedu.canoe.logic.commands.CommitCommand;
+import seedu.canoe.logic.commands.ConvertCommand;
 import seedu.canoe.logic.commands.ListCommand;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.logic.parser.exceptions.ParseException;
 import seedu.canoe.model.Model;
 import seedu.canoe.model.ModelManager;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.ReadOnlyUserPrefs;
 import seedu.canoe.model.UserPrefs;
 import seedu.canoe.model.student.Student;
+import seedu.canoe.storage.BinaryCanoeCoachStorage;
 import seedu.canoe.storage.JsonCanoeCoachStorage;
 import seedu.canoe.storage.JsonUserPrefsStorage;
 import seedu.canoe.storage.StorageManager;
@@ -88,6 +92,67 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandChangesNothing_skipsSave() throws Exception {
+        JsonCanoeCoachStorage addressBookStorage =
+                new JsonCanoeCoachIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_forked_savesOnlyOnCommit() throws Exception {
+        JsonCanoeCoachStorage addressBookStorage =
+                new JsonCanoeCoachIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        model.fork();
+
+        // changes made on the fork are not saved
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ACADEMICYEAR_DESC_AMY;
+        logic.execute(addCommand);
+
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, ()
+            -> logic.execute(CommitCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_convert_savesBookToConvertedFile() throws Exception {
+        model.setCanoeCoachFilePath(temporaryFolder.resolve("addressBook.json"));
+        Path binaryFilePath = temporaryFolder.resolve("addressBook.bin");
+        logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+
+        assertEquals(binaryFilePath, logic.getCanoeCoachFilePath());
+        assertEquals(model.getCanoeCoach(), new BinaryCanoeCoachStorage(binaryFilePath).readCanoeCoach().get());
+        assertEquals(model.getUserPrefs(),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")).readUserPrefs().get());
+    }
+
+    @Test
+    public void execute_convertFails_staysWithOldFile() {
+        model.setCanoeCoachFilePath(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonCanoeCoachStorage addressBookStorage =
+                new JsonCanoeCoachIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder) {
+            @Override
+            public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        Model expectedModel = new ModelManager(model.getCanoeCoach(), model.getUserPrefs());
+        assertCommandFailure(ConvertCommand.COMMAND_WORD + " binary", CommandException.class,
+                LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, expectedModel);
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
@@ -9,7 +9,6 @@ import static seedu.canoe.testutil.LocalDateTimeUtil.VALID_LOCAL_DATE_TIME_3;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIFTH_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_TRAINING;
-import static seedu.canoe.testutil.TypicalStudents.BOB;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,8 +24,6 @@ import seedu.canoe.model.student.AllMatchPredicateList;
 import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
-import seedu.canoe.model.training.Training;
-import seedu.canoe.testutil.StudentBuilder;
 import seedu.canoe.testutil.TrainingBuilder;
 import seedu.canoe.testutil.TypicalStudents;
 import seedu.canoe.testutil.TypicalTraining;
@@ -45,15 +42,6 @@ public class AddAllStudentToTrainingCommandTest {
                 new AddAllStudentToTrainingCommand(null));
     }
 
-    @Test
-    public void isAbleToAddStudent() {
-        getModel().addTraining(TypicalTraining.VALID_PAST_TRAINING);
-        Training training = model.getFilteredTrainingList().get(0);
-        Student student = new StudentBuilder(BOB).build();
-        assertTrue(AddAllStudentToTrainingCommand.isAbleToAddStudent(student, training));
-        getModel().deleteTraining(TypicalTraining.VALID_PAST_TRAINING);
-    }
-
     @Test
     public void executeTrainingInvalidIndexThrowsCommandException() throws Exception {
         AddAllStudentToTrainingCommand addAllStudentToTrainingCommand =
@@ -104,16 +92,16 @@ public class AddAllStudentToTrainingCommandTest {
                 .containsAttendance(new Attendance(VALID_LOCAL_DATE_TIME_2)));
 
         //Four students inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(1).getStudents().size() == 7);
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().size() == 7);
         //Training class should contain student1 too
-        assertTrue(getModel().getFilteredTrainingList().get(1).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
         //Training class should contain student2 too
-        assertTrue(getModel().getFilteredTrainingList().get(1).getStudents().contains(getModel()
-                .getFilteredStudentList().get(1)));
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(1).getId()));
         //Training class should contain student3 too
-        assertTrue(getModel().getFilteredTrainingList().get(1).getStudents().contains(getModel()
-                .getFilteredStudentList().get(2)));
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(2).getId()));
         resetModel();
     }
 
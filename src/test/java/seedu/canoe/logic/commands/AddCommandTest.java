@@ -7,8 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.canoe.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,8 +25,10 @@ import seedu.canoe.commons.core.GuiSettings;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.Model;
+import seedu.canoe.model.QueryPlan;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
 import seedu.canoe.model.ReadOnlyUserPrefs;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 import seedu.canoe.testutil.StudentBuilder;
@@ -139,6 +148,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void batch(Consumer<Model> edits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isForked() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void fork() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitFork() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardFork() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudent(Student student) {
             throw new AssertionError("This method should not be called.");
@@ -159,11 +213,101 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Student> getStudentById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> findStudents(Collection<Id> ids) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceStudentById(Id id, Student editedStudent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTraining(Training target, Training editedTraining) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Training> getTrainingAt(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Training> findTrainings(Collection<LocalDateTime> dateTimes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Training> getTrainingsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Training> getTrainingsOfStudent(Id studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Id allocateId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAttendanceMarked(Training training, List<Id> studentIds, boolean isMarked) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAbsenceCount(Id studentId, LocalDateTime before) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsAbsentMoreThan(int threshold, LocalDateTime from, LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsFreeAt(LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsDismissedBetween(DayOfWeek day, LocalTime from, LocalTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getStudentsWithEmailContaining(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planStudentQuery(Predicate<Student> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Student> evaluateStudentQuery(Predicate<Student> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
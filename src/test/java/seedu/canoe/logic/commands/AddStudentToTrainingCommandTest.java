@@ -41,7 +41,7 @@ public class AddStudentToTrainingCommandTest {
     @Test
     public void constructor_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, null));
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, null));
     }
 
     @Test
@@ -54,7 +54,7 @@ public class AddStudentToTrainingCommandTest {
     public void execute_studentDuplicateInTraining_addFail() throws Exception {
         //JONAS is already in the first training
         AddStudentToTrainingCommand addStudentToTrainingCommand =
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST);
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST);
         assertThrows(CommandException.class, Messages.MESSAGE_DUPLICATE_STUDENTS_IN_TRAINING, () ->
                 addStudentToTrainingCommand.execute(getModel()));
     }
@@ -62,7 +62,7 @@ public class AddStudentToTrainingCommandTest {
     @Test
     public void execute_studentAddToPastTraining_addFail() throws Exception {
         AddStudentToTrainingCommand addStudentToTrainingCommand =
-                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST_2);
+                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST_2);
         assertThrows(CommandException.class, AddStudentToTrainingCommand.MESSAGE_TRAINING_CANNOT_ADD, () ->
                 addStudentToTrainingCommand.execute(getModel()));
     }
@@ -80,11 +80,11 @@ public class AddStudentToTrainingCommandTest {
         assertTrue(getModel().getFilteredStudentList().get(3)
                 .containsAttendance(new Attendance(VALID_LOCAL_DATE_TIME_2)));
         //One student JONAS now inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().size() == 1);
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().size() == 1);
 
         //Training class should still contain JONAS too
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().contains(getModel()
-                .getFilteredStudentList().get(3)));
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(3).getId()));
     }
 
     @Test
@@ -106,32 +106,32 @@ public class AddStudentToTrainingCommandTest {
                 .containsAttendance(new Attendance(VALID_LOCAL_DATE_TIME_2)));
 
         //Three students inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().size() == 3);
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().size() == 3);
         //Training class should contain student1 too
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
         //Training class should contain student2 too
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().contains(getModel()
-                .getFilteredStudentList().get(1)));
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(1).getId()));
         //Training class should contain student3 too
-        assertTrue(getModel().getFilteredTrainingList().get(3).getStudents().contains(getModel()
-                .getFilteredStudentList().get(2)));
+        assertTrue(getModel().getFilteredTrainingList().get(3).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(2).getId()));
     }
 
     @Test
     public void execute_studentInvalidIndex_throwsCommandException() throws Exception {
         AddStudentToTrainingCommand addStudentToTrainingCommand =
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, INVALID_ID_LIST);
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, INVALID_ID_LIST);
         assertThrows(CommandException.class, CommandUtil.MESSAGE_STUDENT_DOES_NOT_EXIST, () ->
                 addStudentToTrainingCommand.execute(getModel()));
         //Student JONAS should still have dateTime in his field
         assertTrue(getModel().getFilteredStudentList().get(0)
                 .containsAttendance(new Attendance(DATE_TIME_NOW_PLUS_ONE_DAY)));
         //Training container should still only contain Jonas
-        assertTrue(getModel().getFilteredTrainingList().get(0).getStudents().size() == 1);
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().size() == 1);
         //Training class should still contain JONAS too
-        assertTrue(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
     }
 
     @Test
@@ -152,25 +152,25 @@ public class AddStudentToTrainingCommandTest {
         assertFalse(getModel().getFilteredStudentList().get(0).containsAttendance(
             new Attendance(VALID_LOCAL_DATE_TIME_3)));
         //Student JONAS should not be inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(1).getStudents().size() == 0);
+        assertTrue(getModel().getFilteredTrainingList().get(2).getStudentIds().size() == 0);
         //Training class should not contain JONAS too
-        assertFalse(getModel().getFilteredTrainingList().get(1).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertFalse(getModel().getFilteredTrainingList().get(2).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
     }
 
     @Test
     public void equals() {
         AddStudentToTrainingCommand addStudent1Command =
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST);
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST);
         AddStudentToTrainingCommand addStudent12Command =
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST_2);
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST_2);
 
         // same object -> returns true
         assertTrue(addStudent1Command.equals(addStudent1Command));
 
         // same values -> returns true
         AddStudentToTrainingCommand addStudentToTrainingCommandCopy =
-                new AddStudentToTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST);
+                new AddStudentToTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST);
         assertTrue(addStudent1Command.equals(addStudentToTrainingCommandCopy));
 
         // different types -> returns false
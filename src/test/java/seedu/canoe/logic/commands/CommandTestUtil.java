@@ -14,6 +14,7 @@ import static seedu.canoe.logic.parser.CliSyntax.PREFIX_TUESDAY_DISMISSAL;
 import static seedu.canoe.logic.parser.CliSyntax.PREFIX_WEDNESDAY_DISMISSAL;
 import static seedu.canoe.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,9 +23,12 @@ import seedu.canoe.commons.core.index.Index;
 import seedu.canoe.logic.commands.exceptions.CommandException;
 import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.Model;
+import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.NameContainsKeywordsPredicate;
 import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
 import seedu.canoe.testutil.EditStudentDescriptorBuilder;
+import seedu.canoe.testutil.TrainingBuilder;
 
 /**
  * Contains helper methods for testing commands.
@@ -173,4 +177,21 @@ public class CommandTestUtil {
         assertEquals(1, model.getFilteredStudentList().size());
     }
 
+    /**
+     * Adds a training at {@code dateTime} to {@code model}, with {@code members} in it.
+     * Each member gets an attendance for the training, marked if {@code isMarked}.
+     */
+    public static void addTrainingWithMembers(Model model, LocalDateTime dateTime, boolean isMarked,
+            Student... members) {
+        Training training = new TrainingBuilder().withDateTime(dateTime).build();
+        for (Student member : members) {
+            Student student = model.getStudentById(member.getId()).get();
+            Student attendingStudent = student.cloneStudent();
+            attendingStudent.addAttendance(new Attendance(dateTime, isMarked));
+            model.setStudentInUniqueStudentList(student, attendingStudent);
+            training.addStudent(member.getId());
+        }
+        model.addTraining(training);
+    }
+
 }
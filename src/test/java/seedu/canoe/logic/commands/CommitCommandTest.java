@@ -0,0 +1,40 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Student;
+
+public class CommitCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_notForked_failure() {
+        assertCommandFailure(new CommitCommand(), model, CommitCommand.MESSAGE_NOT_FORKED);
+    }
+
+    @Test
+    public void execute_forked_keepsChanges() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        model.fork();
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+
+        expectedModel.deleteStudent(firstStudent);
+        assertCommandSuccess(new CommitCommand(), model, CommitCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isForked());
+
+        // the committed changes can still be undone
+        assertTrue(model.canUndo());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.CanoeCoachFileFormat;
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_toOtherFormat_success() throws Exception {
+        Path binaryFilePath = Paths.get("data", "canoecoach.bin");
+        UserPrefs expectedUserPrefs = new UserPrefs();
+        expectedUserPrefs.setCanoeCoachFilePath(binaryFilePath);
+        expectedUserPrefs.setCanoeCoachFileFormat(CanoeCoachFileFormat.BINARY);
+        Model expectedModel = new ModelManager(getTypicalCanoeCoach(), expectedUserPrefs);
+
+        assertCommandSuccess(new ConvertCommand(CanoeCoachFileFormat.BINARY), model,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, CanoeCoachFileFormat.BINARY, binaryFilePath),
+                expectedModel);
+        assertEquals(expectedUserPrefs, model.getUserPrefs());
+
+        // converting back goes back to the json file
+        new ConvertCommand(CanoeCoachFileFormat.JSON).execute(model);
+        assertEquals(new UserPrefs(), model.getUserPrefs());
+    }
+
+    @Test
+    public void execute_alreadyInFormat_failure() {
+        assertCommandFailure(new ConvertCommand(CanoeCoachFileFormat.JSON), model,
+                String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, CanoeCoachFileFormat.JSON));
+    }
+
+    @Test
+    public void execute_forked_failure() {
+        model.fork();
+        assertCommandFailure(new ConvertCommand(CanoeCoachFileFormat.BINARY), model, ConvertCommand.MESSAGE_FORKED);
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand toBinary = new ConvertCommand(CanoeCoachFileFormat.BINARY);
+
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new ConvertCommand(CanoeCoachFileFormat.BINARY)));
+        assertFalse(toBinary.equals(null));
+        assertFalse(toBinary.equals(new ConvertCommand(CanoeCoachFileFormat.JSON)));
+    }
+}
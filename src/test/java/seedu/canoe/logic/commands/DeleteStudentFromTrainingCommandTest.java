@@ -11,7 +11,7 @@ import static seedu.canoe.testutil.Assert.assertThrows;
 import static seedu.canoe.testutil.LocalDateTimeUtil.DATE_TIME_NOW_PLUS_ONE_DAY;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIFTH_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
-import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_TRAINING;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_TRAINING;
 
 import java.util.List;
 
@@ -49,19 +49,19 @@ public class DeleteStudentFromTrainingCommandTest {
     @Test
     public void execute_studentAcceptedByModel_removeSuccessful() throws Exception {
         DeleteStudentFromTrainingCommand deleteStudentFromTrainingCommand =
-                new DeleteStudentFromTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST);
+                new DeleteStudentFromTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST);
         CommandResult commandResult2 = deleteStudentFromTrainingCommand.execute(getModel());
         assertEquals(String.format(DeleteStudentFromTrainingCommand.MESSAGE_DELETE_STUDENT_SUCCESS, VALID_ID_STRINGS)
-                + " from Training Session 1",
+                + " from Training Session 2",
                 commandResult2.getFeedbackToUser());
         //Student JONAS should not have dateTime in his field anymore
         assertFalse(getModel().getFilteredStudentList().get(0)
                 .containsAttendance(new Attendance(DATE_TIME_NOW_PLUS_ONE_DAY)));
         //Nobody inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(0).getStudents().size() == 0);
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().size() == 0);
         //Training class should not contain JONAS too
-        assertFalse(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertFalse(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
 
     }
 
@@ -78,7 +78,7 @@ public class DeleteStudentFromTrainingCommandTest {
     @Test
     public void execute_studentNotInTraining_removeFail() {
         DeleteStudentFromTrainingCommand deleteStudentFromTrainingCommand =
-                new DeleteStudentFromTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST_2);
+                new DeleteStudentFromTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST_2);
         assertThrows(CommandException.class, DeleteStudentFromTrainingCommand.MESSAGE_INVALID_STUDENT, () ->
                 deleteStudentFromTrainingCommand.execute(getModel()));
     }
@@ -86,10 +86,10 @@ public class DeleteStudentFromTrainingCommandTest {
     @Test
     public void execute_multipleStudentAcceptedByModel_deleteSuccessful() throws Exception {
         DeleteStudentFromTrainingCommand deleteStudentFromTrainingCommand =
-                new DeleteStudentFromTrainingCommand(INDEX_FIRST_TRAINING, VALID_ID_LIST);
+                new DeleteStudentFromTrainingCommand(INDEX_SECOND_TRAINING, VALID_ID_LIST);
         CommandResult commandResult2 = deleteStudentFromTrainingCommand.execute(getModel());
         assertEquals(String.format(DeleteStudentFromTrainingCommand
-                        .MESSAGE_DELETE_STUDENT_SUCCESS, VALID_ID_STRINGS) + " from Training Session 1",
+                        .MESSAGE_DELETE_STUDENT_SUCCESS, VALID_ID_STRINGS) + " from Training Session 2",
                 commandResult2.getFeedbackToUser());
         //Student 1 should not have dateTime added to his field
         assertFalse(getModel().getFilteredStudentList().get(0)
@@ -98,32 +98,32 @@ public class DeleteStudentFromTrainingCommandTest {
         assertFalse(getModel().getFilteredStudentList().get(1)
                 .containsAttendance(new Attendance(DATE_TIME_NOW_PLUS_ONE_DAY)));
         //0 students inside of the training container
-        assertTrue(getModel().getFilteredTrainingList().get(0).getStudents().size() == 0);
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().size() == 0);
         //Training class should not contain student1 too
-        assertFalse(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertFalse(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
         //Training class should not contain student2 too
-        assertFalse(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(1)));
+        assertFalse(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(1).getId()));
         //Training class should not contain student3 too
-        assertFalse(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(2)));
+        assertFalse(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(2).getId()));
     }
 
     @Test
     public void execute_studentInvalidIndex_throwsCommandException() throws Exception {
         DeleteStudentFromTrainingCommand deleteStudentFromTrainingCommand =
-                new DeleteStudentFromTrainingCommand(INDEX_FIRST_TRAINING, INVALID_ID_LIST);
+                new DeleteStudentFromTrainingCommand(INDEX_SECOND_TRAINING, INVALID_ID_LIST);
         assertThrows(CommandException.class, CommandUtil.MESSAGE_STUDENT_DOES_NOT_EXIST, () ->
                 deleteStudentFromTrainingCommand.execute(getModel()));
         //Student should still have dateTime in his field
         assertTrue(getModel().getFilteredStudentList().get(0)
                 .containsAttendance(new Attendance(DATE_TIME_NOW_PLUS_ONE_DAY)));
         //Student Jonas should be inside of the training container
-        assertFalse(getModel().getFilteredTrainingList().get(0).getStudents().size() == 0);
+        assertFalse(getModel().getFilteredTrainingList().get(1).getStudentIds().size() == 0);
         //Training class should contain JONAS too
-        assertTrue(getModel().getFilteredTrainingList().get(0).getStudents().contains(getModel()
-                .getFilteredStudentList().get(0)));
+        assertTrue(getModel().getFilteredTrainingList().get(1).getStudentIds().contains(getModel()
+                .getFilteredStudentList().get(0).getId()));
     }
 
     @Test
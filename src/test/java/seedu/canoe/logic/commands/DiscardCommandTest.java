@@ -0,0 +1,43 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Student;
+
+public class DiscardCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_notForked_failure() {
+        assertCommandFailure(new DiscardCommand(), model, DiscardCommand.MESSAGE_NOT_FORKED);
+    }
+
+    @Test
+    public void execute_forked_restoresModelAtFork() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+        model.fork();
+        new DeleteCommand(INDEX_SECOND_STUDENT).execute(model);
+        new ClearCommand().execute(model);
+
+        expectedModel.deleteStudent(firstStudent);
+        assertCommandSuccess(new DiscardCommand(), model, DiscardCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.isForked());
+
+        // changes made before the fork can still be undone
+        Model typicalModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, typicalModel);
+    }
+}
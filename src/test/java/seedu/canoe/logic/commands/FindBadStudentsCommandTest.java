@@ -1,5 +1,8 @@
 package seedu.canoe.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.addTrainingWithMembers;
 import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.canoe.testutil.LocalDateTimeUtil.DATE_TIME_NOW_MINUS_FOUR_DAYS;
 import static seedu.canoe.testutil.LocalDateTimeUtil.DATE_TIME_NOW_MINUS_ONE_DAY;
@@ -12,14 +15,15 @@ import static seedu.canoe.testutil.TypicalStudents.CARL;
 import static seedu.canoe.testutil.TypicalStudents.FIONA;
 import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.canoe.model.Model;
 import seedu.canoe.model.ModelManager;
 import seedu.canoe.model.UserPrefs;
-import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Student;
 
 class FindBadStudentsCommandTest {
 
@@ -28,75 +32,97 @@ class FindBadStudentsCommandTest {
 
     @Test
     void execute_onlyFutureTrainings_noBadStudents() {
-        Attendance futureTraining1 = new Attendance(DATE_TIME_NOW_PLUS_ONE_DAY);
-        Attendance futureTraining2 = new Attendance(DATE_TIME_NOW_PLUS_TWO_DAYS);
-
-        ALICE.addAllAttendances(Arrays.asList(futureTraining1, futureTraining2));
-        CARL.addAllAttendances(Arrays.asList(futureTraining1, futureTraining2));
-        FIONA.addAllAttendances(Arrays.asList(futureTraining1, futureTraining2));
+        addTraining(DATE_TIME_NOW_PLUS_ONE_DAY, false, ALICE, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_PLUS_TWO_DAYS, false, ALICE, CARL, FIONA);
 
         String expectedMessage = "No students with a bad attendance record were found!";
         FindBadStudentsCommand command = new FindBadStudentsCommand();
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-
-        ALICE.removeAllAttendances();
-        CARL.removeAllAttendances();
-        FIONA.removeAllAttendances();
     }
 
     @Test
     void execute_allPastTrainingsAttended_noBadStudents() {
-        Attendance pastTraining1 = new Attendance(DATE_TIME_NOW_MINUS_ONE_DAY);
-        Attendance pastTraining2 = new Attendance(DATE_TIME_NOW_MINUS_TWO_DAYS);
-        pastTraining1.marks();
-        pastTraining2.marks();
-        ALICE.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2));
-        CARL.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2));
-        FIONA.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2));
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, true, ALICE, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, true, ALICE, CARL, FIONA);
 
         String expectedMessage = "No students with a bad attendance record were found!";
         FindBadStudentsCommand command = new FindBadStudentsCommand();
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-
-        ALICE.removeAllAttendances();
-        CARL.removeAllAttendances();
-        FIONA.removeAllAttendances();
     }
 
     @Test
     void execute_allPastTrainingsLessThan4Unattended_noBadStudents() {
-        Attendance pastTraining1 = new Attendance(DATE_TIME_NOW_MINUS_ONE_DAY);
-        Attendance pastTraining2 = new Attendance(DATE_TIME_NOW_MINUS_TWO_DAYS);
-        Attendance pastTraining3 = new Attendance(DATE_TIME_NOW_MINUS_THREE_DAYS);
-        ALICE.addAllAttendances(Arrays.asList(pastTraining1));
-        CARL.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2, pastTraining3));
-        FIONA.addAllAttendances(Arrays.asList(pastTraining2, pastTraining3));
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, false, ALICE, CARL);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, false, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_MINUS_THREE_DAYS, false, CARL, FIONA);
 
         String expectedMessage = "No students with a bad attendance record were found!";
         FindBadStudentsCommand command = new FindBadStudentsCommand();
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-
-        ALICE.removeAllAttendances();
-        CARL.removeAllAttendances();
-        FIONA.removeAllAttendances();
     }
 
     @Test
     void execute_allPastTrainingsMorethan3Unattended_noBadStudents() {
-        Attendance pastTraining1 = new Attendance(DATE_TIME_NOW_MINUS_ONE_DAY);
-        Attendance pastTraining2 = new Attendance(DATE_TIME_NOW_MINUS_TWO_DAYS);
-        Attendance pastTraining3 = new Attendance(DATE_TIME_NOW_MINUS_THREE_DAYS);
-        Attendance pastTraining4 = new Attendance(DATE_TIME_NOW_MINUS_FOUR_DAYS);
-        ALICE.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2, pastTraining3, pastTraining4));
-        CARL.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2, pastTraining3));
-        FIONA.addAllAttendances(Arrays.asList(pastTraining1, pastTraining2, pastTraining3));
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, false, ALICE, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, false, ALICE, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_MINUS_THREE_DAYS, false, ALICE, CARL, FIONA);
+        addTraining(DATE_TIME_NOW_MINUS_FOUR_DAYS, false, ALICE);
 
         String expectedMessage = "Alice Pauline(Id: 1)";
         FindBadStudentsCommand command = new FindBadStudentsCommand();
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    void execute_absencesMarkedAfterwards_noBadStudents() {
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_THREE_DAYS, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_FOUR_DAYS, false, ALICE);
+        model.setAttendanceMarked(model.getTrainingAt(DATE_TIME_NOW_MINUS_ONE_DAY).get(),
+                List.of(ALICE.getId()), true);
+
+        String expectedMessage = "No students with a bad attendance record were found!";
+        FindBadStudentsCommand command = new FindBadStudentsCommand();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    void execute_lowerThreshold_badStudentsFound() {
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, false, ALICE, CARL);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, false, CARL, FIONA);
+
+        String expectedMessage = "Carl Kurz(Id: 3)";
+        FindBadStudentsCommand command = new FindBadStudentsCommand(1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    void execute_absencesOutsideWindow_noBadStudents() {
+        addTraining(DATE_TIME_NOW_MINUS_ONE_DAY, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_TWO_DAYS, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_THREE_DAYS, false, ALICE);
+        addTraining(DATE_TIME_NOW_MINUS_FOUR_DAYS, false, ALICE);
+
+        String expectedMessage = "No students with a bad attendance record were found!";
+        FindBadStudentsCommand command = new FindBadStudentsCommand(1, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    void equals() {
+        FindBadStudentsCommand command = new FindBadStudentsCommand(2, 30);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindBadStudentsCommand(2, 30)));
+        assertTrue(new FindBadStudentsCommand().equals(new FindBadStudentsCommand(3)));
+        assertFalse(command.equals(new FindBadStudentsCommand(2)));
+        assertFalse(command.equals(new FindBadStudentsCommand(3, 30)));
+        assertFalse(command.equals(null));
+    }
 
-        ALICE.removeAllAttendances();
-        CARL.removeAllAttendances();
-        FIONA.removeAllAttendances();
+    private void addTraining(LocalDateTime dateTime, boolean isMarked, Student... members) {
+        addTrainingWithMembers(model, dateTime, isMarked, members);
+        addTrainingWithMembers(expectedModel, dateTime, isMarked, members);
     }
 }
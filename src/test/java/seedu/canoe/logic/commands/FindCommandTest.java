@@ -6,11 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.canoe.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
 import static seedu.canoe.testutil.TypicalStudents.CARL;
+import static seedu.canoe.testutil.TypicalStudents.DANIEL;
 import static seedu.canoe.testutil.TypicalStudents.ELLE;
 import static seedu.canoe.testutil.TypicalStudents.FIONA;
 import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -23,6 +27,7 @@ import seedu.canoe.model.student.AllMatchPredicateList;
 import seedu.canoe.model.student.NameContainsKeywordsPredicate;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -64,6 +69,9 @@ public class FindCommandTest {
 
         // different student -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explain instead of find -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstAllMatchPredicateList, true)));
     }
 
     @Test
@@ -129,6 +137,27 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_dismissalRange_multipleStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        DismissalRangePredicate rangePredicate =
+                new DismissalRangePredicate(DayOfWeek.WEDNESDAY, LocalTime.of(17, 0), LocalTime.of(18, 0));
+        AllMatchPredicateList allMatchPredicateList = AllMatchPredicateList.of(rangePredicate);
+        FindCommand command = new FindCommand(allMatchPredicateList);
+        expectedModel.updateFilteredStudentList(allMatchPredicateList);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        AllMatchPredicateList allMatchPredicateList = AllMatchPredicateList.of(preparePredicate("Meier"));
+        FindCommand command = new FindCommand(allMatchPredicateList, true);
+        String expectedMessage = model.planStudentQuery(allMatchPredicateList).explain();
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(expectedMessage.contains("look up name words [Meier], est. 2 students"));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
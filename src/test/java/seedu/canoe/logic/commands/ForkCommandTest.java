@@ -0,0 +1,30 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+
+public class ForkCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_notForked_success() {
+        assertCommandSuccess(new ForkCommand(), model, ForkCommand.MESSAGE_SUCCESS, expectedModel);
+        assertTrue(model.isForked());
+    }
+
+    @Test
+    public void execute_alreadyForked_failure() {
+        model.fork();
+        assertCommandFailure(new ForkCommand(), model, ForkCommand.MESSAGE_ALREADY_FORKED);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+import static seedu.canoe.testutil.TypicalStudents.ELLE;
+import static seedu.canoe.testutil.TypicalStudents.GEORGE;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand firstCommand = new QueryCommand(new AcademicYearRangePredicate(2, 4));
+        QueryCommand secondCommand = new QueryCommand(new AcademicYearRangePredicate(1, 4));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(new AcademicYearRangePredicate(2, 4))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_rangeAndNotTag_studentsFound() {
+        AllMatchPredicateList query = AllMatchPredicateList.of(new AcademicYearRangePredicate(2, 5),
+                new NotMatchPredicate(new TagMatchesPredicate(new Tag("friends"))));
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredStudentList(query);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, GEORGE), model.getFilteredStudentList());
+    }
+}
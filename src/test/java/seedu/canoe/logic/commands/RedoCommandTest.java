@@ -0,0 +1,47 @@
+package seedu.canoe.logic.commands;
+
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Student;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_failure() throws Exception {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterUndo_redoesChange() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+        new UndoCommand().execute(model);
+
+        expectedModel.deleteStudent(firstStudent);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_clearsRedo() throws Exception {
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+        new UndoCommand().execute(model);
+        new ClearCommand().execute(model);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
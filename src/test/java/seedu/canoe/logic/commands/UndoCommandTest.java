@@ -0,0 +1,66 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_TRAINING;
+import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+import seedu.canoe.testutil.TypicalStudentsInTypicalTrainings;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_afterDelete_restoresStudentInPlace() throws Exception {
+        new DeleteCommand(INDEX_SECOND_STUDENT).execute(model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_severalCommands_undoesLatestFirst() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        new DeleteCommand(INDEX_FIRST_STUDENT).execute(model);
+        new ClearCommand().execute(model);
+
+        expectedModel.deleteStudent(firstStudent);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        Model typicalModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, typicalModel);
+    }
+
+    @Test
+    public void execute_afterDeleteTraining_restoresTrainingAndAttendances() throws Exception {
+        Model trainingModel = new ModelManager(TypicalStudentsInTypicalTrainings.getTypicalAddressBook(),
+                new UserPrefs());
+        List<Student> students = new ArrayList<>(trainingModel.getFilteredStudentList());
+        List<Training> trainings = new ArrayList<>(trainingModel.getFilteredTrainingList());
+        new DeleteTrainingCommand(INDEX_FIRST_TRAINING).execute(trainingModel);
+
+        new UndoCommand().execute(trainingModel);
+        assertEquals(students, trainingModel.getFilteredStudentList());
+        assertEquals(trainings, trainingModel.getFilteredTrainingList());
+    }
+}
@@ -1,13 +1,15 @@
 package seedu.canoe.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.canoe.logic.commands.CommandTestUtil.addTrainingWithMembers;
 import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
-import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_THIRD_TRAINING;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +18,6 @@ import seedu.canoe.model.Model;
 import seedu.canoe.model.ModelManager;
 import seedu.canoe.model.UserPrefs;
 import seedu.canoe.model.student.AnyMatchPredicateList;
-import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.IdMatchesPredicate;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
@@ -82,34 +83,23 @@ class UnmarkAttendanceCommandTest {
         Training firstTraining = TypicalTraining.VALID_PAST_TRAINING;
         Training secondTraining = TypicalTraining.VALID_PAST_TRAINING1;
         Training thirdTraining = TypicalTraining.VALID_PAST_TRAINING2;
-        model.addTraining(firstTraining);
+        LocalDateTime dateTime = firstTraining.getDateTime();
+        addTrainingWithMembers(model, dateTime, true, TypicalStudents.BENSON, TypicalStudents.ELLE);
         model.addTraining(secondTraining);
         model.addTraining(thirdTraining);
-        expectedModel.addTraining(firstTraining);
+        addTrainingWithMembers(expectedModel, dateTime, true, TypicalStudents.BENSON, TypicalStudents.ELLE);
         expectedModel.addTraining(secondTraining);
         expectedModel.addTraining(thirdTraining);
 
-        AnyMatchPredicateList predicateList = AnyMatchPredicateList.of(firstIdPredicate, secondIdPredicate);
-        expectedModel.updateFilteredStudentList(predicateList);
-        List<Student> studentList = expectedModel.getFilteredStudentList();
-
-        Student firstStudent = TypicalStudents.BENSON;
-        Student secondStudent = TypicalStudents.ELLE;
-        Attendance attendance = new Attendance(firstTraining.getDateTime());
-        attendance.marks();
-        firstStudent.addAttendance(attendance);
-        secondStudent.addAttendance(attendance);
-        expectedModel.setStudentInUniqueStudentList(studentList.get(0), firstStudent);
-        expectedModel.setStudentInUniqueStudentList(studentList.get(1), secondStudent);
-        expectedModel.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-
-        Index trainingIndex = INDEX_FIRST_TRAINING;
+        Index trainingIndex = INDEX_THIRD_TRAINING;
         UnmarkAttendanceCommand command = new UnmarkAttendanceCommand(
                 trainingIndex, AnyMatchPredicateList.of(firstIdPredicate, secondIdPredicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
 
-        // Reset students in typical address book
-        firstStudent.removeAllAttendances();
-        secondStudent.removeAllAttendances();
+        Student firstStudent = model.getStudentById(TypicalStudents.BENSON.getId()).get();
+        Student secondStudent = model.getStudentById(TypicalStudents.ELLE.getId()).get();
+        assertFalse(firstStudent.isAttendanceMarked(dateTime));
+        assertFalse(secondStudent.isAttendanceMarked(dateTime));
+        assertEquals(1, model.getAbsenceCount(firstStudent.getId(), LocalDateTime.now()));
     }
 }
@@ -0,0 +1,57 @@
+package seedu.canoe.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+import static seedu.canoe.testutil.TypicalStudents.ELLE;
+import static seedu.canoe.testutil.TypicalStudents.FIONA;
+import static seedu.canoe.testutil.TypicalStudents.GEORGE;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalStudents;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+
+class WhoIsFreeCommandTest {
+
+    private static final LocalDateTime WEDNESDAY_1530 = LocalDateTime.of(2021, 8, 25, 15, 30);
+    private static final LocalDateTime SATURDAY_0800 = LocalDateTime.of(2021, 8, 28, 8, 0);
+
+    private Model model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+
+    @Test
+    void execute_weekday_studentsDismissedInTimeListed() {
+        String expectedMessage = String.format(WhoIsFreeCommand.MESSAGE_FREE_STUDENTS_LISTED, 5, "2021-08-25 1530");
+        expectedModel.updateFilteredStudentList(student -> student.isAvailableAtDateTime(WEDNESDAY_1530));
+        assertCommandSuccess(new WhoIsFreeCommand(WEDNESDAY_1530), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL, ELLE, FIONA, GEORGE), model.getFilteredStudentList());
+    }
+
+    @Test
+    void execute_weekend_allStudentsListed() {
+        String expectedMessage = String.format(WhoIsFreeCommand.MESSAGE_FREE_STUDENTS_LISTED,
+                getTypicalStudents().size(), "2021-08-28 0800");
+        assertCommandSuccess(new WhoIsFreeCommand(SATURDAY_0800), model, expectedMessage, expectedModel);
+        assertEquals(getTypicalStudents(), model.getFilteredStudentList());
+    }
+
+    @Test
+    void equals() {
+        WhoIsFreeCommand command = new WhoIsFreeCommand(WEDNESDAY_1530);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new WhoIsFreeCommand(WEDNESDAY_1530)));
+        assertFalse(command.equals(new WhoIsFreeCommand(SATURDAY_0800)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.canoe.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.canoe.testutil.Assert.assertThrows;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,17 +16,27 @@ import org.junit.jupiter.api.Test;
 
 import seedu.canoe.logic.commands.AddCommand;
 import seedu.canoe.logic.commands.ClearCommand;
+import seedu.canoe.logic.commands.CommitCommand;
+import seedu.canoe.logic.commands.ConvertCommand;
 import seedu.canoe.logic.commands.DeleteCommand;
+import seedu.canoe.logic.commands.DiscardCommand;
 import seedu.canoe.logic.commands.EditCommand;
 import seedu.canoe.logic.commands.ExitCommand;
 import seedu.canoe.logic.commands.FindCommand;
+import seedu.canoe.logic.commands.ForkCommand;
 import seedu.canoe.logic.commands.HelpCommand;
 import seedu.canoe.logic.commands.ListCommand;
 import seedu.canoe.logic.commands.MarkAttendanceCommand;
+import seedu.canoe.logic.commands.QueryCommand;
+import seedu.canoe.logic.commands.RedoCommand;
+import seedu.canoe.logic.commands.UndoCommand;
+import seedu.canoe.logic.commands.WhoIsFreeCommand;
 import seedu.canoe.logic.parser.exceptions.ParseException;
+import seedu.canoe.model.CanoeCoachFileFormat;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
 import seedu.canoe.model.student.AllMatchPredicateList;
-import seedu.canoe.model.student.AnyMatchPredicateList;
-import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdSetPredicate;
 import seedu.canoe.model.student.NameContainsKeywordsPredicate;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.PhoneMatchesPredicate;
@@ -92,6 +103,31 @@ public class CanoeCoachParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_fork() throws Exception {
+        assertTrue(parser.parseCommand(ForkCommand.COMMAND_WORD) instanceof ForkCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(DiscardCommand.COMMAND_WORD + " 3") instanceof DiscardCommand);
+    }
+
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(new ConvertCommand(CanoeCoachFileFormat.BINARY),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " binary"));
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -104,10 +140,20 @@ public class CanoeCoachParserTest {
                 MarkAttendanceCommand.COMMAND_WORD + " 3 "
                 + "id/1,2,4");
         assertEquals(new MarkAttendanceCommand(ParserUtil.parseIndex("3"),
-                AnyMatchPredicateList.of(
-                        new IdMatchesPredicate("1"),
-                        new IdMatchesPredicate("2"),
-                        new IdMatchesPredicate("4"))), command);
+                new IdSetPredicate(List.of(new Id(1), new Id(2), new Id(4)))), command);
+    }
+
+    @Test
+    public void parseCommand_whoIsFree() throws Exception {
+        WhoIsFreeCommand command = (WhoIsFreeCommand) parser.parseCommand(
+                WhoIsFreeCommand.COMMAND_WORD + " 2021-08-25 1530");
+        assertEquals(new WhoIsFreeCommand(LocalDateTime.of(2021, 8, 25, 15, 30)), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " ay/2..4");
+        assertEquals(new QueryCommand(new AcademicYearRangePredicate(2, 4)), command);
     }
 
     @Test
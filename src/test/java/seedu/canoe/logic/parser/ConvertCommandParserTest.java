@@ -0,0 +1,28 @@
+package seedu.canoe.logic.parser;
+
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.logic.commands.ConvertCommand;
+import seedu.canoe.model.CanoeCoachFileFormat;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, " binary", new ConvertCommand(CanoeCoachFileFormat.BINARY));
+        assertParseSuccess(parser, " JSON ", new ConvertCommand(CanoeCoachFileFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " xml", expectedMessage);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.canoe.logic.parser;
+
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.logic.commands.FindBadStudentsCommand;
+
+class FindBadStudentsCommandParserTest {
+
+    private FindBadStudentsCommandParser parser = new FindBadStudentsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultCommand() {
+        assertParseSuccess(parser, "  ", new FindBadStudentsCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindBadStudentsCommand() {
+        assertParseSuccess(parser, " th/2", new FindBadStudentsCommand(2));
+        assertParseSuccess(parser, " th/0", new FindBadStudentsCommand(0));
+        assertParseSuccess(parser, " th/2 days/30", new FindBadStudentsCommand(2, 30));
+        assertParseSuccess(parser, " \n days/30 \t ",
+                new FindBadStudentsCommand(FindBadStudentsCommand.DEFAULT_THRESHOLD, 30));
+    }
+
+    @Test
+    public void parse_invalidThreshold_failure() {
+        assertParseFailure(parser, " th/-1", FindBadStudentsCommand.MESSAGE_INVALID_THRESHOLD);
+        assertParseFailure(parser, " th/abc", FindBadStudentsCommand.MESSAGE_INVALID_THRESHOLD);
+    }
+
+    @Test
+    public void parse_invalidDays_failure() {
+        assertParseFailure(parser, " days/0", FindBadStudentsCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " th/2 days/x", FindBadStudentsCommand.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " 3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindBadStudentsCommand.MESSAGE_USAGE));
+    }
+}
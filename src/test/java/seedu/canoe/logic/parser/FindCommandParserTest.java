@@ -3,6 +3,8 @@ package seedu.canoe.logic.parser;
 import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,8 @@ import seedu.canoe.model.student.NameContainsKeywordsPredicate;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.PhoneMatchesPredicate;
 import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+import seedu.canoe.model.student.time.MondayDismissalPredicate;
 
 public class FindCommandParserTest {
 
@@ -50,6 +54,29 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " e/meow ay/2 id/1", thirdExpectedFindCommand);
     }
 
+    @Test
+    public void parse_dismissalRange_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(AllMatchPredicateList.of(
+                new MondayDismissalPredicate(LocalTime.of(15, 0)),
+                new DismissalRangePredicate(DayOfWeek.WEDNESDAY, LocalTime.of(14, 0), LocalTime.of(16, 30))
+        ));
+        assertParseSuccess(parser, " d1/1500 d3/1400-1630", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_explain_returnsExplainFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(AllMatchPredicateList.of(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice"))), true);
+        assertParseSuccess(parser, " explain n/Alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDismissalRange_failure() {
+        assertParseFailure(parser, " d3/1630-1400", FindCommand.MESSAGE_INVALID_DISMISSAL_RANGE);
+        assertParseFailure(parser, " d3/1400-1500-1600", FindCommand.MESSAGE_INVALID_DISMISSAL_RANGE);
+        assertParseFailure(parser, " d3/1400-", Day.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_noQuery_failure() {
         assertParseFailure(parser, " ", FindCommand.MESSAGE_NO_QUERY);
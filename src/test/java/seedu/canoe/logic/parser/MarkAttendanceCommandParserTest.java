@@ -7,11 +7,13 @@ import static seedu.canoe.testutil.TypicalIndexes.INDEX_FIRST_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_SECOND_TRAINING;
 import static seedu.canoe.testutil.TypicalIndexes.INDEX_THIRD_TRAINING;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.canoe.logic.commands.MarkAttendanceCommand;
-import seedu.canoe.model.student.AnyMatchPredicateList;
-import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdSetPredicate;
 
 class MarkAttendanceCommandParserTest {
 
@@ -20,17 +22,13 @@ class MarkAttendanceCommandParserTest {
     @Test
     public void parse_validArgs_returnsMarkAttendanceCommand() {
         MarkAttendanceCommand firstExpectedMarkAttendanceCommand =
-                new MarkAttendanceCommand(INDEX_THIRD_TRAINING, AnyMatchPredicateList.of(
-                        new IdMatchesPredicate("2"),
-                        new IdMatchesPredicate("19")
-                ));
+                new MarkAttendanceCommand(INDEX_THIRD_TRAINING,
+                        new IdSetPredicate(List.of(new Id(2), new Id(19))));
         assertParseSuccess(parser, " 3 id/2,19", firstExpectedMarkAttendanceCommand);
 
         MarkAttendanceCommand secondExpectedMarkAttendanceCommand =
-                new MarkAttendanceCommand(INDEX_FIRST_TRAINING, AnyMatchPredicateList.of(
-                        new IdMatchesPredicate("5"),
-                        new IdMatchesPredicate("26")
-                ));
+                new MarkAttendanceCommand(INDEX_FIRST_TRAINING,
+                        new IdSetPredicate(List.of(new Id(5), new Id(26))));
         assertParseSuccess(parser, "  \n  \t 1 \t \n \n id/5,26", secondExpectedMarkAttendanceCommand);
     }
 
@@ -40,12 +38,16 @@ class MarkAttendanceCommandParserTest {
                 MarkAttendanceCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_repeatedIds_failure() {
+        assertParseFailure(parser, "1 id/4,5,4", ParserUtil.MESSAGE_REPEATED_ID);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_acceptsLast() {
         MarkAttendanceCommand expectedMarkAttendanceCommand = new MarkAttendanceCommand(
                 INDEX_SECOND_TRAINING,
-                AnyMatchPredicateList.of(new IdMatchesPredicate("3")
-        ));
+                new IdSetPredicate(List.of(new Id(3))));
         assertParseSuccess(parser, "2 id/11111111 id/22222222 id/3", expectedMarkAttendanceCommand);
     }
 }
@@ -1,6 +1,7 @@
 package seedu.canoe.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.canoe.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.canoe.testutil.Assert.assertThrows;
@@ -224,4 +225,20 @@ public class ParserUtilTest {
         List<String> expectedIdList = List.of("1", "2");
         assertEquals(expectedIdList, ParserUtil.parseMultipleIds(validIdListWithWhitespace));
     }
+
+    @Test
+    public void isUniqueListDistinctIdsReturnsTrue() {
+        assertTrue(ParserUtil.isUniqueList(new String[] {"3", "1", "2"}));
+    }
+
+    @Test
+    public void isUniqueListRepeatedIdReturnsFalse() {
+        assertFalse(ParserUtil.isUniqueList(new String[] {"3", "1", "3"}));
+    }
+
+    @Test
+    public void isUniqueListInvalidIdsComparedAsStrings() {
+        assertTrue(ParserUtil.isUniqueList(new String[] {"1", "01"}));
+        assertFalse(ParserUtil.isUniqueList(new String[] {"a", "a"}));
+    }
 }
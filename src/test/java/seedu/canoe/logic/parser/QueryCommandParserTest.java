@@ -0,0 +1,104 @@
+package seedu.canoe.logic.parser;
+
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.logic.commands.QueryCommand;
+import seedu.canoe.model.student.AcademicYear;
+import seedu.canoe.model.student.AcademicYearMatchesPredicate;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.IdMatchesPredicate;
+import seedu.canoe.model.student.IdSetPredicate;
+import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+import seedu.canoe.model.tag.Tag;
+
+class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_andNotRanges_returnsQueryCommand() {
+        QueryCommand expectedCommand = new QueryCommand(AllMatchPredicateList.of(
+                new AcademicYearRangePredicate(2, 4),
+                new NotMatchPredicate(new TagMatchesPredicate(new Tag("novice"))),
+                new DismissalRangePredicate(DayOfWeek.MONDAY, LocalTime.MIN, LocalTime.of(14, 59))));
+        assertParseSuccess(parser, " ay/2..4 AND NOT t/novice AND mon<1500", expectedCommand);
+        assertParseSuccess(parser, " ay/2..4 and not t/novice and d1<1500", expectedCommand);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsQueryCommand() {
+        QueryCommand expectedCommand = new QueryCommand(new AnyMatchPredicateList(List.of(
+                name("alex"),
+                AllMatchPredicateList.of(name("bo"), new AcademicYearMatchesPredicate(new AcademicYear("2"))))));
+        assertParseSuccess(parser, " n/alex OR n/bo AND ay/2", expectedCommand);
+    }
+
+    @Test
+    public void parse_parentheses_returnsQueryCommand() {
+        QueryCommand expectedCommand = new QueryCommand(AllMatchPredicateList.of(
+                new AnyMatchPredicateList(List.of(name("alex"), name("bo"))),
+                new AcademicYearRangePredicate(3, 5)));
+        assertParseSuccess(parser, " (n/alex OR n/bo) AND ay>=3", expectedCommand);
+    }
+
+    @Test
+    public void parse_idList_returnsQueryCommand() {
+        QueryCommand expectedCommand = new QueryCommand(AllMatchPredicateList.of(
+                new IdSetPredicate(List.of(new Id(4), new Id(2), new Id(9))),
+                new NotMatchPredicate(new IdMatchesPredicate("2"))));
+        assertParseSuccess(parser, " id/4,2,9 AND NOT id/2", expectedCommand);
+        assertParseFailure(parser, " id/4,2,4", ParserUtil.MESSAGE_REPEATED_ID);
+    }
+
+    @Test
+    public void parse_dismissalComparisons_returnsQueryCommand() {
+        assertParseSuccess(parser, " wed/1400..1600", new QueryCommand(
+                new DismissalRangePredicate(DayOfWeek.WEDNESDAY, LocalTime.of(14, 0), LocalTime.of(16, 0))));
+        assertParseSuccess(parser, " d5/1500", new QueryCommand(
+                new DismissalRangePredicate(DayOfWeek.FRIDAY, LocalTime.MIN, LocalTime.of(15, 0))));
+        assertParseSuccess(parser, " fri>1500", new QueryCommand(
+                new DismissalRangePredicate(DayOfWeek.FRIDAY, LocalTime.of(15, 1), LocalTime.MAX)));
+        assertParseSuccess(parser, " tue<0000", new QueryCommand(new AnyMatchPredicateList()));
+    }
+
+    @Test
+    public void parse_invalidStructure_failure() {
+        assertParseFailure(parser, " ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " (n/alex OR n/bo", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/alex AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/alex n/bo", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " x/alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n<alex", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " ay/4..2", QueryCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " mon/1500..", QueryCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ay/6", AcademicYear.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " mon<2500", Day.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/no_vice", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    private static NameContainsKeywordsPredicate name(String keyword) {
+        return new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+}
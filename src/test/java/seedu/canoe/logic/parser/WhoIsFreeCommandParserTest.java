@@ -0,0 +1,35 @@
+package seedu.canoe.logic.parser;
+
+import static seedu.canoe.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.canoe.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.logic.commands.WhoIsFreeCommand;
+import seedu.canoe.model.training.Training;
+
+class WhoIsFreeCommandParserTest {
+
+    private WhoIsFreeCommandParser parser = new WhoIsFreeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsWhoIsFreeCommand() {
+        assertParseSuccess(parser, " 2021-08-25 1530",
+                new WhoIsFreeCommand(LocalDateTime.of(2021, 8, 25, 15, 30)));
+    }
+
+    @Test
+    public void parse_emptyArgs_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                WhoIsFreeCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDateTime_failure() {
+        assertParseFailure(parser, " 2021-02-30 1530", Training.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " 1530", Training.MESSAGE_CONSTRAINTS);
+    }
+}
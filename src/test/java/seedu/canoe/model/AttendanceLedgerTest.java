@@ -0,0 +1,120 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceLedgerTest {
+
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2020, 10, 1, 15, 0);
+    private static final LocalDateTime SECOND_DATE_TIME = LocalDateTime.of(2020, 10, 2, 15, 0);
+    private static final LocalDateTime AFTER_BOTH = LocalDateTime.of(2020, 10, 3, 15, 0);
+
+    private final AttendanceLedger ledger = new AttendanceLedger();
+
+    @Test
+    public void putTraining_marksOfStudentsNotEnrolled_ignored() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1, 2), bits(2, 3));
+        assertEquals(bits(2), ledger.getMarked(FIRST_DATE_TIME));
+        assertEquals(1, ledger.countAbsences(1, AFTER_BOTH));
+        assertEquals(0, ledger.countAbsences(3, AFTER_BOTH));
+    }
+
+    @Test
+    public void setMarked_wholeSession_updatesRowAndColumns() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1, 2, 3), new BitSet());
+        ledger.putTraining(SECOND_DATE_TIME, bits(1, 2), new BitSet());
+
+        ledger.setMarked(FIRST_DATE_TIME, bits(1, 2, 3, 4), true);
+        assertEquals(bits(1, 2, 3), ledger.getMarked(FIRST_DATE_TIME));
+        assertEquals(1, ledger.countAbsences(1, AFTER_BOTH));
+        assertEquals(0, ledger.countAbsences(3, AFTER_BOTH));
+
+        ledger.setMarked(FIRST_DATE_TIME, bits(2), false);
+        assertFalse(ledger.isMarked(FIRST_DATE_TIME, 2));
+        assertEquals(2, ledger.countAbsences(2, AFTER_BOTH));
+    }
+
+    @Test
+    public void countAbsences_trainingsAfterCutOff_notCounted() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1), new BitSet());
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+        assertEquals(1, ledger.countAbsences(1, SECOND_DATE_TIME));
+    }
+
+    @Test
+    public void setMarkedDateTimes_replacesMarksOfStudent() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1), bits(1));
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+
+        ledger.setMarkedDateTimes(1, new TreeSet<>(List.of(SECOND_DATE_TIME)));
+        assertFalse(ledger.isMarked(FIRST_DATE_TIME, 1));
+        assertTrue(ledger.isMarked(SECOND_DATE_TIME, 1));
+    }
+
+    @Test
+    public void removeTraining_rowReused_noStaleBits() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1, 2), bits(1));
+        ledger.removeTraining(FIRST_DATE_TIME);
+        assertTrue(ledger.getTrainingDateTimes(1).isEmpty());
+        assertFalse(ledger.isMarked(FIRST_DATE_TIME, 1));
+
+        ledger.putTraining(SECOND_DATE_TIME, bits(2), new BitSet());
+        assertTrue(ledger.getTrainingDateTimes(1).isEmpty());
+        assertEquals(List.of(SECOND_DATE_TIME), List.copyOf(ledger.getTrainingDateTimes(2)));
+    }
+
+    @Test
+    public void getTrainingDateTimes_chronologicalOrder() {
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+        ledger.putTraining(FIRST_DATE_TIME, bits(1), new BitSet());
+        assertEquals(List.of(FIRST_DATE_TIME, SECOND_DATE_TIME), List.copyOf(ledger.getTrainingDateTimes(1)));
+    }
+
+    @Test
+    public void getStudentsAbsentMoreThan_changesBehindHorizon_countersUpdated() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1, 2), new BitSet());
+        assertEquals(bits(1, 2), ledger.getStudentsAbsentMoreThan(0, AFTER_BOTH));
+
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+        ledger.setMarked(FIRST_DATE_TIME, bits(2), true);
+        assertEquals(bits(1), ledger.getStudentsAbsentMoreThan(1, AFTER_BOTH));
+        assertEquals(bits(1), ledger.getStudentsAbsentMoreThan(0, AFTER_BOTH));
+
+        ledger.removeTraining(FIRST_DATE_TIME);
+        assertEquals(new BitSet(), ledger.getStudentsAbsentMoreThan(1, AFTER_BOTH));
+    }
+
+    @Test
+    public void getStudentsAbsentMoreThan_horizonMovedBack_laterTrainingsUncounted() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1), new BitSet());
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+        assertEquals(bits(1), ledger.getStudentsAbsentMoreThan(1, AFTER_BOTH));
+        assertEquals(new BitSet(), ledger.getStudentsAbsentMoreThan(1, SECOND_DATE_TIME));
+        assertEquals(bits(1), ledger.getStudentsAbsentMoreThan(0, SECOND_DATE_TIME));
+    }
+
+    @Test
+    public void getStudentsAbsentMoreThan_window_onlyTrainingsInWindowCounted() {
+        ledger.putTraining(FIRST_DATE_TIME, bits(1, 2), new BitSet());
+        ledger.putTraining(SECOND_DATE_TIME, bits(1), new BitSet());
+        assertEquals(bits(1), ledger.getStudentsAbsentMoreThan(0, SECOND_DATE_TIME, AFTER_BOTH));
+        assertEquals(new BitSet(), ledger.getStudentsAbsentMoreThan(1, SECOND_DATE_TIME, AFTER_BOTH));
+        assertEquals(new BitSet(), ledger.getStudentsAbsentMoreThan(0, AFTER_BOTH, AFTER_BOTH));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
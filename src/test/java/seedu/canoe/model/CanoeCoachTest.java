@@ -6,21 +6,34 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.canoe.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.canoe.testutil.Assert.assertThrows;
 import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.FIONA;
+import static seedu.canoe.testutil.TypicalStudents.GEORGE;
 import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.NotMatchPredicate;
 import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.TagMatchesPredicate;
 import seedu.canoe.model.student.exceptions.DuplicateStudentException;
+import seedu.canoe.model.tag.Tag;
 import seedu.canoe.model.training.Training;
 import seedu.canoe.testutil.StudentBuilder;
+import seedu.canoe.testutil.TrainingBuilder;
 
 public class CanoeCoachTest {
 
@@ -54,6 +67,74 @@ public class CanoeCoachTest {
         assertThrows(DuplicateStudentException.class, () -> canoeCoach.resetData(newData));
     }
 
+    @Test
+    public void getTrainingsOfStudent_trainingsEditedAndRemoved_followsMembership() {
+        Training firstTraining = new TrainingBuilder().withDateTime(LocalDateTime.of(2020, 10, 10, 8, 0))
+                .withStudentIds(Set.of(ALICE.getId())).build();
+        Training secondTraining = new TrainingBuilder().withDateTime(LocalDateTime.of(2020, 10, 12, 8, 0)).build();
+        canoeCoach.addTraining(secondTraining);
+        canoeCoach.addTraining(firstTraining);
+        assertEquals(Arrays.asList(firstTraining), canoeCoach.getTrainingsOfStudent(ALICE.getId()));
+
+        Training editedSecondTraining = secondTraining.cloneTraining();
+        editedSecondTraining.addStudent(ALICE.getId());
+        canoeCoach.setTraining(secondTraining, editedSecondTraining);
+        assertEquals(Arrays.asList(firstTraining, editedSecondTraining),
+                canoeCoach.getTrainingsOfStudent(ALICE.getId()));
+
+        canoeCoach.removeTraining(firstTraining);
+        assertEquals(Arrays.asList(editedSecondTraining), canoeCoach.getTrainingsOfStudent(ALICE.getId()));
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyWhenEdited() {
+        CanoeCoach typicalCanoeCoach = getTypicalCanoeCoach();
+        long count = typicalCanoeCoach.getModificationCount();
+
+        typicalCanoeCoach.hasStudent(ALICE);
+        assertEquals(count, typicalCanoeCoach.getModificationCount());
+
+        typicalCanoeCoach.removeStudent(ALICE);
+        assertTrue(typicalCanoeCoach.getModificationCount() > count);
+    }
+
+    @Test
+    public void allocateId_studentsAdded_skipsUsedIds() {
+        canoeCoach.addStudent(new StudentBuilder(ALICE).withId("4").build());
+        assertEquals(new Id(5), canoeCoach.allocateId());
+
+        // other books allocate independently
+        assertEquals(new Id(1), new CanoeCoach().allocateId());
+
+        // replacing the data starts allocation again from the new students
+        canoeCoach.resetData(new CanoeCoach());
+        assertEquals(new Id(1), canoeCoach.allocateId());
+    }
+
+    @Test
+    public void getStudentsWithNameKeywords_studentsEditedAndRemoved_followsNames() {
+        CanoeCoach canoeCoach = getTypicalCanoeCoach();
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        canoeCoach.setStudentInUniqueStudentList(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), canoeCoach.getStudentsWithNameKeywords(List.of("TAN")));
+        assertEquals(List.of(), canoeCoach.getStudentsWithNameKeywords(List.of("pauline")));
+
+        canoeCoach.removeStudent(editedAlice);
+        assertEquals(List.of(), canoeCoach.getStudentsWithNameKeywords(List.of("alice")));
+    }
+
+    @Test
+    public void evaluateStudentQuery_rangeAndNotTag_followsEdits() {
+        CanoeCoach canoeCoach = getTypicalCanoeCoach();
+        AllMatchPredicateList query = AllMatchPredicateList.of(new AcademicYearRangePredicate(1, 2),
+                new NotMatchPredicate(new TagMatchesPredicate(new Tag("friends"))));
+        assertEquals(List.of(FIONA, GEORGE), filter(canoeCoach, canoeCoach.evaluateStudentQuery(query)));
+
+        Student editedFiona = new StudentBuilder(FIONA).withTags("friends").build();
+        canoeCoach.setStudentInUniqueStudentList(FIONA, editedFiona);
+        assertEquals(List.of(GEORGE), filter(canoeCoach, canoeCoach.evaluateStudentQuery(query)));
+    }
+
     @Test
     public void hasStudent_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> canoeCoach.hasStudent(null));
@@ -83,6 +164,10 @@ public class CanoeCoachTest {
         assertThrows(UnsupportedOperationException.class, () -> canoeCoach.getStudentList().remove(0));
     }
 
+    private static List<Student> filter(CanoeCoach canoeCoach, Predicate<Student> predicate) {
+        return canoeCoach.getStudentList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyCanoeCoach whose students list can violate interface constraints.
      */
@@ -103,6 +188,10 @@ public class CanoeCoachTest {
         public ObservableList<Training> getTrainingList() {
             return trainings;
         }
-    }
 
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+    }
 }
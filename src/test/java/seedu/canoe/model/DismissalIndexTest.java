@@ -0,0 +1,78 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.DANIEL;
+import static seedu.canoe.testutil.TypicalStudents.ELLE;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.Student;
+import seedu.canoe.testutil.StudentBuilder;
+
+public class DismissalIndexTest {
+
+    private static final LocalDateTime WEDNESDAY_1530 = LocalDateTime.of(2021, 8, 25, 15, 30);
+    private static final LocalDateTime SATURDAY_0800 = LocalDateTime.of(2021, 8, 28, 8, 0);
+
+    private final DismissalIndex index = new DismissalIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // Wednesday dismissals: ALICE 1500, BENSON 1800, DANIEL 1745, ELLE 1230
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.add(ELLE);
+    }
+
+    @Test
+    public void getFreeAt_weekday_studentsDismissedAtOrBefore() {
+        assertEquals(bits(1, 5), index.getFreeAt(WEDNESDAY_1530));
+        assertEquals(bits(1, 5), index.getFreeAt(WEDNESDAY_1530.withHour(15).withMinute(0)));
+        assertEquals(bits(1, 2, 4, 5), index.getFreeAt(WEDNESDAY_1530.withHour(18).withMinute(0)));
+    }
+
+    @Test
+    public void getFreeAt_weekend_allStudents() {
+        assertEquals(bits(1, 2, 4, 5), index.getFreeAt(SATURDAY_0800));
+    }
+
+    @Test
+    public void getDismissedBetween_range_bothEndsInclusive() {
+        assertEquals(bits(2, 4),
+                index.getDismissedBetween(DayOfWeek.WEDNESDAY, LocalTime.of(17, 45), LocalTime.of(18, 0)));
+        assertEquals(new BitSet(),
+                index.getDismissedBetween(DayOfWeek.WEDNESDAY, LocalTime.of(18, 0), LocalTime.of(17, 45)));
+        assertEquals(new BitSet(),
+                index.getDismissedBetween(DayOfWeek.SUNDAY, LocalTime.MIN, LocalTime.MAX));
+    }
+
+    @Test
+    public void remove_editedStudent_movedToNewTime() {
+        Student editedElle = new StudentBuilder(ELLE).withWednesdayDismissal("1900").build();
+        index.remove(ELLE);
+        index.add(editedElle);
+        assertEquals(bits(1), index.getFreeAt(WEDNESDAY_1530));
+        assertEquals(bits(5),
+                index.getDismissedBetween(DayOfWeek.WEDNESDAY, LocalTime.of(19, 0), LocalTime.of(19, 0)));
+
+        index.clear();
+        assertEquals(new BitSet(), index.getFreeAt(SATURDAY_0800));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.Student;
+import seedu.canoe.testutil.RosterGenerator;
+import seedu.canoe.testutil.StudentBuilder;
+
+/**
+ * Compares undoing and redoing an edit through the edit history against taking the snapshot of the canoe book
+ * that a snapshot based undo would take for every command, on books of increasing size.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class EditHistoryBenchmark {
+
+    private static final int[] ROSTER_SIZES = {1000, 5000, 20000};
+
+    /**
+     * Times both approaches on books of increasing size and prints the results.
+     */
+    @Test
+    public void undoRedo_largeBook_independentOfBookSize() {
+        long snapshotNanos = 0;
+        long undoRedoNanos = 0;
+        for (int size : ROSTER_SIZES) {
+            List<Student> students = RosterGenerator.generateStudents(size);
+            CanoeCoach canoeCoach = new CanoeCoach();
+            canoeCoach.setStudents(students);
+            ModelManager model = new ModelManager(canoeCoach, new UserPrefs());
+            Student target = students.get(size / 2);
+            model.replaceStudentById(target.getId(), new StudentBuilder(target).withPhone("99999999").build());
+
+            snapshotNanos = bestOf(() -> new CanoeCoach(model.getCanoeCoach()));
+            undoRedoNanos = bestOf(() -> {
+                model.undo();
+                model.redo();
+            });
+            report("edit, %d students: snapshot %.3f ms, undo and redo %.3f ms",
+                    size, toMillis(snapshotNanos), toMillis(undoRedoNanos));
+        }
+
+        assertTrue(undoRedoNanos < snapshotNanos);
+    }
+}
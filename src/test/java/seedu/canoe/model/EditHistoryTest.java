@@ -0,0 +1,131 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.Student;
+
+public class EditHistoryTest {
+
+    private final CanoeCoach canoeCoach = new CanoeCoach();
+    private final EditHistory editHistory = new EditHistory(10);
+
+    @Test
+    public void undoRedo_singleChanges_latestFirst() {
+        add(ALICE);
+        add(BENSON);
+
+        editHistory.undo(canoeCoach);
+        assertEquals(List.of(ALICE), canoeCoach.getStudentList());
+        editHistory.undo(canoeCoach);
+        assertEquals(List.of(), canoeCoach.getStudentList());
+        assertFalse(editHistory.canUndo());
+
+        editHistory.redo(canoeCoach);
+        assertEquals(List.of(ALICE), canoeCoach.getStudentList());
+        assertTrue(editHistory.canRedo());
+    }
+
+    @Test
+    public void undo_nestedSteps_undoneTogether() {
+        editHistory.beginStep();
+        add(ALICE);
+        editHistory.beginStep();
+        add(BENSON);
+        editHistory.endStep();
+        add(CARL);
+        editHistory.endStep();
+
+        editHistory.undo(canoeCoach);
+        assertEquals(List.of(), canoeCoach.getStudentList());
+        assertFalse(editHistory.canUndo());
+    }
+
+    @Test
+    public void record_afterUndo_clearsRedo() {
+        add(ALICE);
+        editHistory.undo(canoeCoach);
+        add(BENSON);
+
+        assertFalse(editHistory.canRedo());
+        assertEquals(1, editHistory.size());
+    }
+
+    @Test
+    public void record_overLimit_dropsOldestSteps() {
+        EditHistory smallHistory = new EditHistory(2);
+        for (Student student : List.of(ALICE, BENSON, CARL)) {
+            canoeCoach.addStudent(student);
+            smallHistory.record(new ModelChange(1, book -> book.addStudent(student),
+                book -> book.removeStudent(student)));
+        }
+        assertEquals(2, smallHistory.size());
+
+        smallHistory.undo(canoeCoach);
+        smallHistory.undo(canoeCoach);
+        assertFalse(smallHistory.canUndo());
+        assertEquals(List.of(ALICE), canoeCoach.getStudentList());
+
+        smallHistory.setLimit(0);
+        assertFalse(smallHistory.canRedo());
+        assertEquals(0, smallHistory.size());
+    }
+
+    @Test
+    public void discardFork_afterChanges_revertsToFork() {
+        add(ALICE);
+        editHistory.fork();
+        add(BENSON);
+        add(CARL);
+        editHistory.undo(canoeCoach);
+
+        editHistory.discardFork(canoeCoach);
+        assertEquals(List.of(ALICE), canoeCoach.getStudentList());
+        assertFalse(editHistory.isForked());
+        assertFalse(editHistory.canRedo());
+        assertEquals(1, editHistory.size());
+    }
+
+    @Test
+    public void canUndo_forked_stopsAtFork() {
+        add(ALICE);
+        editHistory.fork();
+        assertFalse(editHistory.canUndo());
+
+        add(BENSON);
+        editHistory.undo(canoeCoach);
+        assertFalse(editHistory.canUndo());
+
+        editHistory.commitFork();
+        assertTrue(editHistory.canUndo());
+    }
+
+    @Test
+    public void record_forkedOverLimit_keepsForkSteps() {
+        EditHistory smallHistory = new EditHistory(1);
+        smallHistory.fork();
+        for (Student student : List.of(ALICE, BENSON, CARL)) {
+            canoeCoach.addStudent(student);
+            smallHistory.record(new ModelChange(1, book -> book.addStudent(student),
+                book -> book.removeStudent(student)));
+        }
+        assertEquals(3, smallHistory.size());
+
+        smallHistory.discardFork(canoeCoach);
+        assertEquals(List.of(), canoeCoach.getStudentList());
+        assertEquals(0, smallHistory.size());
+    }
+
+    private void add(Student student) {
+        canoeCoach.addStudent(student);
+        editHistory.record(new ModelChange(1, book -> book.addStudent(student), book -> book.removeStudent(student)));
+    }
+}
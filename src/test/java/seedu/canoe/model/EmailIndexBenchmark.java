@@ -0,0 +1,79 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.EmailContainsKeywordPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.testutil.StudentBuilder;
+
+/**
+ * Compares email keyword lookups in {@code EmailIndex} against the scan over every student's email done by
+ * {@code EmailContainsKeywordPredicate}, on a large roster spread over many school domains.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class EmailIndexBenchmark {
+
+    private static final int STUDENTS = 50000;
+    private static final int SCHOOLS = 500;
+    private static final String[] KEYWORDS = {"@school42.", "school4", "paddler123", "edu.sg", "@"};
+
+    /**
+     * Times both lookups for each keyword and prints the results.
+     */
+    @Test
+    public void getIdsContaining_domainFragment_fasterThanScan() {
+        List<Student> students = generateStudents();
+        EmailIndex index = new EmailIndex();
+        students.forEach(index::add);
+
+        long totalScanNanos = 0;
+        long totalIndexedNanos = 0;
+        for (String keyword : KEYWORDS) {
+            EmailContainsKeywordPredicate predicate = new EmailContainsKeywordPredicate(keyword);
+            BitSet[] scanIds = new BitSet[1];
+            BitSet[] indexedIds = new BitSet[1];
+            long scanNanos = bestOf(() -> scanIds[0] = scan(students, predicate));
+            long indexedNanos = bestOf(() -> indexedIds[0] = index.getIdsContaining(keyword));
+            assertEquals(scanIds[0], indexedIds[0]);
+            report("email contains \"%s\", %d students, %d matches: scan %.2f ms, indexed %.2f ms",
+                    keyword, STUDENTS, indexedIds[0].cardinality(), toMillis(scanNanos), toMillis(indexedNanos));
+            totalScanNanos += scanNanos;
+            totalIndexedNanos += indexedNanos;
+        }
+
+        assertTrue(totalIndexedNanos < totalScanNanos);
+    }
+
+    private static List<Student> generateStudents() {
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 1; i <= STUDENTS; i++) {
+            students.add(new StudentBuilder()
+                    .withId(String.valueOf(i))
+                    .withEmail("paddler" + i + "@school" + (i % SCHOOLS) + ".edu.sg")
+                    .build());
+        }
+        return students;
+    }
+
+    private static BitSet scan(List<Student> students, EmailContainsKeywordPredicate predicate) {
+        BitSet ids = new BitSet();
+        for (Student student : students) {
+            if (predicate.test(student)) {
+                ids.set(student.getId().intValue());
+            }
+        }
+        return ids;
+    }
+}
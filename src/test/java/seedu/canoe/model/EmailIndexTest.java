@@ -0,0 +1,65 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.Student;
+import seedu.canoe.testutil.StudentBuilder;
+
+public class EmailIndexTest {
+
+    private static final Student ALEX = student("1", "alex@rvhs.edu.sg");
+    private static final Student BERNICE = student("2", "bernice@acjc.edu.sg");
+    private static final Student CHARLOTTE = student("3", "charlotte@rvhs.com");
+
+    private final EmailIndex index = new EmailIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ALEX);
+        index.add(BERNICE);
+        index.add(CHARLOTTE);
+    }
+
+    @Test
+    public void getIdsContaining_longKeyword_onlyVerifiedMatches() {
+        assertEquals(bits(1, 3), index.getIdsContaining("@rvhs."));
+        assertEquals(bits(1, 2), index.getIdsContaining(".edu.sg"));
+        // every trigram of "rvhs.sg" is in ALEX's email, but the keyword is not
+        assertEquals(new BitSet(), index.getIdsContaining("rvhs.sg"));
+        assertEquals(new BitSet(), index.getIdsContaining("xyz"));
+    }
+
+    @Test
+    public void getIdsContaining_shortKeyword_matchedWithinTrigrams() {
+        assertEquals(bits(2, 3), index.getIdsContaining("c"));
+        assertEquals(bits(3), index.getIdsContaining("co"));
+        assertEquals(bits(1, 2, 3), index.getIdsContaining("@"));
+        assertEquals(new BitSet(), index.getIdsContaining("RV"));
+    }
+
+    @Test
+    public void remove_sharedTrigrams_otherStudentsKept() {
+        index.remove(ALEX);
+        assertEquals(bits(3), index.getIdsContaining("rvhs"));
+
+        index.clear();
+        assertEquals(new BitSet(), index.getIdsContaining("@"));
+    }
+
+    private static Student student(String id, String email) {
+        return new StudentBuilder().withId(id).withEmail(email).build();
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
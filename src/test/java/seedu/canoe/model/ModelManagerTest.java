@@ -7,16 +7,30 @@ import static seedu.canoe.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.canoe.testutil.Assert.assertThrows;
 import static seedu.canoe.testutil.TypicalStudents.ALICE;
 import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+import static seedu.canoe.testutil.TypicalStudentsInTypicalTrainings.FUTURE_TRAINING;
+import static seedu.canoe.testutil.TypicalStudentsInTypicalTrainings.LATE_TRAINING;
+import static seedu.canoe.testutil.TypicalStudentsInTypicalTrainings.PAST_TRAINING;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.canoe.commons.core.GuiSettings;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.Student;
 import seedu.canoe.testutil.AddressBookBuilder;
+import seedu.canoe.testutil.StudentBuilder;
+import seedu.canoe.testutil.TypicalStudentsInTypicalTrainings;
 
 public class ModelManagerTest {
 
@@ -88,11 +102,91 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasStudent(ALICE));
     }
 
+    @Test
+    public void getStudentById_studentFilteredOut_returnsStudent() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertEquals(Optional.of(ALICE), modelManager.getStudentById(ALICE.getId()));
+    }
+
+    @Test
+    public void findStudents_studentsFilteredOut_returnsStudentsInGivenOrder() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList("Carl")));
+
+        assertEquals(List.of(BENSON, ALICE),
+                modelManager.findStudents(List.of(BENSON.getId(), new Id(99), ALICE.getId())));
+        assertTrue(modelManager.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void findTrainings_trainingsFilteredOut_leavesFilterUnchanged() {
+        modelManager = new ModelManager(TypicalStudentsInTypicalTrainings.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredTrainingList(training -> training.equals(PAST_TRAINING));
+
+        LocalDateTime noTraining = LocalDateTime.of(2000, 1, 1, 0, 0);
+        assertEquals(List.of(LATE_TRAINING, FUTURE_TRAINING), modelManager.findTrainings(
+                List.of(LATE_TRAINING.getDateTime(), noTraining, FUTURE_TRAINING.getDateTime())));
+        assertEquals(List.of(PAST_TRAINING), modelManager.getFilteredTrainingList());
+    }
+
+    @Test
+    public void getFilteredTrainingList_trainingsAddedOutOfOrder_chronologicalOrder() {
+        modelManager.addTraining(LATE_TRAINING);
+        modelManager.addTraining(PAST_TRAINING);
+        modelManager.addTraining(FUTURE_TRAINING);
+        assertEquals(List.of(PAST_TRAINING, FUTURE_TRAINING, LATE_TRAINING), modelManager.getFilteredTrainingList());
+
+        modelManager.deleteTraining(FUTURE_TRAINING);
+        modelManager.updateFilteredTrainingList(training -> !training.equals(PAST_TRAINING));
+        assertEquals(List.of(LATE_TRAINING), modelManager.getFilteredTrainingList());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void batch_severalEdits_publishesOneChange() {
+        modelManager = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        modelManager.getFilteredStudentList().addListener((ListChangeListener<Student>) changes::add);
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("11111111").build();
+        Student editedBenson = new StudentBuilder(BENSON).withPhone("22222222").build();
+
+        modelManager.batch(model -> {
+            model.replaceStudentById(ALICE.getId(), editedAlice);
+            model.replaceStudentById(BENSON.getId(), editedBenson);
+            model.deleteStudent(CARL);
+            assertTrue(changes.isEmpty());
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getFilteredStudentList().subList(0, 2));
+        assertFalse(modelManager.hasStudent(CARL));
+    }
+
+    @Test
+    public void undo_batch_revertsWholeBatch() {
+        modelManager = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("11111111").build();
+        modelManager.batch(model -> {
+            model.replaceStudentById(ALICE.getId(), editedAlice);
+            model.deleteStudent(CARL);
+        });
+
+        modelManager.undo();
+        assertEquals(getTypicalCanoeCoach(), modelManager.getCanoeCoach());
+        assertFalse(modelManager.canUndo());
+
+        modelManager.redo();
+        assertEquals(editedAlice, modelManager.getFilteredStudentList().get(0));
+        assertFalse(modelManager.hasStudent(CARL));
+    }
+
     @Test
     public void equals() {
         CanoeCoach canoeCoach = new AddressBookBuilder().withStudent(ALICE).withStudent(BENSON).build();
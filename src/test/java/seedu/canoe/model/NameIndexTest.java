@@ -0,0 +1,56 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.DANIEL;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex index = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // ALICE: Alice Pauline, BENSON: Benson Meier, DANIEL: Daniel Meier
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+    }
+
+    @Test
+    public void getIdsWithAnyWord_fullWordsIgnoringCase_matched() {
+        assertEquals(bits(2, 4), index.getIdsWithAnyWord(List.of("mEIER")));
+        assertEquals(bits(1, 4), index.getIdsWithAnyWord(List.of("pauline", "Daniel")));
+    }
+
+    @Test
+    public void getIdsWithAnyWord_partialWordsOrNoKeywords_noMatch() {
+        assertEquals(new BitSet(), index.getIdsWithAnyWord(List.of("Mei")));
+        assertEquals(new BitSet(), index.getIdsWithAnyWord(List.of("Alice Pauline")));
+        assertEquals(new BitSet(), index.getIdsWithAnyWord(List.of()));
+    }
+
+    @Test
+    public void remove_sharedWord_otherStudentsKept() {
+        index.remove(BENSON);
+        assertEquals(bits(4), index.getIdsWithAnyWord(List.of("meier")));
+        assertEquals(new BitSet(), index.getIdsWithAnyWord(List.of("benson")));
+
+        index.clear();
+        assertEquals(new BitSet(), index.getIdsWithAnyWord(List.of("alice")));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
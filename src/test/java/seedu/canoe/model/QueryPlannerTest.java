@@ -0,0 +1,96 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+import static seedu.canoe.testutil.TypicalStudents.DANIEL;
+import static seedu.canoe.testutil.TypicalStudents.ELLE;
+import static seedu.canoe.testutil.TypicalStudents.FIONA;
+import static seedu.canoe.testutil.TypicalStudents.GEORGE;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.EmailContainsKeywordPredicate;
+import seedu.canoe.model.student.NameContainsKeywordsPredicate;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.Phone;
+import seedu.canoe.model.student.PhoneMatchesPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.tag.Tag;
+
+public class QueryPlannerTest {
+
+    private final CanoeCoach canoeCoach = getTypicalCanoeCoach();
+
+    @Test
+    public void plan_andOfIndexedClauses_startsFromMostSelective() {
+        // every typical email contains "example", but only BENSON and DANIEL are named Meier
+        AllMatchPredicateList query = AllMatchPredicateList.of(new EmailContainsKeywordPredicate("example"),
+                name("Meier"));
+        QueryPlan plan = canoeCoach.planStudentQuery(query);
+
+        assertEquals(4, plan.getEstimatedCost());
+        assertEquals("Plan for 7 students, estimated cost 4:\n"
+                + "  AND, est. 2 students, starting from the first clause\n"
+                + "    look up name words [Meier], est. 2 students\n"
+                + "    look up email trigrams of \"example\", est. 7 students", plan.explain());
+        assertEquals(List.of(BENSON, DANIEL), filter(plan.execute()));
+    }
+
+    @Test
+    public void plan_orOfIndexedClauses_unionOfLookups() {
+        AnyMatchPredicateList query = AnyMatchPredicateList.of(name("Kurz"), name("Best"));
+        QueryPlan plan = canoeCoach.planStudentQuery(query);
+
+        assertEquals(2, plan.getEstimatedCost());
+        assertEquals(List.of(CARL, GEORGE), filter(plan.execute()));
+    }
+
+    @Test
+    public void plan_notOfIndexedClause_complementOfLookup() {
+        NotMatchPredicate query = new NotMatchPredicate(new TagMatchesPredicate(new Tag("friends")));
+        QueryPlan plan = canoeCoach.planStudentQuery(query);
+
+        assertEquals(3, plan.getEstimatedCost());
+        assertEquals(List.of(CARL, ELLE, FIONA, GEORGE), filter(plan.execute()));
+    }
+
+    @Test
+    public void plan_unindexedClause_scansAllStudents() {
+        AnyMatchPredicateList query = AnyMatchPredicateList.of(name("Kurz"),
+                new PhoneMatchesPredicate(new Phone("98765432")));
+        QueryPlan plan = canoeCoach.planStudentQuery(query);
+
+        assertEquals(7, plan.getEstimatedCost());
+        assertTrue(plan.explain().contains("scan all students"));
+        assertSame(query, plan.execute());
+        assertEquals(List.of(BENSON, CARL), filter(plan.execute()));
+    }
+
+    @Test
+    public void plan_lookupAsCostlyAsScan_scansAllStudents() {
+        EmailContainsKeywordPredicate query = new EmailContainsKeywordPredicate("example");
+        QueryPlan plan = canoeCoach.planStudentQuery(query);
+
+        assertEquals(7, plan.getEstimatedCost());
+        assertSame(query, plan.execute());
+    }
+
+    private static NameContainsKeywordsPredicate name(String keyword) {
+        return new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+
+    private List<Student> filter(Predicate<Student> predicate) {
+        return canoeCoach.getStudentList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.AcademicYear;
+import seedu.canoe.model.student.AcademicYearMatchesPredicate;
+import seedu.canoe.model.student.AcademicYearRangePredicate;
+import seedu.canoe.model.student.AllMatchPredicateList;
+import seedu.canoe.model.student.AnyMatchPredicateList;
+import seedu.canoe.model.student.NotMatchPredicate;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.TagMatchesPredicate;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
+import seedu.canoe.testutil.StudentBuilder;
+
+/**
+ * Compares boolean student queries evaluated with bitmap set operations over the student indexes against the
+ * same queries tested as a chain of predicates on every student, on a large synthetic roster.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class StudentQueryBenchmark {
+
+    private static final int STUDENTS = 100000;
+
+    /**
+     * Times both evaluations for each query and prints the results.
+     */
+    @Test
+    public void evaluateStudentQuery_booleanQueries_fasterThanPredicateChain() {
+        List<Student> students = generateStudents();
+        CanoeCoach canoeCoach = new CanoeCoach();
+        canoeCoach.setStudents(students);
+
+        List<String> labels = List.of("ay/2..4 AND NOT t/novice AND mon<1500",
+                "(ay/1 OR ay/5) AND t/captain",
+                "NOT (mon<1300 OR tue>1700)");
+        List<Predicate<Student>> queries = List.of(
+                AllMatchPredicateList.of(new AcademicYearRangePredicate(2, 4),
+                        new NotMatchPredicate(tag("novice")),
+                        new DismissalRangePredicate(DayOfWeek.MONDAY, LocalTime.MIN, LocalTime.of(14, 59))),
+                AllMatchPredicateList.of(AnyMatchPredicateList.of(year("1"), year("5")), tag("captain")),
+                new NotMatchPredicate(AnyMatchPredicateList.of(
+                        new DismissalRangePredicate(DayOfWeek.MONDAY, LocalTime.MIN, LocalTime.of(12, 59)),
+                        new DismissalRangePredicate(DayOfWeek.TUESDAY, LocalTime.of(17, 1), LocalTime.MAX))));
+
+        long totalChainNanos = 0;
+        long totalBitmapNanos = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            Predicate<Student> query = queries.get(i);
+            List<Predicate<Student>> bitmapMatches = new ArrayList<>(List.of(query));
+            long chainNanos = bestOf(() -> students.stream().filter(query).count());
+            long bitmapNanos = bestOf(() -> bitmapMatches.set(0, canoeCoach.evaluateStudentQuery(query)));
+            BitSet expectedIds = toIds(students, query);
+            assertEquals(expectedIds, toIds(students, bitmapMatches.get(0)));
+            report("%s, %d students, %d matches: predicate chain %.2f ms, bitmaps %.2f ms",
+                    labels.get(i), STUDENTS, expectedIds.cardinality(), toMillis(chainNanos), toMillis(bitmapNanos));
+            totalChainNanos += chainNanos;
+            totalBitmapNanos += bitmapNanos;
+        }
+
+        assertTrue(totalBitmapNanos < totalChainNanos);
+    }
+
+    private static List<Student> generateStudents() {
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 1; i <= STUDENTS; i++) {
+            StudentBuilder builder = new StudentBuilder()
+                    .withId(String.valueOf(i))
+                    .withName("Paddler " + i)
+                    .withEmail("paddler" + i + "@example.com")
+                    .withAcademicYear(String.valueOf(i % 5 + 1))
+                    .withMondayDismissal(String.format("%02d%02d", 12 + i % 6, i % 4 * 15))
+                    .withTuesdayDismissal(String.format("%02d%02d", 13 + i % 6, i % 2 * 30));
+            if (i % 50 == 0) {
+                builder.withTags("captain");
+            } else if (i % 3 == 0) {
+                builder.withTags("novice");
+            }
+            students.add(builder.build());
+        }
+        return students;
+    }
+
+    private static TagMatchesPredicate tag(String tagName) {
+        return new TagMatchesPredicate(new seedu.canoe.model.tag.Tag(tagName));
+    }
+
+    private static AcademicYearMatchesPredicate year(String year) {
+        return new AcademicYearMatchesPredicate(new AcademicYear(year));
+    }
+
+    private static BitSet toIds(List<Student> students, Predicate<Student> predicate) {
+        BitSet ids = new BitSet();
+        students.stream().filter(predicate).forEach(student -> ids.set(student.getId().intValue()));
+        return ids;
+    }
+}
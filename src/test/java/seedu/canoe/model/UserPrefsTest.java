@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setCanoeCoachFilePath(null));
     }
 
+    @Test
+    public void setCanoeCoachFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCanoeCoachFileFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
 }
@@ -0,0 +1,57 @@
+package seedu.canoe.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ValueIndexTest {
+
+    private final ValueIndex<Integer> index = new ValueIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(1, 1);
+        index.add(2, 2);
+        index.add(2, 3);
+        index.add(4, 4);
+    }
+
+    @Test
+    public void get_value_idsWithValue() {
+        assertEquals(bits(2, 3), index.get(2));
+        assertEquals(new BitSet(), index.get(3));
+    }
+
+    @Test
+    public void getBetween_range_idsWithinRangeInclusive() {
+        assertEquals(bits(2, 3, 4), index.getBetween(2, 4));
+        assertEquals(3, index.countBetween(2, 4));
+        assertEquals(new BitSet(), index.getBetween(4, 2));
+        assertEquals(0, index.countBetween(4, 2));
+    }
+
+    @Test
+    public void remove_sharedValue_otherIdsKept() {
+        index.remove(2, 2);
+        assertEquals(bits(3), index.get(2));
+        index.remove(2, 3);
+        assertEquals(bits(1, 4), index.getBetween(1, 5));
+    }
+
+    @Test
+    public void get_resultModified_indexUnchanged() {
+        index.get(2).clear();
+        assertEquals(bits(2, 3), index.get(2));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet result = new BitSet();
+        for (int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+}
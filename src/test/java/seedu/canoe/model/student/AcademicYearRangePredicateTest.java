@@ -0,0 +1,46 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.testutil.StudentBuilder;
+
+class AcademicYearRangePredicateTest {
+
+    @Test
+    void equals() {
+        AcademicYearRangePredicate firstPredicate = new AcademicYearRangePredicate(2, 4);
+        AcademicYearRangePredicate secondPredicate = new AcademicYearRangePredicate(2, 3);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AcademicYearRangePredicate(2, 4)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    void test_yearWithinRange_returnsTrue() {
+        AcademicYearRangePredicate predicate = new AcademicYearRangePredicate(2, 4);
+        assertTrue(predicate.test(new StudentBuilder().withAcademicYear("2").build()));
+        assertTrue(predicate.test(new StudentBuilder().withAcademicYear("4").build()));
+    }
+
+    @Test
+    void test_yearOutsideRange_returnsFalse() {
+        AcademicYearRangePredicate predicate = new AcademicYearRangePredicate(2, 4);
+        assertFalse(predicate.test(new StudentBuilder().withAcademicYear("1").build()));
+        assertFalse(predicate.test(new StudentBuilder().withAcademicYear("5").build()));
+    }
+}
@@ -3,12 +3,14 @@ package seedu.canoe.model.student;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.canoe.model.student.time.Day;
+import seedu.canoe.model.student.time.DismissalRangePredicate;
 import seedu.canoe.model.student.time.FridayDismissalPredicate;
 import seedu.canoe.model.student.time.MondayDismissalPredicate;
 import seedu.canoe.model.student.time.ThursdayDismissalPredicate;
@@ -47,6 +49,23 @@ public class DayDismissalPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void dismissalRange() {
+        DismissalRangePredicate predicate =
+                new DismissalRangePredicate(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0));
+
+        assertTrue(predicate.test(new StudentBuilder().withMondayDismissal("1400").build()));
+        assertTrue(predicate.test(new StudentBuilder().withMondayDismissal("1500").build()));
+        assertFalse(predicate.test(new StudentBuilder().withMondayDismissal("1501").build()));
+        assertFalse(predicate.test(new StudentBuilder().withMondayDismissal("1359").build()));
+
+        assertTrue(predicate.equals(
+                new DismissalRangePredicate(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        assertFalse(predicate.equals(
+                new DismissalRangePredicate(DayOfWeek.TUESDAY, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        assertFalse(predicate.equals(new MondayDismissalPredicate(LocalTime.of(15, 0))));
+    }
+
     @Test
     public void equalsTuesday() {
         String firstTime = "1240";
@@ -0,0 +1,78 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdAllocatorTest {
+
+    private final IdAllocator idAllocator = new IdAllocator();
+
+    @Test
+    public void markUsed_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> idAllocator.markUsed(null));
+    }
+
+    @Test
+    public void allocate_emptyBook_startsFromOne() {
+        assertEquals(new Id(1), idAllocator.allocate());
+        assertEquals(new Id(2), idAllocator.allocate());
+    }
+
+    @Test
+    public void allocate_afterMarkUsed_continuesAfterHighestId() {
+        idAllocator.markUsed(new Id(7));
+        idAllocator.markUsed(new Id(3));
+        assertEquals(new Id(8), idAllocator.allocate());
+    }
+
+    @Test
+    public void allocate_afterMaxValue_reusesLowestFreeId() {
+        idAllocator.markUsed(new Id(1));
+        idAllocator.markUsed(new Id(Id.MAX_VALUE));
+        assertEquals(new Id(2), idAllocator.allocate());
+        assertEquals(new Id(3), idAllocator.allocate());
+    }
+
+    @Test
+    public void markUsed_aboveMaxValue_ignored() {
+        idAllocator.markUsed(new Id(Integer.MAX_VALUE));
+        assertEquals(new Id(1), idAllocator.allocate());
+    }
+
+    @Test
+    public void markUsed_placeHolderId_ignored() {
+        idAllocator.markUsed(Id.getPlaceHolderId());
+        assertFalse(idAllocator.isUsed(Id.getPlaceHolderId()));
+        assertEquals(new Id(1), idAllocator.allocate());
+    }
+
+    @Test
+    public void isUsed() {
+        idAllocator.markUsed(new Id(210));
+        assertTrue(idAllocator.isUsed(new Id(210)));
+        assertFalse(idAllocator.isUsed(new Id(300)));
+
+        Id allocated = idAllocator.allocate();
+        assertTrue(idAllocator.isUsed(allocated));
+    }
+
+    @Test
+    public void reset() {
+        idAllocator.markUsed(new Id(300));
+        idAllocator.reset();
+        assertFalse(idAllocator.isUsed(new Id(300)));
+        assertEquals(new Id(1), idAllocator.allocate());
+    }
+
+    @Test
+    public void allocate_separateAllocators_independent() {
+        IdAllocator otherAllocator = new IdAllocator();
+        idAllocator.markUsed(new Id(50));
+        assertEquals(new Id(1), otherAllocator.allocate());
+        assertEquals(new Id(51), idAllocator.allocate());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares matching a roster against a list of ids with {@code IdSetPredicate} against the list of
+ * {@code IdMatchesPredicate}s that the attendance commands used to build, one per id.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class IdSetPredicateBenchmark {
+
+    private static final int STUDENTS = 20000;
+    private static final int IDS = 500;
+
+    /**
+     * Times both predicates over the roster and prints the results.
+     */
+    @Test
+    public void test_manyIds_fasterThanPredicatePerId() {
+        List<Student> students = RosterGenerator.generateStudents(STUDENTS);
+        List<Id> ids = new ArrayList<>();
+        List<Predicate<Student>> idPredicates = new ArrayList<>();
+        for (int i = 0; i < IDS; i++) {
+            Id id = students.get(i * (STUDENTS / IDS)).getId();
+            ids.add(id);
+            idPredicates.add(new IdMatchesPredicate(id.getValue()));
+        }
+        AnyMatchPredicateList perIdPredicate = new AnyMatchPredicateList(idPredicates);
+        IdSetPredicate idSetPredicate = new IdSetPredicate(ids);
+
+        long perIdNanos = bestOf(() -> assertEquals(IDS, students.stream().filter(perIdPredicate).count()));
+        long idSetNanos = bestOf(() -> assertEquals(IDS, students.stream().filter(idSetPredicate).count()));
+        report("%d ids, %d students: predicate per id %.2f ms, id set %.2f ms",
+                IDS, STUDENTS, toMillis(perIdNanos), toMillis(idSetNanos));
+
+        assertTrue(idSetNanos < perIdNanos);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.testutil.StudentBuilder;
+
+class IdSetPredicateTest {
+    @Test
+    void equals() {
+        IdSetPredicate firstPredicate = new IdSetPredicate(List.of(new Id(1), new Id(2)));
+        IdSetPredicate secondPredicate = new IdSetPredicate(List.of(new Id(1), new Id(3)));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same ids in another order -> returns true
+        IdSetPredicate firstPredicateCopy = new IdSetPredicate(List.of(new Id(2), new Id(1), new Id(2)));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ids -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    void constructor_repeatedIds_keepsDistinctIds() {
+        IdSetPredicate predicate = new IdSetPredicate(List.of(new Id(9), new Id(4), new Id(9), new Id(1)));
+        BitSet expectedIds = new BitSet();
+        expectedIds.set(1);
+        expectedIds.set(4);
+        expectedIds.set(9);
+        assertEquals(expectedIds, predicate.getIds());
+        assertEquals(3, predicate.size());
+    }
+
+    @Test
+    void constructor_idsAboveMaxValue_countedButNotInBitmap() {
+        IdSetPredicate predicate = new IdSetPredicate(List.of(new Id(Integer.MAX_VALUE), new Id(3),
+                new Id(Integer.MAX_VALUE), new Id(Id.MAX_VALUE + 1)));
+        BitSet expectedIds = new BitSet();
+        expectedIds.set(3);
+        assertEquals(expectedIds, predicate.getIds());
+        assertEquals(3, predicate.size());
+        assertTrue(predicate.test(new StudentBuilder().withId(String.valueOf(Integer.MAX_VALUE)).build()));
+    }
+
+    @Test
+    void test_idInSet_returnsTrue() {
+        IdSetPredicate predicate = new IdSetPredicate(List.of(new Id(3), new Id(19)));
+        assertTrue(predicate.test(new StudentBuilder().withId("3").build()));
+        assertTrue(predicate.test(new StudentBuilder().withId("19").build()));
+    }
+
+    @Test
+    void test_idNotInSet_returnsFalse() {
+        IdSetPredicate predicate = new IdSetPredicate(List.of(new Id(3), new Id(19)));
+        assertFalse(predicate.test(new StudentBuilder().withId("1").build()));
+        assertFalse(predicate.test(new StudentBuilder().withId("4").build()));
+
+        // no ids
+        assertFalse(new IdSetPredicate(List.of()).test(new StudentBuilder().withId("3").build()));
+    }
+}
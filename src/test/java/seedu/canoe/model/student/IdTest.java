@@ -32,38 +32,28 @@ public class IdTest {
         assertTrue(Id.isValidId("202"));
     }
 
-    @Test
-    public void isUsedId() {
-        // NOTE: Tests on uniqueness of Id values will be trickier due to mutability
-        new Id("210");
-        assertFalse(Id.isUsedId("300"));
-
-        // non-unique values
-        assertTrue(Id.isUsedId("210"));
-    }
-
     @Test
     public void getPlaceHolderId() {
         assertEquals(Id.getPlaceHolderId(), new Id(Id.PLACEHOLDER_VALUE));
+        assertTrue(Id.getPlaceHolderId().isPlaceHolder());
+        assertFalse(new Id("1").isPlaceHolder());
     }
 
     @Test
-    public void getLastUsedId() {
-        new Id("300");
-        assertEquals(Id.getLastUsedId(), 300);
-
-        new Id("301");
-        new Id("302");
-        assertEquals(Id.getLastUsedId(), 302);
-
-        Id.getPlaceHolderId();
-        assertEquals(Id.getLastUsedId(), 302);
+    public void equals() {
+        // same numeric value written differently -> same id
+        assertEquals(new Id("7"), new Id("007"));
+        assertEquals(new Id("7").hashCode(), new Id(7).hashCode());
+        assertEquals("7", new Id("007").getValue());
+
+        assertFalse(new Id(7).equals(new Id(8)));
+        assertFalse(new Id(7).equals(7));
     }
 
     @Test
-    public void resetId() {
-        Id.resetId();
-        assertEquals(0, Id.getLastUsedId());
-        assertTrue(Id.getUsedIds().isEmpty());
+    public void compareTo() {
+        assertTrue(new Id(9).compareTo(new Id(10)) < 0);
+        assertTrue(new Id(10).compareTo(new Id(9)) > 0);
+        assertEquals(0, new Id("10").compareTo(new Id(10)));
     }
 }
@@ -0,0 +1,44 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.testutil.StudentBuilder;
+
+class NotMatchPredicateTest {
+
+    @Test
+    void equals() {
+        NotMatchPredicate firstPredicate = new NotMatchPredicate(new AcademicYearRangePredicate(1, 2));
+        NotMatchPredicate secondPredicate = new NotMatchPredicate(new AcademicYearRangePredicate(3, 4));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NotMatchPredicate(new AcademicYearRangePredicate(1, 2))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    void test_predicateDoesNotMatch_returnsTrue() {
+        NotMatchPredicate predicate = new NotMatchPredicate(new AcademicYearRangePredicate(1, 2));
+        assertTrue(predicate.test(new StudentBuilder().withAcademicYear("3").build()));
+    }
+
+    @Test
+    void test_predicateMatches_returnsFalse() {
+        NotMatchPredicate predicate = new NotMatchPredicate(new AcademicYearRangePredicate(1, 2));
+        assertFalse(predicate.test(new StudentBuilder().withAcademicYear("2").build()));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares {@code Student#hasAttendanceAtDateTime} against the scan over every attendance that it replaced,
+ * on students with a long training history.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class StudentBenchmark {
+
+    private static final int STUDENTS = 200;
+    private static final int[] HISTORY_SIZES = {500, 1000, 2000};
+    private static final LocalDateTime FIRST_TRAINING = LocalDateTime.of(2015, 1, 1, 15, 0);
+
+    /**
+     * Times both lookups for one new training per day over the history, for every student, and prints the results.
+     */
+    @Test
+    public void hasAttendanceAtDateTime_longHistory_logarithmic() {
+        long scanNanos = 0;
+        long indexedNanos = 0;
+        for (int historySize : HISTORY_SIZES) {
+            List<Student> students = generateStudentsWithHistory(historySize);
+            List<LocalDateTime> queries = new ArrayList<>();
+            for (int day = 0; day < historySize; day += 7) {
+                queries.add(FIRST_TRAINING.plusDays(day).withHour(8));
+            }
+
+            int[] scanHits = new int[1];
+            int[] indexedHits = new int[1];
+            scanNanos = bestOf(() -> scanHits[0] = countHits(students, queries, true));
+            indexedNanos = bestOf(() -> indexedHits[0] = countHits(students, queries, false));
+            assertEquals(scanHits[0], indexedHits[0]);
+            report("hasAttendanceAtDateTime, %d students x %d sessions: scan %.2f ms, indexed %.2f ms",
+                    STUDENTS, historySize, toMillis(scanNanos), toMillis(indexedNanos));
+        }
+
+        assertTrue(indexedNanos < scanNanos);
+    }
+
+    private static List<Student> generateStudentsWithHistory(int historySize) {
+        List<Student> students = RosterGenerator.generateStudents(STUDENTS);
+        for (Student student : students) {
+            for (int day = 0; day < historySize; day++) {
+                student.addAttendance(new Attendance(FIRST_TRAINING.plusDays(day), day % 3 != 0));
+            }
+        }
+        return students;
+    }
+
+    private static int countHits(List<Student> students, List<LocalDateTime> queries, boolean isScan) {
+        int hits = 0;
+        for (Student student : students) {
+            for (LocalDateTime query : queries) {
+                boolean hasAttendance = isScan ? hasAttendanceByScan(student, query)
+                        : student.hasAttendanceAtDateTime(query);
+                hits += hasAttendance ? 1 : 0;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * The loop that {@code Student#hasAttendanceAtDateTime} used to run.
+     */
+    private static boolean hasAttendanceByScan(Student student, LocalDateTime dateTime) {
+        for (Attendance attendance : student.getTrainingAttendances()) {
+            if (LocalDate.from(attendance.getTrainingTime()).isEqual(LocalDate.from(dateTime))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
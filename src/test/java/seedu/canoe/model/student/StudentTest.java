@@ -14,6 +14,8 @@ import static seedu.canoe.testutil.LocalDateTimeUtil.DATE_TIME_NOW_PLUS_ONE_DAY;
 import static seedu.canoe.testutil.TypicalStudents.ALICE;
 import static seedu.canoe.testutil.TypicalStudents.BOB;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.canoe.testutil.StudentBuilder;
@@ -32,6 +34,36 @@ public class StudentTest {
         assertThrows(UnsupportedOperationException.class, () -> student.getTrainingAttendances().remove(0));
     }
 
+    @Test
+    public void hasAttendanceAtDateTime() {
+        LocalDateTime trainingTime = LocalDateTime.of(2020, 10, 14, 15, 0);
+        Student student = new StudentBuilder().build();
+        student.addAttendance(new Attendance(trainingTime));
+        student.addAttendance(new Attendance(trainingTime.plusDays(3)));
+
+        // same date, earlier and later in the day -> returns true
+        assertTrue(student.hasAttendanceAtDateTime(trainingTime));
+        assertTrue(student.hasAttendanceAtDateTime(trainingTime.withHour(7)));
+        assertTrue(student.hasAttendanceAtDateTime(trainingTime.withHour(23)));
+
+        // days before, between and after the attendances -> returns false
+        assertFalse(student.hasAttendanceAtDateTime(trainingTime.minusDays(1)));
+        assertFalse(student.hasAttendanceAtDateTime(trainingTime.plusDays(1)));
+        assertFalse(student.hasAttendanceAtDateTime(trainingTime.plusDays(4)));
+    }
+
+    @Test
+    public void markAttendance_replacesAttendanceAtSameTime() {
+        LocalDateTime trainingTime = LocalDateTime.of(2020, 10, 14, 15, 0);
+        Student student = new StudentBuilder().build();
+        student.addAttendance(new Attendance(trainingTime));
+        assertFalse(student.isAttendanceMarked(trainingTime));
+
+        student.markAttendance(new Attendance(trainingTime), new Attendance(trainingTime, true));
+        assertTrue(student.isAttendanceMarked(trainingTime));
+        assertEquals(1, student.getTrainingAttendances().size());
+    }
+
     @Test
     public void isSameStudent() {
         // same object -> returns true
@@ -0,0 +1,46 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.tag.Tag;
+import seedu.canoe.testutil.StudentBuilder;
+
+class TagMatchesPredicateTest {
+
+    @Test
+    void equals() {
+        TagMatchesPredicate firstPredicate = new TagMatchesPredicate(new Tag("novice"));
+        TagMatchesPredicate secondPredicate = new TagMatchesPredicate(new Tag("captain"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagMatchesPredicate(new Tag("novice"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tag -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    void test_hasTag_returnsTrue() {
+        TagMatchesPredicate predicate = new TagMatchesPredicate(new Tag("novice"));
+        assertTrue(predicate.test(new StudentBuilder().withTags("captain", "novice").build()));
+    }
+
+    @Test
+    void test_doesNotHaveTag_returnsFalse() {
+        TagMatchesPredicate predicate = new TagMatchesPredicate(new Tag("novice"));
+        assertFalse(predicate.test(new StudentBuilder().withTags("Novice").build()));
+        assertFalse(predicate.test(new StudentBuilder().build()));
+    }
+}
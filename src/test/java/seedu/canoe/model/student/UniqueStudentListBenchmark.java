@@ -0,0 +1,59 @@
+package seedu.canoe.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares the duplicate check done by {@code CanoeCoach#resetData} against the pairwise check it replaced.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class UniqueStudentListBenchmark {
+
+    private static final int[] ROSTER_SIZES = {5000, 10000, 20000};
+
+    /**
+     * Times both checks on rosters of increasing size and prints the results.
+     */
+    @Test
+    public void resetData_largeRoster_scalesLinearly() {
+        long pairwiseNanos = 0;
+        long indexedNanos = 0;
+        for (int size : ROSTER_SIZES) {
+            List<Student> students = RosterGenerator.generateStudents(size);
+            CanoeCoach source = new CanoeCoach();
+            source.setStudents(students);
+
+            pairwiseNanos = bestOf(() -> assertTrue(studentsAreUniquePairwise(students)));
+            indexedNanos = bestOf(() -> new CanoeCoach().resetData(source));
+            report("resetData, %d students: pairwise check %.2f ms, indexed %.2f ms",
+                    size, toMillis(pairwiseNanos), toMillis(indexedNanos));
+        }
+
+        assertTrue(indexedNanos < pairwiseNanos);
+    }
+
+    /**
+     * The nested-loop duplicate check that {@code UniqueStudentList#setStudents(List)} used to run.
+     */
+    private static boolean studentsAreUniquePairwise(List<Student> students) {
+        for (int i = 0; i < students.size() - 1; i++) {
+            for (int j = i + 1; j < students.size(); j++) {
+                if (students.get(i).isSameStudent(students.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
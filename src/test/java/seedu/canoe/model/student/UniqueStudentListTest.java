@@ -3,6 +3,7 @@ package seedu.canoe.model.student;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.canoe.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.canoe.testutil.Assert.assertThrows;
 import static seedu.canoe.testutil.TypicalStudents.ALICE;
@@ -11,6 +12,7 @@ import static seedu.canoe.testutil.TypicalStudents.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -108,6 +110,73 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentSharesOneContactWithAnotherStudent_throwsDuplicateStudentException() {
+        Student first = new StudentBuilder(ALICE).withPhone("11111111").withEmail("first@example.com").build();
+        Student second = new StudentBuilder(ALICE).withPhone("22222222").withEmail("second@example.com")
+                .withId("2").build();
+        Student editedFirst = new StudentBuilder(first).withEmail("second@example.com").build();
+        uniqueStudentList.add(first);
+        uniqueStudentList.add(second);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(first, editedFirst));
+
+        // the identity of the other student is still known after the student is removed
+        uniqueStudentList.remove(first);
+        assertTrue(uniqueStudentList.contains(new StudentBuilder(second).withPhone("33333333").build()));
+    }
+
+    @Test
+    public void getStudentById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.getStudentById(null));
+    }
+
+    @Test
+    public void getStudentById_studentInList_returnsStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertEquals(Optional.of(BOB), uniqueStudentList.getStudentById(BOB.getId()));
+    }
+
+    @Test
+    public void getStudentById_studentRemoved_returnsEmpty() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        assertEquals(Optional.empty(), uniqueStudentList.getStudentById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniqueStudentList.getStudentById(BOB.getId()));
+    }
+
+    @Test
+    public void getStudentById_studentInsertedBefore_returnsShiftedStudent() {
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(0, ALICE);
+        assertEquals(Optional.of(ALICE), uniqueStudentList.getStudentById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniqueStudentList.getStudentById(BOB.getId()));
+    }
+
+    @Test
+    public void replaceStudentById_studentNotInList_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.replaceStudentById(ALICE.getId(), ALICE));
+    }
+
+    @Test
+    public void replaceStudentById_editedStudentHasSameIdentity_success() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniqueStudentList.replaceStudentById(ALICE.getId(), editedAlice);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(editedAlice);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertEquals(Optional.of(editedAlice), uniqueStudentList.getStudentById(ALICE.getId()));
+    }
+
+    @Test
+    public void replaceStudentById_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.replaceStudentById(ALICE.getId(), BOB));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -161,6 +230,22 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithSameNameYearAndEmail_throwsDuplicateStudentException() {
+        Student aliceWithDifferentPhone = new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, aliceWithDifferentPhone);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void contains_afterStudentRemoved_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -9,6 +9,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.testutil.StudentBuilder;
 import seedu.canoe.testutil.TrainingBuilder;
@@ -42,40 +43,40 @@ public class TrainingMatchesIdPredicateTest {
 
     @Test
     public void test_trainingAddStudentContainsStudents_returnsTrue() {
-        Student testStudent = new StudentBuilder().withPhone("123456").withId("001").build();
-        Set<Student> studentSet = new HashSet<>();
-        studentSet.add(testStudent);
+        Student testStudent = new StudentBuilder().withPhone("123456").withId("1").build();
+        Set<Id> studentIdSet = new HashSet<>();
+        studentIdSet.add(testStudent.getId());
         Training testTraining = new TrainingBuilder().withDateTime(DATE_TIME_NOW_PLUS_ONE_DAY).build();
-        testTraining.addStudent(testStudent);
-        TrainingMatchesIdPredicate predicate = new TrainingMatchesIdPredicate("001");
+        testTraining.addStudent(testStudent.getId());
+        TrainingMatchesIdPredicate predicate = new TrainingMatchesIdPredicate("1");
         assertTrue(predicate.test(testTraining));
     }
 
     @Test
     public void test_trainingContainsStudents_returnsTrue() {
-        Student testStudent = new StudentBuilder().withPhone("123456").withId("001").build();
-        Set<Student> studentSet = new HashSet<>();
-        studentSet.add(testStudent);
-        TrainingMatchesIdPredicate predicate = new TrainingMatchesIdPredicate("001");
+        Student testStudent = new StudentBuilder().withPhone("123456").withId("1").build();
+        Set<Id> studentIdSet = new HashSet<>();
+        studentIdSet.add(testStudent.getId());
+        TrainingMatchesIdPredicate predicate = new TrainingMatchesIdPredicate("1");
         assertTrue(predicate.test(new TrainingBuilder().withDateTime(DATE_TIME_NOW_PLUS_ONE_DAY)
-                .withStudents(studentSet).build()));
+                .withStudentIds(studentIdSet).build()));
     }
 
     @Test
     public void test_trainingDoesNotContainStudents_returnsFalse() {
-        Student testStudent = new StudentBuilder().withPhone("123456").withId("001").build();
-        Set<Student> studentSet = new HashSet<>();
-        studentSet.add(testStudent);
+        Student testStudent = new StudentBuilder().withPhone("123456").withId("1").build();
+        Set<Id> studentIdSet = new HashSet<>();
+        studentIdSet.add(testStudent.getId());
 
         //null argument
         TrainingMatchesIdPredicate predicate = new TrainingMatchesIdPredicate(null);
         assertFalse(predicate.test(new TrainingBuilder().withDateTime(DATE_TIME_NOW_PLUS_ONE_DAY)
-                .withStudents(studentSet).build()));
+                .withStudentIds(studentIdSet).build()));
 
         //non-matching keywords
-        TrainingMatchesIdPredicate nonMatchingPredicate = new TrainingMatchesIdPredicate("002");
+        TrainingMatchesIdPredicate nonMatchingPredicate = new TrainingMatchesIdPredicate("2");
         assertFalse(nonMatchingPredicate.test(new TrainingBuilder().withDateTime(DATE_TIME_NOW_PLUS_ONE_DAY)
-                .withStudents(studentSet).build()));
+                .withStudentIds(studentIdSet).build()));
     }
 
 }
@@ -0,0 +1,96 @@
+package seedu.canoe.model.training;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.model.student.exceptions.DuplicateTrainingException;
+import seedu.canoe.model.student.exceptions.TrainingNotFoundException;
+import seedu.canoe.testutil.TrainingBuilder;
+
+public class UniqueTrainingListTest {
+
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2020, 10, 10, 8, 0);
+    private static final LocalDateTime SECOND_DATE_TIME = LocalDateTime.of(2020, 10, 12, 8, 0);
+    private static final LocalDateTime THIRD_DATE_TIME = LocalDateTime.of(2020, 10, 14, 8, 0);
+
+    private static final Training FIRST_TRAINING = new TrainingBuilder().withDateTime(FIRST_DATE_TIME).build();
+    private static final Training SECOND_TRAINING = new TrainingBuilder().withDateTime(SECOND_DATE_TIME).build();
+    private static final Training THIRD_TRAINING = new TrainingBuilder().withDateTime(THIRD_DATE_TIME).build();
+
+    private final UniqueTrainingList uniqueTrainingList = new UniqueTrainingList();
+
+    @Test
+    public void contains_trainingWithSameDateTimeInList_returnsTrue() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        assertTrue(uniqueTrainingList.contains(new TrainingBuilder().withDateTime(FIRST_DATE_TIME).build()));
+        assertFalse(uniqueTrainingList.contains(SECOND_TRAINING));
+    }
+
+    @Test
+    public void add_duplicateTraining_throwsDuplicateTrainingException() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        assertThrows(DuplicateTrainingException.class, () -> uniqueTrainingList.add(FIRST_TRAINING));
+    }
+
+    @Test
+    public void getTrainingAt_trainingInList_returnsTraining() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        assertEquals(Optional.of(FIRST_TRAINING), uniqueTrainingList.getTrainingAt(FIRST_DATE_TIME));
+        assertEquals(Optional.empty(), uniqueTrainingList.getTrainingAt(SECOND_DATE_TIME));
+    }
+
+    @Test
+    public void getTrainingsBetween_unorderedList_returnsTrainingsInChronologicalOrder() {
+        uniqueTrainingList.setTrainings(Arrays.asList(THIRD_TRAINING, FIRST_TRAINING, SECOND_TRAINING));
+        assertEquals(Arrays.asList(FIRST_TRAINING, SECOND_TRAINING),
+                uniqueTrainingList.getTrainingsBetween(FIRST_DATE_TIME, SECOND_DATE_TIME));
+        assertEquals(Arrays.asList(SECOND_TRAINING), uniqueTrainingList.getTrainingsBetween(
+                FIRST_DATE_TIME.plusMinutes(1), THIRD_DATE_TIME.minusMinutes(1)));
+        assertTrue(uniqueTrainingList.getTrainingsBetween(THIRD_DATE_TIME, FIRST_DATE_TIME).isEmpty());
+    }
+
+    @Test
+    public void setTraining_editedTrainingHasDifferentDateTime_updatesIndex() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        uniqueTrainingList.setTraining(FIRST_TRAINING, SECOND_TRAINING);
+        assertEquals(Optional.empty(), uniqueTrainingList.getTrainingAt(FIRST_DATE_TIME));
+        assertEquals(Optional.of(SECOND_TRAINING), uniqueTrainingList.getTrainingAt(SECOND_DATE_TIME));
+    }
+
+    @Test
+    public void setTraining_editedTrainingHasNonUniqueDateTime_throwsDuplicateTrainingException() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        uniqueTrainingList.add(SECOND_TRAINING);
+        assertThrows(DuplicateTrainingException.class, () ->
+                uniqueTrainingList.setTraining(FIRST_TRAINING, SECOND_TRAINING));
+    }
+
+    @Test
+    public void remove_trainingDoesNotExist_throwsTrainingNotFoundException() {
+        assertThrows(TrainingNotFoundException.class, () -> uniqueTrainingList.remove(FIRST_TRAINING));
+    }
+
+    @Test
+    public void remove_existingTraining_removesFromIndex() {
+        uniqueTrainingList.add(FIRST_TRAINING);
+        uniqueTrainingList.remove(FIRST_TRAINING);
+        assertFalse(uniqueTrainingList.contains(FIRST_TRAINING));
+        assertEquals(Optional.empty(), uniqueTrainingList.getTrainingAt(FIRST_DATE_TIME));
+    }
+
+    @Test
+    public void setTrainings_listWithDuplicateTrainings_throwsDuplicateTrainingException() {
+        List<Training> listWithDuplicateTrainings = Arrays.asList(FIRST_TRAINING, FIRST_TRAINING);
+        assertThrows(DuplicateTrainingException.class, () ->
+                uniqueTrainingList.setTrainings(listWithDuplicateTrainings));
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.canoe.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll("a", "b", "c", "d");
+        list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void set_outsideBatch_publishesEachChange() {
+        list.set(0, "x");
+        list.set(2, "y");
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void endBatch_severalChanges_publishesOneChange() {
+        list.beginBatch();
+        list.set(0, "x");
+        list.set(2, "y");
+        list.remove("d");
+        list.add("e");
+        assertTrue(changes.isEmpty());
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("x", "b", "y", "e"), list);
+    }
+
+    @Test
+    public void endBatch_nestedBatches_publishesWhenOutermostEnds() {
+        list.beginBatch();
+        list.beginBatch();
+        list.set(1, "x");
+        list.endBatch();
+        list.set(3, "y");
+        assertTrue(changes.isEmpty());
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of("a", "x", "c", "y"), list);
+    }
+
+    @Test
+    public void getChangeCount_countsPublishedChanges() {
+        long initialCount = list.getChangeCount();
+        list.beginBatch();
+        list.set(0, "x");
+        list.remove(1);
+        list.endBatch();
+        list.markUpdated(0);
+        assertEquals(initialCount + 2, list.getChangeCount());
+    }
+
+    @Test
+    public void markUpdated_publishesUpdate() {
+        list.addListener((ListChangeListener<String>) change -> {
+            assertTrue(change.next());
+            assertTrue(change.wasUpdated());
+            assertEquals(2, change.getFrom());
+        });
+        list.markUpdated(2);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setAll_replacesElementsInOneChange() {
+        list.setAll("p", "q");
+        assertEquals(1, changes.size());
+        assertEquals(List.of("p", "q"), list);
+
+        list.clear();
+        assertEquals(2, changes.size());
+        assertTrue(list.isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares how long a command waits for the whole book to be saved as json against handing the save to the
+ * background writer.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class AsyncCanoeCoachStorageBenchmark {
+
+    private static final int STUDENTS = 20000;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Times both ways of saving and prints the results.
+     */
+    @Test
+    public void saveCanoeCoach_background_returnsSoonerThanFullWrite() {
+        CanoeCoach canoeCoach = new CanoeCoach();
+        canoeCoach.setStudents(RosterGenerator.generateStudents(STUDENTS));
+        JsonCanoeCoachStorage jsonStorage = new JsonCanoeCoachStorage(testFolder.resolve("sync.json"));
+        AsyncCanoeCoachStorage asyncStorage = new AsyncCanoeCoachStorage(
+                new JsonCanoeCoachStorage(testFolder.resolve("async.json")));
+
+        long syncNanos = bestOf(() -> jsonStorage.saveCanoeCoach(canoeCoach));
+        long asyncNanos = bestOf(() -> asyncStorage.saveCanoeCoach(canoeCoach), asyncStorage::flush);
+        report("%d students: command waits %.2f ms for a json save, %.2f ms for a background save",
+                STUDENTS, toMillis(syncNanos), toMillis(asyncNanos));
+
+        assertTrue(asyncNanos < syncNanos);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.Assert.assertThrows;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+
+public class AsyncCanoeCoachStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncCanoeCoachStorage(null));
+    }
+
+    @Test
+    public void readCanoeCoach_afterSave_readsSavedData() throws Exception {
+        AsyncCanoeCoachStorage storage = new AsyncCanoeCoachStorage(
+                new JournaledCanoeCoachStorage(testFolder.resolve("canoecoach.json")));
+        CanoeCoach canoeCoach = getTypicalCanoeCoach();
+        storage.saveCanoeCoach(canoeCoach);
+        canoeCoach.removeStudent(ALICE);
+        storage.saveCanoeCoach(canoeCoach);
+
+        assertEquals(canoeCoach, new CanoeCoach(storage.readCanoeCoach().get()));
+    }
+
+    @Test
+    public void saveCanoeCoach_savesWhileWriting_mergedIntoOneWrite() throws Exception {
+        CountingStorageStub stub = new CountingStorageStub();
+        AsyncCanoeCoachStorage storage = new AsyncCanoeCoachStorage(stub);
+        CanoeCoach canoeCoach = new CanoeCoach();
+
+        storage.saveCanoeCoach(canoeCoach);
+        stub.firstWriteStarted.await();
+        for (int i = 0; i < 10; i++) {
+            storage.saveCanoeCoach(canoeCoach);
+        }
+        assertTrue(storage.getSaveLag().compareTo(Duration.ZERO) > 0);
+        stub.firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(11, stub.prepared.get());
+        assertEquals(2, stub.written.get());
+        assertEquals(Duration.ZERO, storage.getSaveLag());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        CountingStorageStub stub = new CountingStorageStub();
+        stub.failure = DUMMY_IO_EXCEPTION;
+        stub.firstWriteReleased.countDown();
+        AsyncCanoeCoachStorage storage = new AsyncCanoeCoachStorage(stub);
+
+        storage.saveCanoeCoach(new CanoeCoach());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    /**
+     * A stub that counts the saves prepared and written through it, and holds its first write until released.
+     */
+    private static class CountingStorageStub implements CanoeCoachStorage {
+        private final AtomicInteger prepared = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+        private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        private final CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        private IOException failure;
+
+        @Override
+        public Path getCanoeCoachFilePath() {
+            return Path.of("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyCanoeCoach> readCanoeCoach() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyCanoeCoach> readCanoeCoach(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCanoeCoach(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CanoeCoachWrite prepareSave(ReadOnlyCanoeCoach canoeCoach, Path filePath) {
+            prepared.incrementAndGet();
+            return new CanoeCoachWrite() {
+                @Override
+                public void run() throws IOException {
+                    firstWriteStarted.countDown();
+                    try {
+                        firstWriteReleased.await();
+                    } catch (InterruptedException e) {
+                        throw new AssertionError(e);
+                    }
+                    written.incrementAndGet();
+                    if (failure != null) {
+                        throw failure;
+                    }
+                }
+
+                @Override
+                public Optional<CanoeCoachWrite> mergeAfter(CanoeCoachWrite earlier) {
+                    return Optional.of(this);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares the json and binary data files of a book with three seasons of trainings, by the time taken to load and
+ * save them and by their size.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class BinaryCanoeCoachStorageBenchmark {
+
+    private static final int STUDENTS = 10000;
+    private static final int SEASONS = 3;
+    private static final int TRAININGS_PER_SEASON = 60;
+    /** Each training is attended by one in this many students. */
+    private static final int ATTENDANCE_SPREAD = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Times loading and saving both files and prints the results, with the sizes of the files.
+     */
+    @Test
+    public void loadAndSave_binary_fasterAndSmaller() throws Exception {
+        CanoeCoach canoeCoach = generateSeasons();
+        JsonCanoeCoachStorage jsonStorage = new JsonCanoeCoachStorage(testFolder.resolve("canoecoach.json"));
+        BinaryCanoeCoachStorage binaryStorage = new BinaryCanoeCoachStorage(testFolder.resolve("canoecoach.bin"));
+
+        long jsonSave = bestOf(() -> jsonStorage.saveCanoeCoach(canoeCoach));
+        long binarySave = bestOf(() -> binaryStorage.saveCanoeCoach(canoeCoach));
+        long jsonLoad = bestOf(jsonStorage::readCanoeCoach);
+        long binaryLoad = bestOf(binaryStorage::readCanoeCoach);
+        long jsonSize = Files.size(jsonStorage.getCanoeCoachFilePath());
+        long binarySize = Files.size(binaryStorage.getCanoeCoachFilePath());
+
+        report("%d students, %d trainings: load json %.2f ms, binary %.2f ms (%.1fx)",
+                STUDENTS, canoeCoach.getTrainingList().size(), toMillis(jsonLoad), toMillis(binaryLoad),
+                (double) jsonLoad / binaryLoad);
+        report("save json %.2f ms, binary %.2f ms (%.1fx)", toMillis(jsonSave), toMillis(binarySave),
+                (double) jsonSave / binarySave);
+        report("file size json %.1f kB, binary %.1f kB (%.1fx)", jsonSize / 1e3, binarySize / 1e3,
+                (double) jsonSize / binarySize);
+
+        assertTrue(binaryLoad < jsonLoad);
+        assertTrue(binarySize < jsonSize);
+    }
+
+    /**
+     * Returns a book of {@code STUDENTS} students, with {@code TRAININGS_PER_SEASON} past trainings in each of
+     * {@code SEASONS} seasons, most of whose attendances are marked.
+     */
+    private static CanoeCoach generateSeasons() {
+        List<Student> students = RosterGenerator.generateStudents(STUDENTS);
+        CanoeCoach canoeCoach = new CanoeCoach();
+        LocalDateTime firstTraining = LocalDateTime.of(2018, 1, 6, 7, 30);
+        for (int season = 0; season < SEASONS; season++) {
+            for (int week = 0; week < TRAININGS_PER_SEASON; week++) {
+                int number = season * TRAININGS_PER_SEASON + week;
+                LocalDateTime dateTime = firstTraining.plusYears(season).plusDays(week * 3L);
+                Set<Id> members = new HashSet<>();
+                for (Student student : students) {
+                    int id = student.getId().intValue();
+                    if ((id + number) % ATTENDANCE_SPREAD == 0) {
+                        members.add(student.getId());
+                        student.addAttendance(new Attendance(dateTime, (id * number) % 4 != 0));
+                    }
+                }
+                canoeCoach.addTraining(new Training(dateTime, members));
+            }
+        }
+        canoeCoach.setStudents(students);
+        return canoeCoach;
+    }
+}
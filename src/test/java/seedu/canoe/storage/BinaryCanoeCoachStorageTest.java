@@ -0,0 +1,171 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.Assert.assertThrows;
+import static seedu.canoe.testutil.LocalDateTimeUtil.DATE_TIME_NOW_MINUS_ONE_DAY;
+import static seedu.canoe.testutil.LocalDateTimeUtil.PAST_LOCAL_DATE_TIME;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+import seedu.canoe.testutil.StudentBuilder;
+import seedu.canoe.testutil.TrainingBuilder;
+import seedu.canoe.testutil.TypicalStudentsInTypicalTrainings;
+
+public class BinaryCanoeCoachStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryCanoeCoachStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("canoecoach.bin");
+        storage = new BinaryCanoeCoachStorage(filePath);
+    }
+
+    @Test
+    public void readCanoeCoach_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readCanoeCoach(null));
+    }
+
+    @Test
+    public void readCanoeCoach_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readCanoeCoach().isPresent());
+    }
+
+    @Test
+    public void readCanoeCoach_afterSave_readsSavedData() throws Exception {
+        CanoeCoach original = TypicalStudentsInTypicalTrainings.getTypicalAddressBook();
+        storage.saveCanoeCoach(original);
+        assertEquals(original, new CanoeCoach(storage.readCanoeCoach().get()));
+
+        // the file is overwritten in full by the next save
+        CanoeCoach smaller = getTypicalCanoeCoach();
+        smaller.removeStudent(ALICE);
+        storage.saveCanoeCoach(smaller);
+        assertEquals(smaller, new CanoeCoach(storage.readCanoeCoach().get()));
+    }
+
+    @Test
+    public void readCanoeCoach_attendancesAndTimes_keptExactly() throws Exception {
+        // times that are not whole minutes keep their seconds and nanoseconds
+        LocalDateTime nowMinusOneDay = DATE_TIME_NOW_MINUS_ONE_DAY.withNano(123456789);
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59);
+        Student student = new StudentBuilder().withTrainingAttendances(new Attendance(PAST_LOCAL_DATE_TIME, true),
+                new Attendance(nowMinusOneDay), new Attendance(beforeEpoch, true)).build();
+        Training training = new TrainingBuilder().withDateTime(nowMinusOneDay)
+                .withStudentIds(Set.of(student.getId())).build();
+        CanoeCoach original = new CanoeCoach();
+        original.addStudent(student);
+        original.addTraining(training);
+        storage.saveCanoeCoach(original);
+
+        CanoeCoach readBack = new CanoeCoach(storage.readCanoeCoach().get());
+        assertEquals(original, readBack);
+        Student studentReadBack = readBack.getStudentList().get(0);
+        assertTrue(studentReadBack.isAttendanceMarked(PAST_LOCAL_DATE_TIME));
+        assertFalse(studentReadBack.isAttendanceMarked(nowMinusOneDay));
+        assertTrue(studentReadBack.isAttendanceMarked(beforeEpoch));
+        assertEquals(nowMinusOneDay, readBack.getTrainingList().get(0).getDateTime());
+    }
+
+    @Test
+    public void readCanoeCoach_corruptedFile_throwsDataConversionException() throws Exception {
+        storage.saveCanoeCoach(TypicalStudentsInTypicalTrainings.getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void readCanoeCoach_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveCanoeCoach(TypicalStudentsInTypicalTrainings.getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void readCanoeCoach_negativeCount_throwsDataConversionException() throws Exception {
+        // a string table whose size is a ten byte varint with the sign bit set
+        writeWithChecksum(0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x01);
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void readCanoeCoach_idAboveMaxValue_throwsDataConversionException() throws Exception {
+        // no strings or times, then one student with id 2000000000
+        writeWithChecksum(0x00, 0x00, 0x01, 0x80, 0xa8, 0xd6, 0xb9, 0x07);
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void readCanoeCoach_newerVersion_throwsDataConversionException() throws Exception {
+        storage.saveCanoeCoach(new CanoeCoach());
+        byte[] content = Files.readAllBytes(filePath);
+        content[4] = (byte) (BinaryCanoeCoachFile.CURRENT_VERSION + 1);
+        Files.write(filePath, content);
+
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void readCanoeCoach_jsonFile_throwsDataConversionException() throws Exception {
+        new JsonCanoeCoachStorage(filePath).saveCanoeCoach(new CanoeCoach());
+        assertThrows(DataConversionException.class, () -> storage.readCanoeCoach());
+    }
+
+    @Test
+    public void prepareSave_laterSaveToSameFile_replacesEarlierOne() throws Exception {
+        CanoeCoachWrite first = storage.prepareSave(new CanoeCoach(), filePath);
+        CanoeCoachWrite second = storage.prepareSave(new CanoeCoach(), filePath);
+        CanoeCoachWrite otherFile = storage.prepareSave(new CanoeCoach(), testFolder.resolve("other.bin"));
+
+        assertEquals(Optional.of(second), second.mergeAfter(first));
+        assertTrue(otherFile.mergeAfter(second).isEmpty());
+    }
+
+    /**
+     * Writes a binary file in the current version holding {@code body}, with a checksum that matches it.
+     */
+    private void writeWithChecksum(int... body) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.writeBytes(new byte[] {'C', 'C', 'B', 'K', BinaryCanoeCoachFile.CURRENT_VERSION});
+        for (int b : body) {
+            content.write(b);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(content.toByteArray());
+        int checksum = (int) crc.getValue();
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            content.write(checksum >>> shift);
+        }
+        Files.write(filePath, content.toByteArray());
+    }
+}
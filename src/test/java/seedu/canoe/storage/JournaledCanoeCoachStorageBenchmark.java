@@ -0,0 +1,69 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.bestOf;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.testutil.RosterGenerator;
+import seedu.canoe.testutil.StudentBuilder;
+
+/**
+ * Compares saving a book after editing one student by appending the edit to the journal against writing the
+ * whole book out as json after every command.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class JournaledCanoeCoachStorageBenchmark {
+
+    private static final int STUDENTS = 20000;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Times both ways of saving an edit and prints the results.
+     */
+    @Test
+    public void save_singleEdit_fasterThanFullWrite() throws IOException {
+        List<Student> students = RosterGenerator.generateStudents(STUDENTS);
+        CanoeCoach canoeCoach = new CanoeCoach();
+        canoeCoach.setStudents(students);
+        ModelManager model = new ModelManager(canoeCoach, new UserPrefs());
+        JsonCanoeCoachStorage jsonStorage = new JsonCanoeCoachStorage(testFolder.resolve("full.json"));
+        JournaledCanoeCoachStorage journaledStorage =
+                new JournaledCanoeCoachStorage(testFolder.resolve("journaled.json"));
+        journaledStorage.saveCanoeCoach(model.getCanoeCoach());
+        Student target = students.get(STUDENTS / 2);
+        int[] phone = {90000000};
+
+        long fullNanos = bestOf(() -> {
+            editPhone(model, target, phone[0]++);
+            jsonStorage.saveCanoeCoach(model.getCanoeCoach());
+        });
+        long journalNanos = bestOf(() -> {
+            editPhone(model, target, phone[0]++);
+            journaledStorage.saveCanoeCoach(model.getCanoeCoach());
+        });
+        report("%d students, one edit: full json save %.2f ms, journal append %.2f ms",
+                STUDENTS, toMillis(fullNanos), toMillis(journalNanos));
+
+        assertTrue(journalNanos < fullNanos);
+    }
+
+    private static void editPhone(ModelManager model, Student target, int phone) {
+        model.replaceStudentById(target.getId(), new StudentBuilder(target).withPhone(String.valueOf(phone)).build());
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.Assert.assertThrows;
+import static seedu.canoe.testutil.LocalDateTimeUtil.PAST_LOCAL_DATE_TIME;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.HOON;
+import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.Model;
+import seedu.canoe.model.ModelManager;
+import seedu.canoe.model.ReadOnlyCanoeCoach;
+import seedu.canoe.model.UserPrefs;
+import seedu.canoe.model.student.Attendance;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+import seedu.canoe.testutil.StudentBuilder;
+import seedu.canoe.testutil.TrainingBuilder;
+
+public class JournaledCanoeCoachStorageTest {
+    private static final Path LEGACY_FILE = Paths.get("src", "test", "data", "JsonSerializableCanoeCoachTest",
+            "legacyTrainingsCanoeCoach.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("canoecoach.json");
+        model = new ModelManager(getTypicalCanoeCoach(), new UserPrefs());
+    }
+
+    @Test
+    public void readCanoeCoach_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledCanoeCoachStorage(filePath)
+                .readCanoeCoach(null));
+    }
+
+    @Test
+    public void readCanoeCoach_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledCanoeCoachStorage(filePath).readCanoeCoach().isPresent());
+    }
+
+    @Test
+    public void readCanoeCoach_legacyFile_migratesFileOnce() throws Exception {
+        Files.copy(LEGACY_FILE, filePath);
+        ReadOnlyCanoeCoach canoeCoachRead = new JournaledCanoeCoachStorage(filePath).readCanoeCoach().get();
+
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonSerializableCanoeCoach.class).get().isLegacyFormat());
+        assertEquals(new CanoeCoach(canoeCoachRead), readBack(new JournaledCanoeCoachStorage(filePath)));
+    }
+
+    @Test
+    public void saveCanoeCoach_firstSave_writesSnapshotOnly() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        assertEquals(List.of("canoecoach.json"), fileNames());
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void saveCanoeCoach_savedBookChanged_appendsChangesToJournal() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        String snapshot = Files.readString(filePath);
+
+        model.addStudent(HOON);
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        model.undo();
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        // nothing changed since the last save
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(List.of("canoecoach.json", "canoecoach.json.1.journal"), fileNames());
+        assertEquals(2, Files.readAllLines(testFolder.resolve("canoecoach.json.1.journal")).size());
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void saveCanoeCoach_afterFailedSnapshot_writesSnapshotAgain() throws Exception {
+        Path blocker = testFolder.resolve("data");
+        Path blockedFilePath = blocker.resolve("canoecoach.json");
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(blockedFilePath);
+        Files.createFile(blocker);
+        assertThrows(IOException.class, () -> storage.saveCanoeCoach(model.getCanoeCoach()));
+
+        Files.delete(blocker);
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void close_savedBookChangedAfter_changesNotCollected() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        model.deleteStudent(ALICE);
+        assertTrue(storage.hasPendingChanges());
+
+        storage.close();
+        assertFalse(storage.hasPendingChanges());
+        model.addStudent(HOON);
+        assertFalse(storage.hasPendingChanges());
+    }
+
+    @Test
+    public void prepareSave_writtenAfterMoreChanges_writesBookAsPrepared() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        CanoeCoach prepared = new CanoeCoach(model.getCanoeCoach());
+        CanoeCoachWrite snapshot = storage.prepareSave(model.getCanoeCoach(), filePath);
+        model.deleteStudent(ALICE);
+        snapshot.run();
+
+        assertEquals(prepared, readBack(storage));
+    }
+
+    @Test
+    public void prepareSave_mergedAppends_writeOneEntry() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        model.deleteStudent(ALICE);
+        CanoeCoachWrite first = storage.prepareSave(model.getCanoeCoach(), filePath);
+        model.addStudent(HOON);
+        CanoeCoachWrite second = storage.prepareSave(model.getCanoeCoach(), filePath);
+        second.mergeAfter(first).get().run();
+
+        assertEquals(1, Files.readAllLines(testFolder.resolve("canoecoach.json.1.journal")).size());
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void prepareSave_snapshotAfterAppend_replacesAppend() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        model.deleteStudent(ALICE);
+        CanoeCoachWrite append = storage.prepareSave(model.getCanoeCoach(), filePath);
+        CanoeCoach otherCanoeCoach = new CanoeCoach();
+        CanoeCoachWrite snapshot = storage.prepareSave(otherCanoeCoach, filePath);
+
+        assertEquals(Optional.of(snapshot), snapshot.mergeAfter(append));
+        assertTrue(append.mergeAfter(snapshot).isEmpty());
+    }
+
+    @Test
+    public void saveCanoeCoach_attendanceMarked_journalsMark() throws Exception {
+        Student student = new StudentBuilder().withTrainingAttendances(new Attendance(PAST_LOCAL_DATE_TIME)).build();
+        Training training = new TrainingBuilder().withDateTime(PAST_LOCAL_DATE_TIME)
+                .withStudentIds(Set.of(student.getId())).build();
+        model = new ModelManager(new CanoeCoach(), new UserPrefs());
+        model.addStudent(student);
+        model.addTraining(training);
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        model.setAttendanceMarked(training, List.of(student.getId()), true);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        Student studentReadBack = readBack(storage).getStudentList().get(0);
+        assertTrue(studentReadBack.isAttendanceMarked(PAST_LOCAL_DATE_TIME));
+    }
+
+    @Test
+    public void saveCanoeCoach_journalPastThreshold_foldsJournalIntoSnapshot() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath, 1);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        storage.awaitCompaction();
+
+        assertEquals(List.of("canoecoach.json"), fileNames());
+        // the snapshot alone holds the change now
+        ReadOnlyCanoeCoach snapshot = new JsonCanoeCoachStorage(filePath).readCanoeCoach().get();
+        assertEquals(model.getCanoeCoach(), new CanoeCoach(snapshot));
+
+        model.addStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        storage.awaitCompaction();
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void readCanoeCoach_incompleteLastEntry_skipsEntry() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        appendToJournal("{\"changes\":[{\"list\":\"stud");
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    @Test
+    public void readCanoeCoach_incompleteEntryBeforeOthers_throwsDataConversionException() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+
+        appendToJournal("{\"changes\":[{\"list\":\"stud\n{\"changes\":[]}\n");
+        assertThrows(DataConversionException.class, () -> readBack(storage));
+    }
+
+    @Test
+    public void readCanoeCoach_journalLeftBehindBySnapshot_notReplayedAgain() throws Exception {
+        JournaledCanoeCoachStorage storage = new JournaledCanoeCoachStorage(filePath);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        model.deleteStudent(ALICE);
+        storage.saveCanoeCoach(model.getCanoeCoach());
+        Path journal = testFolder.resolve("canoecoach.json.1.journal");
+        byte[] journalContent = Files.readAllBytes(journal);
+
+        // a snapshot that includes the journal is written, but the journal is left behind as if by a crash
+        new JournaledCanoeCoachStorage(filePath).saveCanoeCoach(model.getCanoeCoach());
+        Files.write(journal, journalContent);
+
+        assertEquals(model.getCanoeCoach(), readBack(storage));
+    }
+
+    private CanoeCoach readBack(JournaledCanoeCoachStorage storage) throws Exception {
+        return new CanoeCoach(storage.readCanoeCoach().get());
+    }
+
+    private void appendToJournal(String content) throws IOException {
+        Files.write(testFolder.resolve("canoecoach.json.1.journal"), content.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
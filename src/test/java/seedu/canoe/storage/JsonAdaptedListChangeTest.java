@@ -0,0 +1,47 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.canoe.testutil.Assert.assertThrows;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
+import static seedu.canoe.testutil.TypicalStudents.BENSON;
+import static seedu.canoe.testutil.TypicalStudents.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.canoe.commons.exceptions.IllegalValueException;
+import seedu.canoe.model.student.Student;
+import seedu.canoe.model.training.Training;
+
+public class JsonAdaptedListChangeTest {
+
+    @Test
+    public void applyTo_replacedRange_replacesItems() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE, BENSON));
+        List<Training> trainings = new ArrayList<>();
+        new JsonAdaptedListChange(JsonAdaptedListChange.STUDENTS, 1, 1, List.of(new JsonAdaptedStudent(CARL)), null)
+                .applyTo(students, trainings);
+
+        assertEquals(List.of(ALICE, CARL), students);
+        assertEquals(List.of(), trainings);
+    }
+
+    @Test
+    public void applyTo_rangeOutsideList_throwsIllegalValueException() {
+        List<Student> students = new ArrayList<>(List.of(ALICE));
+        JsonAdaptedListChange change = new JsonAdaptedListChange(JsonAdaptedListChange.STUDENTS, 1, 1, null, null);
+        String expectedMessage = String.format(JsonAdaptedListChange.MESSAGE_OUT_OF_RANGE,
+                JsonAdaptedListChange.STUDENTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> change.applyTo(students, new ArrayList<>()));
+    }
+
+    @Test
+    public void applyTo_unknownList_throwsIllegalValueException() {
+        JsonAdaptedListChange change = new JsonAdaptedListChange("coaches", 0, 0, null, null);
+        String expectedMessage = String.format(JsonAdaptedListChange.MESSAGE_UNKNOWN_LIST, "coaches");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                change.applyTo(new ArrayList<>(), new ArrayList<>()));
+    }
+}
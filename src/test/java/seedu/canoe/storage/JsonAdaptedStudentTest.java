@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import seedu.canoe.commons.exceptions.IllegalValueException;
 import seedu.canoe.model.student.AcademicYear;
 import seedu.canoe.model.student.Email;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.student.Name;
 import seedu.canoe.model.student.Phone;
 import seedu.canoe.model.student.time.Day;
@@ -29,6 +30,8 @@ public class JsonAdaptedStudentTest {
     private static final String INVALID_WEDNESDAY = "Banana";
     private static final String INVALID_THURSDAY = "Banana";
     private static final String INVALID_FRIDAY = "Banana";
+    private static final String INVALID_ID = "abc";
+    private static final String LARGE_ID = "2000000000";
     private static final String VALID_ACADEMIC_YEAR = BENSON.getAcademicYear().toString();
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
@@ -230,6 +233,26 @@ public class JsonAdaptedStudentTest {
         assertThrows(IllegalValueException.class, expectedMessage, student::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedStudent student =
+                new JsonAdaptedStudent(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ACADEMIC_YEAR, VALID_TAGS,
+                        VALID_MONDAY, VALID_TUESDAY, VALID_WEDNESDAY, VALID_THURSDAY, VALID_FRIDAY,
+                        VALID_TRAINING_ATTENDANCES, INVALID_ID);
+        String expectedMessage = Id.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, student::toModelType);
+    }
+
+    @Test
+    public void toModelType_idAboveMaxValue_throwsIllegalValueException() {
+        JsonAdaptedStudent student =
+                new JsonAdaptedStudent(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ACADEMIC_YEAR, VALID_TAGS,
+                        VALID_MONDAY, VALID_TUESDAY, VALID_WEDNESDAY, VALID_THURSDAY, VALID_FRIDAY,
+                        VALID_TRAINING_ATTENDANCES, LARGE_ID);
+        String expectedMessage = Id.MESSAGE_TOO_LARGE;
+        assertThrows(IllegalValueException.class, expectedMessage, student::toModelType);
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
@@ -0,0 +1,81 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.BenchmarkUtil.RUNS;
+import static seedu.canoe.testutil.BenchmarkUtil.report;
+import static seedu.canoe.testutil.BenchmarkUtil.run;
+import static seedu.canoe.testutil.BenchmarkUtil.toMillis;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.canoe.commons.util.FileUtil;
+import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.testutil.BenchmarkUtil;
+import seedu.canoe.testutil.RosterGenerator;
+
+/**
+ * Compares saving and loading the data file through a json string of the whole book against streaming it one
+ * student at a time, by time taken and by bytes allocated.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class JsonCanoeCoachFileBenchmark {
+
+    private static final int STUDENTS = 20000;
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Times both ways of saving and loading and prints the results.
+     */
+    @Test
+    public void saveAndLoad_streamed_allocatesLess() {
+        CanoeCoach canoeCoach = new CanoeCoach();
+        canoeCoach.setStudents(RosterGenerator.generateStudents(STUDENTS));
+        Path stringFile = testFolder.resolve("string.json");
+        Path streamedFile = testFolder.resolve("streamed.json");
+
+        long[] viaString = leastTimeAndBytes(() -> {
+            String json = JsonUtil.toJsonString(new JsonSerializableCanoeCoach(canoeCoach));
+            FileUtil.writeToFileAtomically(stringFile, json);
+            JsonUtil.fromJsonString(FileUtil.readFromFile(stringFile), JsonSerializableCanoeCoach.class)
+                    .toModelType();
+        });
+        long[] streamed = leastTimeAndBytes(() -> {
+            JsonCanoeCoachFile.write(canoeCoach, 0, streamedFile, false);
+            JsonCanoeCoachFile.read(streamedFile).get().toModelType();
+        });
+        report("%d students, save and load: via string %.2f ms %.1f MB, streamed %.2f ms %.1f MB",
+                STUDENTS, toMillis(viaString[0]), viaString[1] / 1e6, toMillis(streamed[0]),
+                streamed[1] / 1e6);
+
+        assertTrue(streamed[1] < viaString[1]);
+    }
+
+    /**
+     * Returns the least time taken and bytes allocated by {@code task} over {@code RUNS} runs.
+     */
+    private static long[] leastTimeAndBytes(BenchmarkUtil.Task task) {
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < RUNS; i++) {
+            long startBytes = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            run(task);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, THREADS.getThreadAllocatedBytes(threadId) - startBytes);
+        }
+        return new long[] {bestNanos, bestBytes};
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.canoe.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.canoe.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.util.JsonUtil;
+import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.testutil.TypicalStudents;
+import seedu.canoe.testutil.TypicalStudentsInTypicalTrainings;
+
+public class JsonCanoeCoachFileTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableCanoeCoachTest");
+    private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalStudentsCanoeCoach.json");
+    private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentCanoeCoach.json");
+    private static final Path LEGACY_TRAININGS_FILE = TEST_DATA_FOLDER.resolve("legacyTrainingsCanoeCoach.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonCanoeCoachFile.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_typicalStudentsFile_success() throws Exception {
+        CanoeCoach canoeCoachFromFile = JsonCanoeCoachFile.read(TYPICAL_STUDENTS_FILE).get().toModelType();
+        assertEquals(TypicalStudents.getTypicalCanoeCoach(), canoeCoachFromFile);
+    }
+
+    @Test
+    public void read_invalidStudentFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonCanoeCoachFile.read(INVALID_STUDENT_FILE));
+    }
+
+    @Test
+    public void read_legacyTrainingsFile_migratesMembersToIds() throws Exception {
+        CanoeCoach canoeCoachFromFile = JsonCanoeCoachFile.read(LEGACY_TRAININGS_FILE).get().toModelType();
+        assertEquals(Set.of(new Id("1"), new Id("2")), canoeCoachFromFile.getTrainingList().get(0).getStudentIds());
+    }
+
+    @Test
+    public void read_newerVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("newer.json");
+        Files.writeString(filePath, "{\"version\": 3, \"students\": [{\"format\": \"unknown\"}], \"trainings\": []}");
+        assertThrows(DataConversionException.class, () -> JsonCanoeCoachFile.read(filePath));
+    }
+
+    @Test
+    public void read_fileCutShort_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("cut.json");
+        String content = Files.readString(TYPICAL_STUDENTS_FILE);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertThrows(DataConversionException.class, () -> JsonCanoeCoachFile.read(filePath));
+    }
+
+    @Test
+    public void write_compactAndPretty_readBackAlike() throws Exception {
+        CanoeCoach canoeCoach = TypicalStudentsInTypicalTrainings.getTypicalAddressBook();
+        Path compactFile = testFolder.resolve("compact.json");
+        Path prettyFile = testFolder.resolve("pretty.json");
+        JsonCanoeCoachFile.write(canoeCoach, 4, compactFile, true);
+        JsonCanoeCoachFile.write(canoeCoach, 4, prettyFile, false);
+
+        assertEquals(1, Files.readAllLines(compactFile).size());
+        assertEquals(canoeCoach, JsonCanoeCoachFile.read(compactFile).get().toModelType());
+        assertEquals(4, JsonCanoeCoachFile.read(compactFile).get().getJournalGeneration());
+        // the file is in the same format as one written through a JsonSerializableCanoeCoach
+        assertEquals(canoeCoach, JsonUtil.readJsonFile(prettyFile, JsonSerializableCanoeCoach.class).get()
+                .toModelType());
+    }
+}
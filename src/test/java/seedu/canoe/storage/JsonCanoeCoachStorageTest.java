@@ -9,6 +9,7 @@ import static seedu.canoe.testutil.TypicalStudents.IDA;
 import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.canoe.commons.exceptions.DataConversionException;
+import seedu.canoe.commons.util.JsonUtil;
 import seedu.canoe.model.CanoeCoach;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
 
@@ -55,6 +57,24 @@ public class JsonCanoeCoachStorageTest {
         assertThrows(DataConversionException.class, () -> readCanoeCoach("invalidStudentCanoeCoach.json"));
     }
 
+    @Test
+    public void readCanoeCoach_legacyFile_migratesFileOnce() throws Exception {
+        Path legacyFile = Paths.get("src", "test", "data", "JsonSerializableCanoeCoachTest",
+                "legacyTrainingsCanoeCoach.json");
+        Path filePath = testFolder.resolve("legacy.json");
+        Files.copy(legacyFile, filePath);
+        JsonCanoeCoachStorage storage = new JsonCanoeCoachStorage(filePath);
+        ReadOnlyCanoeCoach canoeCoachRead = storage.readCanoeCoach().get();
+
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonSerializableCanoeCoach.class).get().isLegacyFormat());
+        assertEquals(new CanoeCoach(canoeCoachRead), new CanoeCoach(storage.readCanoeCoach().get()));
+    }
+
+    @Test
+    public void readCanoeCoach_largeIdStudentCanoeCoach_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readCanoeCoach("largeIdStudentCanoeCoach.json"));
+    }
+
     @Test
     public void readCanoeCoach_invalidAndValidStudentCanoeCoach_throwDataConversionException() {
         assertThrows(DataConversionException.class, () -> readCanoeCoach("invalidAndValidStudentCanoeCoach.json"));
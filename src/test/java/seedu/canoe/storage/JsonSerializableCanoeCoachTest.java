@@ -1,16 +1,21 @@
 package seedu.canoe.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.canoe.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.canoe.commons.exceptions.IllegalValueException;
 import seedu.canoe.commons.util.JsonUtil;
 import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.student.Id;
+import seedu.canoe.model.training.Training;
 import seedu.canoe.testutil.TypicalStudents;
 
 public class JsonSerializableCanoeCoachTest {
@@ -19,6 +24,9 @@ public class JsonSerializableCanoeCoachTest {
     private static final Path TYPICAL_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("typicalStudentsCanoeCoach.json");
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentCanoeCoach.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentCanoeCoach.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdCanoeCoach.json");
+    private static final Path LEGACY_TRAININGS_FILE = TEST_DATA_FOLDER.resolve("legacyTrainingsCanoeCoach.json");
+    private static final Path UNKNOWN_MEMBER_FILE = TEST_DATA_FOLDER.resolve("unknownMemberCanoeCoach.json");
 
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
@@ -44,4 +52,38 @@ public class JsonSerializableCanoeCoachTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableCanoeCoach dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableCanoeCoach.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableCanoeCoach.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyTrainingsFile_migratesMembersToIds() throws Exception {
+        JsonSerializableCanoeCoach dataFromFile = JsonUtil.readJsonFile(LEGACY_TRAININGS_FILE,
+                JsonSerializableCanoeCoach.class).get();
+        assertTrue(dataFromFile.isLegacyFormat());
+
+        CanoeCoach canoeCoachFromFile = dataFromFile.toModelType();
+        Training training = canoeCoachFromFile.getTrainingList().get(0);
+        assertEquals(Set.of(new Id("1"), new Id("2")), training.getStudentIds());
+
+        // written back in the current format, which reads to the same data
+        String currentFormat = JsonUtil.toJsonString(new JsonSerializableCanoeCoach(canoeCoachFromFile));
+        JsonSerializableCanoeCoach dataInCurrentFormat =
+                JsonUtil.fromJsonString(currentFormat, JsonSerializableCanoeCoach.class);
+        assertFalse(dataInCurrentFormat.isLegacyFormat());
+        assertEquals(training, dataInCurrentFormat.toModelType().getTrainingList().get(0));
+        assertEquals(canoeCoachFromFile, dataInCurrentFormat.toModelType());
+    }
+
+    @Test
+    public void toModelType_unknownMember_throwsIllegalValueException() throws Exception {
+        JsonSerializableCanoeCoach dataFromFile = JsonUtil.readJsonFile(UNKNOWN_MEMBER_FILE,
+                JsonSerializableCanoeCoach.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableCanoeCoach.MESSAGE_UNKNOWN_MEMBER,
+                dataFromFile::toModelType);
+    }
 }
@@ -1,9 +1,13 @@
 package seedu.canoe.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.canoe.testutil.TypicalStudents.ALICE;
 import static seedu.canoe.testutil.TypicalStudents.getTypicalCanoeCoach;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.canoe.commons.core.GuiSettings;
 import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.CanoeCoachFileFormat;
 import seedu.canoe.model.ReadOnlyCanoeCoach;
 import seedu.canoe.model.UserPrefs;
 
@@ -60,6 +65,39 @@ public class StorageManagerTest {
         assertEquals(original, new CanoeCoach(retrieved));
     }
 
+    @Test
+    public void moveCanoeCoach_toBinaryFile_savesBookThenPrefs() throws Exception {
+        CanoeCoach original = getTypicalCanoeCoach();
+        storageManager.saveCanoeCoach(original);
+        UserPrefs movedUserPrefs = new UserPrefs();
+        movedUserPrefs.setCanoeCoachFilePath(getTempFilePath("ab.bin"));
+        movedUserPrefs.setCanoeCoachFileFormat(CanoeCoachFileFormat.BINARY);
+        storageManager.moveCanoeCoach(original, movedUserPrefs);
+
+        assertEquals(getTempFilePath("ab.bin"), storageManager.getCanoeCoachFilePath());
+        assertEquals(movedUserPrefs, storageManager.readUserPrefs().get());
+        ReadOnlyCanoeCoach retrieved = new BinaryCanoeCoachStorage(getTempFilePath("ab.bin")).readCanoeCoach().get();
+        assertEquals(original, new CanoeCoach(retrieved));
+        // the data file saved to before is kept
+        assertTrue(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void moveCanoeCoach_journaledStorage_oldStorageClosed() throws Exception {
+        JournaledCanoeCoachStorage oldStorage = new JournaledCanoeCoachStorage(getTempFilePath("ab.json"));
+        storageManager = new StorageManager(oldStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        CanoeCoach canoeCoach = getTypicalCanoeCoach();
+        storageManager.saveCanoeCoach(canoeCoach);
+        UserPrefs movedUserPrefs = new UserPrefs();
+        movedUserPrefs.setCanoeCoachFilePath(getTempFilePath("ab.bin"));
+        movedUserPrefs.setCanoeCoachFileFormat(CanoeCoachFileFormat.BINARY);
+        storageManager.moveCanoeCoach(canoeCoach, movedUserPrefs);
+
+        // the old storage no longer collects the changes made to the book
+        canoeCoach.removeStudent(ALICE);
+        assertFalse(oldStorage.hasPendingChanges());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getCanoeCoachFilePath());
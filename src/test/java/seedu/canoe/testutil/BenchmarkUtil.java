@@ -0,0 +1,64 @@
+package seedu.canoe.testutil;
+
+/**
+ * Times the tasks of benchmarks and reports their results.
+ */
+public class BenchmarkUtil {
+
+    /** Number of times each task is timed, of which the fastest run counts. */
+    public static final int RUNS = 5;
+
+    /**
+     * Returns the least time in nanoseconds taken by {@code task} over {@code RUNS} runs.
+     */
+    public static long bestOf(Task task) {
+        return bestOf(task, () -> {});
+    }
+
+    /**
+     * Returns the least time in nanoseconds taken by {@code task} over {@code RUNS} runs, running
+     * {@code afterEach} after each run without timing it.
+     */
+    public static long bestOf(Task task, Task afterEach) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            run(task);
+            best = Math.min(best, System.nanoTime() - start);
+            run(afterEach);
+        }
+        return best;
+    }
+
+    /**
+     * Runs {@code task}, failing the benchmark if it throws.
+     */
+    public static void run(Task task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Prints a line of results, formatted from {@code format} and {@code args} as by {@link String#format}.
+     */
+    public static void report(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * A task to time, which may throw.
+     */
+    public interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.canoe.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.canoe.model.student.Student;
+
+/**
+ * Generates large rosters of distinct {@code Student} objects for benchmarks.
+ */
+public class RosterGenerator {
+
+    /**
+     * Returns {@code count} students with distinct ids, names, phones and emails.
+     * Ids run from 1 to {@code count}.
+     */
+    public static List<Student> generateStudents(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            students.add(new StudentBuilder()
+                    .withId(String.valueOf(i))
+                    .withName("Paddler " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("paddler" + i + "@example.com")
+                    .withAcademicYear(String.valueOf(i % 4 + 1))
+                    .build());
+        }
+        return students;
+    }
+}
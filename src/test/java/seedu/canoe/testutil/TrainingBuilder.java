@@ -5,23 +5,23 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Set;
 
-import seedu.canoe.model.student.Student;
+import seedu.canoe.model.student.Id;
 import seedu.canoe.model.training.Training;
 
 public class TrainingBuilder {
-    public static final Set<Student> DEFAULT_STUDENTS = new HashSet<>();
+    public static final Set<Id> DEFAULT_STUDENT_IDS = new HashSet<>();
     private static DateTimeFormatter formatDateTime = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
     public static final LocalDateTime DEFAULT_DATETIME = LocalDateTime.parse("2020-10-10 2000", formatDateTime);
 
     private LocalDateTime dateTime;
-    private Set<Student> students;
+    private Set<Id> studentIds;
 
     /**
      * Creates a {@code TrainingBuilder} with the default details.
      */
     public TrainingBuilder() {
         dateTime = DEFAULT_DATETIME;
-        students = DEFAULT_STUDENTS;
+        studentIds = DEFAULT_STUDENT_IDS;
     }
 
     /**
@@ -29,7 +29,7 @@ public class TrainingBuilder {
      */
     public TrainingBuilder(Training trainingToCopy) {
         dateTime = trainingToCopy.getDateTime();
-        students = trainingToCopy.getStudents();
+        studentIds = trainingToCopy.getStudentIds();
     }
 
     public DateTimeFormatter getFormatter() {
@@ -45,10 +45,10 @@ public class TrainingBuilder {
     }
 
     /**
-     * Sets the {@code students} of the {@code Training} that we are building.
+     * Sets the {@code studentIds} of the {@code Training} that we are building.
      */
-    public TrainingBuilder withStudents(Set<Student> students) {
-        this.students = students;
+    public TrainingBuilder withStudentIds(Set<Id> studentIds) {
+        this.studentIds = studentIds;
         return this;
     }
 
@@ -57,6 +57,6 @@ public class TrainingBuilder {
      * @return Training
      */
     public Training build() {
-        return new Training(dateTime, students);
+        return new Training(dateTime, studentIds);
     }
 }
@@ -73,7 +73,7 @@ public class TypicalStudents {
     // Manually added
     public static final Student HOON = new StudentBuilder().withName("Hoon Meier")
             .withPhone("8482424")
-            .withId("7")
+            .withId("11")
             .withAcademicYear("1")
             .withEmail("stefan@example.com").build();
     public static final Student IDA = new StudentBuilder().withName("Ida Mueller")
@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import seedu.canoe.model.CanoeCoach;
+import seedu.canoe.model.student.Attendance;
 import seedu.canoe.model.student.Student;
 import seedu.canoe.model.training.Training;
 
@@ -62,7 +63,8 @@ public class TypicalStudentsInTypicalTrainings {
             .withEmail("jock@example.com").build();
 
     static {
-        FUTURE_TRAINING.addStudent(JONAS);
+        FUTURE_TRAINING.addStudent(JONAS.getId());
+        JONAS.addAttendance(new Attendance(FUTURE_TRAINING.getDateTime()));
     }
 
     private TypicalStudentsInTypicalTrainings() {} // prevents instantiation